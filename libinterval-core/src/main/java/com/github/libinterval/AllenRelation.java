@@ -0,0 +1,162 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+import java.util.List;
+
+import static com.github.libinterval.ClosedRange.compareLowerEndpoints;
+import static com.github.libinterval.ClosedRange.compareUpperEndpoints;
+import static com.github.libinterval.IntervalUtils.compare;
+
+/**
+ * Relations of Allen's interval algebra between two intervals with inclusive endpoints, e.g. [2018-01-01..2018-01-05]
+ * {@link #MEETS} [2018-01-06..2018-01-10] and {@link #OVERLAPS} [2018-01-05..2018-01-10]. Exactly one relation holds
+ * for any two non empty intervals. An interval with gaps is related by its span, i.e. by its lowest and highest endpoints.
+ * The relations are computed by comparisons of the endpoints only.
+ *
+ * @since 18-Oct-2026
+ */
+public enum AllenRelation {
+    /**
+     * The first interval ends before the second one starts and they aren't adjacent.
+     */
+    BEFORE,
+    /**
+     * The first interval ends just before the second one starts, i.e. the next value after its upper endpoint
+     * is the lower endpoint of the second interval.
+     */
+    MEETS,
+    /**
+     * The first interval starts before the second one and ends inside it.
+     */
+    OVERLAPS,
+    /**
+     * The intervals start together and the first one ends earlier.
+     */
+    STARTS,
+    /**
+     * The first interval starts later and ends earlier than the second one.
+     */
+    DURING,
+    /**
+     * The intervals end together and the first one starts later.
+     */
+    FINISHES,
+    EQUALS,
+    FINISHED_BY,
+    CONTAINS,
+    STARTED_BY,
+    OVERLAPPED_BY,
+    MET_BY,
+    AFTER;
+
+    private static final AllenRelation[] VALUES = values();
+
+    /**
+     * @return relation of the second interval to the first one, e.g. {@link #AFTER} for {@link #BEFORE}.
+     */
+    public AllenRelation inverse() {
+        return VALUES[VALUES.length - 1 - ordinal()];
+    }
+
+    /**
+     * Adjacency of the intervals is checked with the precision of the endpoints, e.g. days for {@link java.time.LocalDate}.
+     *
+     * @throws IllegalStateException if any of the intervals is empty.
+     */
+    public static <T extends Comparable<?> & Temporal> AllenRelation of(Interval<T> first, Interval<T> second) {
+        return of(span(first), span(second), DefaultComparableTemporalDiscreteDomain.instance());
+    }
+
+    /**
+     * @param temporalUnit - unit used to check adjacency of the intervals.
+     * @throws IllegalStateException if any of the intervals is empty.
+     */
+    public static <T extends Comparable<?> & Temporal> AllenRelation of(Interval<T> first,
+                                                                        Interval<T> second,
+                                                                        TemporalUnit temporalUnit) {
+        return of(span(first), span(second), new TemporalUnitDiscreteDomain<>(temporalUnit));
+    }
+
+    /**
+     * @return matrix where [i][j] is the relation of the i-th row interval to the j-th column interval.
+     * @throws IllegalStateException if any of the intervals is empty.
+     */
+    public static <T extends Comparable<?> & Temporal> AllenRelation[][] relationMatrix(List<Interval<T>> rows,
+                                                                                       List<Interval<T>> columns) {
+        return relationMatrix(rows, columns, DefaultComparableTemporalDiscreteDomain.instance());
+    }
+
+    /**
+     * @param temporalUnit - unit used to check adjacency of the intervals.
+     * @return matrix where [i][j] is the relation of the i-th row interval to the j-th column interval.
+     * @throws IllegalStateException if any of the intervals is empty.
+     */
+    public static <T extends Comparable<?> & Temporal> AllenRelation[][] relationMatrix(List<Interval<T>> rows,
+                                                                                       List<Interval<T>> columns,
+                                                                                       TemporalUnit temporalUnit) {
+        return relationMatrix(rows, columns, new TemporalUnitDiscreteDomain<>(temporalUnit));
+    }
+
+    private static <T extends Comparable<?> & Temporal> AllenRelation[][] relationMatrix(List<Interval<T>> rows,
+                                                                                        List<Interval<T>> columns,
+                                                                                        ComparableTemporalDiscreteDomain<T> domain) {
+        @SuppressWarnings("unchecked")
+        ClosedRange<T>[] columnSpans = new ClosedRange[columns.size()];
+        for (int j = 0; j < columnSpans.length; j++) {
+            columnSpans[j] = span(columns.get(j));
+        }
+
+        AllenRelation[][] matrix = new AllenRelation[rows.size()][];
+        for (int i = 0; i < matrix.length; i++) {
+            ClosedRange<T> rowSpan = span(rows.get(i));
+            matrix[i] = new AllenRelation[columnSpans.length];
+            for (int j = 0; j < columnSpans.length; j++) {
+                matrix[i][j] = of(rowSpan, columnSpans[j], domain);
+            }
+        }
+        return matrix;
+    }
+
+    static <T extends Comparable<?> & Temporal> AllenRelation of(ClosedRange<T> first,
+                                                                 ClosedRange<T> second,
+                                                                 ComparableTemporalDiscreteDomain<T> domain) {
+        if (endsBefore(first, second)) {
+            return compare(domain.next(first.upperEndpoint()), second.lowerEndpoint()) == 0 ? MEETS : BEFORE;
+        }
+        if (endsBefore(second, first)) {
+            return compare(domain.next(second.upperEndpoint()), first.lowerEndpoint()) == 0 ? MET_BY : AFTER;
+        }
+
+        int lowerComparison = Integer.signum(compareLowerEndpoints(first.lower(), second.lower()));
+        int upperComparison = Integer.signum(compareUpperEndpoints(first.upper(), second.upper()));
+        switch (lowerComparison * 3 + upperComparison) {
+            case -4:
+                return OVERLAPS;
+            case -3:
+                return FINISHED_BY;
+            case -2:
+                return CONTAINS;
+            case -1:
+                return STARTS;
+            case 0:
+                return EQUALS;
+            case 1:
+                return STARTED_BY;
+            case 2:
+                return DURING;
+            case 3:
+                return FINISHES;
+            default:
+                return OVERLAPPED_BY;
+        }
+    }
+
+    private static <T extends Comparable<?> & Temporal> boolean endsBefore(ClosedRange<T> first, ClosedRange<T> second) {
+        return first.hasUpperBound() && second.hasLowerBound() && compare(first.upperEndpoint(), second.lowerEndpoint()) < 0;
+    }
+
+    private static <T extends Comparable<?> & Temporal> ClosedRange<T> span(Interval<T> interval) {
+        return IntervalUtils.rangesOf(interval).span();
+    }
+}
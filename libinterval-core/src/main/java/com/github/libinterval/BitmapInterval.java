@@ -0,0 +1,250 @@
+package com.github.libinterval;
+
+import com.google.common.collect.ImmutableRangeSet;
+
+import java.time.LocalDate;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+
+/**
+ * Interval of days which is stored as {@link DayBitmap}, so union, intersection, difference and count of days
+ * are bitwise operations. It is used instead of {@link IntervalImpl} for bounded intervals of {@link LocalDate}
+ * which have many sub intervals close to each other, e.g. calendars of working days. The minimal number of
+ * sub intervals is set by system property "libinterval.bitmap.threshold", default is 128.
+ * Operations which aren't bitwise are delegated to {@link IntervalImpl} created on demand.
+ *
+ * @since 18-Oct-2026
+ */
+final class BitmapInterval implements Interval<LocalDate> {
+    static final int FRAGMENTATION_THRESHOLD = Integer.getInteger("libinterval.bitmap.threshold", 128);
+    /**
+     * Maximal average number of days per sub interval, so the bitmap isn't much bigger than the ranges.
+     */
+    private static final int MAX_DAYS_PER_RANGE = 64;
+
+    private final DayBitmap bitmap;
+    private volatile IntervalImpl<LocalDate> materialized;
+
+    private BitmapInterval(DayBitmap bitmap) {
+        this.bitmap = bitmap;
+    }
+
+    /**
+     * @return true if the ranges are days which are worth to be stored as bitmap.
+     */
+    static <T extends Comparable<?> & Temporal> boolean isFragmented(ClosedRangeSet<T> rangeSet) {
+        if (rangeSet.size() <= FRAGMENTATION_THRESHOLD) {
+            return false;
+        }
+        ClosedRange<T> span = rangeSet.span();
+        if (!span.hasLowerBound() || !span.hasUpperBound() || !(span.lowerEndpoint() instanceof LocalDate)) {
+            return false;
+        }
+        long days = DAYS.between(span.lowerEndpoint(), span.upperEndpoint()) + 1;
+        return days / rangeSet.size() <= MAX_DAYS_PER_RANGE;
+    }
+
+    static BitmapInterval of(ClosedRangeSet<LocalDate> rangeSet) {
+        BitmapInterval interval = new BitmapInterval(DayBitmap.of(rangeSet, Long.MIN_VALUE, Long.MAX_VALUE));
+        interval.materialized = new IntervalImpl<>(rangeSet);
+        return interval;
+    }
+
+    /**
+     * @return union if at least one of the intervals is bitmap and all of them are bounded, otherwise null.
+     * The union is null also if it can't be fragmented, so a wide range doesn't turn into a huge bitmap.
+     */
+    static Interval<LocalDate> union(List<Interval<LocalDate>> intervals) {
+        if (findBitmap(intervals) == null) {
+            return null;
+        }
+        List<ClosedRangeSet<LocalDate>> rangeSets = new ArrayList<>(intervals.size());
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        long rangeCount = 0;
+        for (Interval<LocalDate> interval : intervals) {
+            ClosedRangeSet<LocalDate> rangeSet = IntervalUtils.rangesOf(interval);
+            rangeSets.add(rangeSet);
+            if (rangeSet.isEmpty()) {
+                continue;
+            }
+            ClosedRange<LocalDate> span = rangeSet.span();
+            if (!span.hasLowerBound() || !span.hasUpperBound()) {
+                return null;
+            }
+            first = Math.min(first, span.lowerEndpoint().toEpochDay());
+            last = Math.max(last, span.upperEndpoint().toEpochDay());
+            rangeCount += rangeSet.size();
+        }
+        // the union has at most rangeCount ranges, so it is too sparse for a bitmap if the bound is exceeded
+        if (rangeCount == 0 || (last - first + 1) / rangeCount > MAX_DAYS_PER_RANGE) {
+            return null;
+        }
+        DayBitmap result = null;
+        for (int i = 0; i < intervals.size(); i++) {
+            Interval<LocalDate> interval = intervals.get(i);
+            DayBitmap bitmap = interval instanceof BitmapInterval
+                    ? ((BitmapInterval) interval).bitmap
+                    : DayBitmap.of(rangeSets.get(i), Long.MIN_VALUE, Long.MAX_VALUE);
+            result = result == null ? bitmap : result.or(bitmap);
+        }
+        return newInterval(result);
+    }
+
+    /**
+     * @return intersection if at least one of the intervals is bitmap, otherwise null.
+     */
+    static Interval<LocalDate> intersection(List<Interval<LocalDate>> intervals) {
+        BitmapInterval base = findBitmap(intervals);
+        if (base == null) {
+            return null;
+        }
+        DayBitmap result = base.bitmap;
+        for (Interval<LocalDate> interval : intervals) {
+            if (interval != base) {
+                result = result.and(base.toBitmap(interval));
+            }
+        }
+        return newInterval(result);
+    }
+
+    /**
+     * @return bitmap interval if the days are fragmented, otherwise ranges.
+     */
+    private static Interval<LocalDate> newInterval(DayBitmap bitmap) {
+        ClosedRangeSet<LocalDate> rangeSet = bitmap.toRanges();
+        if (!isFragmented(rangeSet)) {
+            return new IntervalImpl<>(rangeSet);
+        }
+        BitmapInterval interval = new BitmapInterval(bitmap);
+        interval.materialized = new IntervalImpl<>(rangeSet);
+        return interval;
+    }
+
+    private static BitmapInterval findBitmap(List<Interval<LocalDate>> intervals) {
+        for (Interval<LocalDate> interval : intervals) {
+            if (interval instanceof BitmapInterval) {
+                return (BitmapInterval) interval;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Interval<LocalDate> difference(Interval<LocalDate> interval) {
+        return newInterval(bitmap.andNot(toBitmap(interval)));
+    }
+
+    @Override
+    public Interval<LocalDate> difference(Interval<LocalDate> interval, TemporalUnit temporalUnit) {
+        return temporalUnit == DAYS ? difference(interval) : materialize().difference(interval, temporalUnit);
+    }
+
+    /**
+     * @return bitmap of the interval days which are in the span of this interval.
+     */
+    private DayBitmap toBitmap(Interval<LocalDate> interval) {
+        if (interval instanceof BitmapInterval) {
+            return ((BitmapInterval) interval).bitmap;
+        }
+        if (bitmap.isEmpty()) {
+            return bitmap;
+        }
+        return DayBitmap.of(IntervalUtils.rangesOf(interval), bitmap.first(), bitmap.last());
+    }
+
+    @Override
+    public boolean contains(LocalDate day) {
+        return bitmap.contains(day.toEpochDay());
+    }
+
+    @Override
+    public long count(TemporalUnit temporalUnit) {
+        return temporalUnit == DAYS ? bitmap.cardinality() : materialize().count(temporalUnit);
+    }
+
+    @Override
+    public boolean isPresent() {
+        return !bitmap.isEmpty();
+    }
+
+    @Override
+    public Optional<Interval<LocalDate>> getNotNoneInterval() {
+        return isPresent() ? Optional.of(this) : Optional.empty();
+    }
+
+    @Override
+    public Optional<LocalDate> findLowerEndpoint() {
+        return materialize().findLowerEndpoint();
+    }
+
+    @Override
+    public Optional<LocalDate> findUpperEndpoint() {
+        return materialize().findUpperEndpoint();
+    }
+
+    @Override
+    public boolean hasLowerBound() {
+        return materialize().hasLowerBound();
+    }
+
+    @Override
+    public boolean hasUpperBound() {
+        return materialize().hasUpperBound();
+    }
+
+    @Override
+    public Set<Interval<LocalDate>> getSubIntervals() {
+        return materialize().getSubIntervals();
+    }
+
+    @Override
+    public <R extends Comparable<?> & Temporal> Interval<R> map(Function<LocalDate, R> lowerEndpointMapper,
+                                                                Function<LocalDate, R> upperEndpointMapper) {
+        return materialize().map(lowerEndpointMapper, upperEndpointMapper);
+    }
+
+    @Override
+    public <R extends Comparable<?> & Temporal> Stream<R> iterate(TemporalUnit temporalUnit,
+                                                                  Function<LocalDate, R> lowerEndpointMapper,
+                                                                  Function<LocalDate, R> upperEndpointMapper) {
+        return materialize().iterate(temporalUnit, lowerEndpointMapper, upperEndpointMapper);
+    }
+
+    @Override
+    public <R> Stream<R> iterate(BiFunction<LocalDate, LocalDate, Stream<R>> streamGenerator) {
+        return materialize().iterate(streamGenerator);
+    }
+
+    @Override
+    public ImmutableRangeSet<LocalDate> getRangeSet() {
+        return materialize().getRangeSet();
+    }
+
+    ClosedRangeSet<LocalDate> closedRangeSet() {
+        return materialize().closedRangeSet();
+    }
+
+    @Override
+    public String toString() {
+        return materialize().toString();
+    }
+
+    private IntervalImpl<LocalDate> materialize() {
+        IntervalImpl<LocalDate> result = materialized;
+        if (result == null) {
+            result = new IntervalImpl<>(bitmap.toRanges());
+            materialized = result;
+        }
+        return result;
+    }
+}
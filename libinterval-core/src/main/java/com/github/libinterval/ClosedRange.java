@@ -0,0 +1,161 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.util.Objects;
+
+import static com.github.libinterval.IntervalUtils.compare;
+
+/**
+ * Range between two inclusive endpoints. Null lower endpoint means -∞, null upper endpoint means +∞.
+ *
+ * @since 18-Oct-2026
+ */
+final class ClosedRange<T extends Comparable<?> & Temporal> {
+    private static final ClosedRange<?> ALL = new ClosedRange<>(null, null);
+
+    private final T lower;
+    private final T upper;
+
+    private ClosedRange(T lower, T upper) {
+        this.lower = EndpointPool.canonical(lower);
+        this.upper = EndpointPool.canonical(upper);
+    }
+
+    /**
+     * @param lower - nullable lower endpoint. If null than -∞.
+     * @param upper - nullable upper endpoint. If null than +∞.
+     */
+    static <T extends Comparable<?> & Temporal> ClosedRange<T> of(T lower, T upper) {
+        if (lower != null && upper != null && compare(lower, upper) > 0) {
+            throw new IllegalArgumentException("Invalid range: " + toString(lower, upper));
+        }
+        return lower == null && upper == null ? all() : new ClosedRange<>(lower, upper);
+    }
+
+    static <T extends Comparable<?> & Temporal> ClosedRange<T> singleton(T value) {
+        return new ClosedRange<>(Objects.requireNonNull(value), value);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends Comparable<?> & Temporal> ClosedRange<T> all() {
+        return (ClosedRange<T>) ALL;
+    }
+
+    boolean hasLowerBound() {
+        return lower != null;
+    }
+
+    boolean hasUpperBound() {
+        return upper != null;
+    }
+
+    T lowerEndpoint() {
+        if (lower == null) {
+            throw new IllegalStateException("The range " + this + " doesn't have lower bound.");
+        }
+        return lower;
+    }
+
+    T upperEndpoint() {
+        if (upper == null) {
+            throw new IllegalStateException("The range " + this + " doesn't have upper bound.");
+        }
+        return upper;
+    }
+
+    /**
+     * @return nullable lower endpoint.
+     */
+    T lower() {
+        return lower;
+    }
+
+    /**
+     * @return nullable upper endpoint.
+     */
+    T upper() {
+        return upper;
+    }
+
+    boolean contains(T value) {
+        return (lower == null || compare(lower, value) <= 0) && (upper == null || compare(value, upper) <= 0);
+    }
+
+    /**
+     * @return true if the ranges have at least one common value.
+     */
+    boolean isConnected(ClosedRange<T> other) {
+        return startsNotAfter(this.lower, other.upper) && startsNotAfter(other.lower, this.upper);
+    }
+
+    /**
+     * @return intersection of connected ranges.
+     */
+    ClosedRange<T> intersection(ClosedRange<T> other) {
+        T newLower = compareLowerEndpoints(lower, other.lower) >= 0 ? lower : other.lower;
+        T newUpper = compareUpperEndpoints(upper, other.upper) <= 0 ? upper : other.upper;
+        return of(newLower, newUpper);
+    }
+
+    /**
+     * @return minimal range which encloses both ranges.
+     */
+    ClosedRange<T> span(ClosedRange<T> other) {
+        T newLower = compareLowerEndpoints(lower, other.lower) <= 0 ? lower : other.lower;
+        T newUpper = compareUpperEndpoints(upper, other.upper) >= 0 ? upper : other.upper;
+        return newLower == lower && newUpper == upper ? this : of(newLower, newUpper);
+    }
+
+    /**
+     * Compares nullable lower endpoints, null is -∞.
+     */
+    static <T extends Comparable<?>> int compareLowerEndpoints(T first, T second) {
+        if (first == null || second == null) {
+            return Boolean.compare(first != null, second != null);
+        }
+        return compare(first, second);
+    }
+
+    /**
+     * Compares nullable upper endpoints, null is +∞.
+     */
+    static <T extends Comparable<?>> int compareUpperEndpoints(T first, T second) {
+        if (first == null || second == null) {
+            return Boolean.compare(first == null, second == null);
+        }
+        return compare(first, second);
+    }
+
+    /**
+     * @return true if nullable lower endpoint is not after nullable upper endpoint.
+     */
+    static <T extends Comparable<?>> boolean startsNotAfter(T lower, T upper) {
+        return lower == null || upper == null || compare(lower, upper) <= 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ClosedRange)) {
+            return false;
+        }
+        ClosedRange<?> that = (ClosedRange<?>) o;
+        return Objects.equals(lower, that.lower) && Objects.equals(upper, that.upper);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(lower) + Objects.hashCode(upper);
+    }
+
+    @Override
+    public String toString() {
+        return toString(lower, upper);
+    }
+
+    private static String toString(Object lower, Object upper) {
+        return (lower == null ? "(-∞" : "[" + lower) + ".." + (upper == null ? "+∞)" : upper + "]");
+    }
+}
@@ -0,0 +1,326 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static com.github.libinterval.ClosedRange.compareLowerEndpoints;
+import static com.github.libinterval.ClosedRange.compareUpperEndpoints;
+import static com.github.libinterval.IntervalUtils.compare;
+
+/**
+ * Immutable set of disjoint closed ranges sorted by lower endpoint. Ranges which have a common value are
+ * always merged, ranges which are only adjacent in a discrete domain are kept separately. Set operations
+ * are linear merges of the sorted ranges.
+ *
+ * @since 18-Oct-2026
+ */
+final class ClosedRangeSet<T extends Comparable<?> & Temporal> {
+    @SuppressWarnings("unchecked")
+    private static final ClosedRangeSet<?> EMPTY = new ClosedRangeSet(new ClosedRange[0]);
+
+    private final ClosedRange<T>[] ranges;
+    private volatile CountIndex<T> countIndex;
+    /**
+     * Lazily computed hash code, 0 if it isn't computed yet. Racing threads compute the same value.
+     */
+    private int hash;
+
+    private ClosedRangeSet(ClosedRange<T>[] ranges) {
+        this.ranges = ranges;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends Comparable<?> & Temporal> ClosedRangeSet<T> of() {
+        return (ClosedRangeSet<T>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends Comparable<?> & Temporal> ClosedRangeSet<T> of(ClosedRange<T> range) {
+        return new ClosedRangeSet<>(new ClosedRange[]{range});
+    }
+
+    /**
+     * @return union of the ranges in any order.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Comparable<?> & Temporal> ClosedRangeSet<T> unionOf(Collection<ClosedRange<T>> ranges) {
+        ClosedRange<T>[] sorted = ranges.toArray(new ClosedRange[0]);
+        Arrays.sort(sorted, (first, second) -> compareLowerEndpoints(first.lower(), second.lower()));
+        return new ClosedRangeSet<>(coalesce(sorted, sorted.length));
+    }
+
+    /**
+     * @param ranges - disjoint ranges sorted by lower endpoint, they aren't checked.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Comparable<?> & Temporal> ClosedRangeSet<T> copyOfSorted(List<ClosedRange<T>> ranges) {
+        return ranges.isEmpty() ? of() : new ClosedRangeSet<>(ranges.toArray(new ClosedRange[0]));
+    }
+
+    int size() {
+        return ranges.length;
+    }
+
+    boolean isEmpty() {
+        return ranges.length == 0;
+    }
+
+    ClosedRange<T> get(int index) {
+        return ranges[index];
+    }
+
+    List<ClosedRange<T>> asList() {
+        return Collections.unmodifiableList(Arrays.asList(ranges));
+    }
+
+    /**
+     * @return minimal range which encloses all the ranges.
+     */
+    ClosedRange<T> span() {
+        if (ranges.length == 0) {
+            throw new IllegalStateException("The interval is empty.");
+        }
+        return ranges.length == 1 ? ranges[0] : ClosedRange.of(ranges[0].lower(), ranges[ranges.length - 1].upper());
+    }
+
+    boolean contains(T value) {
+        int index = floorIndex(value);
+        return index >= 0 && ranges[index].contains(value);
+    }
+
+    /**
+     * @return index of the last range which lower endpoint is not greater than the value or -1.
+     */
+    int floorIndex(T value) {
+        int low = 0;
+        int high = ranges.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (ClosedRange.startsNotAfter(ranges[middle].lower(), value)) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    long count(TemporalUnit temporalUnit) {
+        long count = 0;
+        for (ClosedRange<T> range : ranges) {
+            count += temporalUnit.between(range.lowerEndpoint(), range.upperEndpoint()) + 1;
+        }
+        return count;
+    }
+
+    /**
+     * @return lazily built index of counts, the index of the last used unit is kept.
+     */
+    CountIndex<T> countIndex(TemporalUnit temporalUnit) {
+        CountIndex<T> index = countIndex;
+        if (index == null || !index.temporalUnit().equals(temporalUnit)) {
+            index = new CountIndex<>(this, temporalUnit);
+            countIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * @see Interval#partition(int, TemporalUnit)
+     */
+    List<ClosedRangeSet<T>> partition(int n, TemporalUnit temporalUnit) {
+        if (n < 1) {
+            throw new IllegalArgumentException("The number of parts must be positive: " + n + ".");
+        }
+
+        long[] prefixCounts = new long[ranges.length + 1];
+        for (int i = 0; i < ranges.length; i++) {
+            ClosedRange<T> range = ranges[i];
+            if (!range.hasLowerBound()) {
+                throw IntervalUtils.newInvalidLowerBoundException(new IntervalImpl<>(this));
+            }
+            if (!range.hasUpperBound()) {
+                throw IntervalUtils.newInvalidUpperBoundException(new IntervalImpl<>(this));
+            }
+            prefixCounts[i + 1] = prefixCounts[i] + temporalUnit.between(range.lowerEndpoint(), range.upperEndpoint()) + 1;
+        }
+
+        long total = prefixCounts[ranges.length];
+        if (total == 0) {
+            return Collections.nCopies(n, this);
+        }
+
+        List<T> cutPoints = new ArrayList<>(n - 1);
+        for (int i = 1; i < n; i++) {
+            // floor(total * i / n) without overflow
+            long index = total / n * i + total % n * i / n;
+            cutPoints.add(findNth(prefixCounts, index, temporalUnit));
+        }
+
+        RangeConverter<T> rangeConverter = RangeConverter.defaultInstance();
+        List<ClosedRangeSet<T>> parts = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            ClosedRange<T> window = ClosedRange.of(i == 0 ? null : cutPoints.get(i - 1), null);
+            if (i < n - 1) {
+                window = rangeConverter.before(window, cutPoints.get(i));
+            }
+            parts.add(window == null ? of() : intersection(window));
+        }
+        return parts;
+    }
+
+    @SuppressWarnings("unchecked")
+    ClosedRangeSet<T> union(ClosedRangeSet<T> other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (this.isEmpty()) {
+            return other;
+        }
+
+        ClosedRange<T>[] merged = new ClosedRange[ranges.length + other.ranges.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < ranges.length || j < other.ranges.length) {
+            if (j == other.ranges.length
+                    || i < ranges.length && compareLowerEndpoints(ranges[i].lower(), other.ranges[j].lower()) <= 0) {
+                merged[k++] = ranges[i++];
+            } else {
+                merged[k++] = other.ranges[j++];
+            }
+        }
+        return new ClosedRangeSet<>(coalesce(merged, k));
+    }
+
+    ClosedRangeSet<T> intersection(ClosedRangeSet<T> other) {
+        List<ClosedRange<T>> result = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < ranges.length && j < other.ranges.length) {
+            ClosedRange<T> first = ranges[i];
+            ClosedRange<T> second = other.ranges[j];
+            if (first.isConnected(second)) {
+                result.add(first.intersection(second));
+            }
+
+            int upperComparison = compareUpperEndpoints(first.upper(), second.upper());
+            if (upperComparison <= 0) {
+                i++;
+            }
+            if (upperComparison >= 0) {
+                j++;
+            }
+        }
+        return copyOfSorted(result);
+    }
+
+    ClosedRangeSet<T> intersection(ClosedRange<T> window) {
+        return intersection(of(window));
+    }
+
+    /**
+     * @return values of this set which aren't in the other set. Open endpoints of the result
+     * are converted to closed ones by the range converter.
+     */
+    ClosedRangeSet<T> difference(ClosedRangeSet<T> other, RangeConverter<T> rangeConverter) {
+        if (other.isEmpty() || this.isEmpty()) {
+            return this;
+        }
+
+        List<ClosedRange<T>> result = new ArrayList<>();
+        int j = 0;
+        for (ClosedRange<T> range : ranges) {
+            ClosedRange<T> rest = range;
+            while (j < other.ranges.length && other.ranges[j].hasUpperBound() && rest.hasLowerBound()
+                    && compare(other.ranges[j].upperEndpoint(), rest.lowerEndpoint()) < 0) {
+                j++;
+            }
+            while (rest != null && j < other.ranges.length && other.ranges[j].isConnected(rest)) {
+                ClosedRange<T> subtrahend = other.ranges[j];
+                if (subtrahend.hasLowerBound()) {
+                    ClosedRange<T> before = rangeConverter.before(rest, subtrahend.lowerEndpoint());
+                    if (before != null) {
+                        result.add(before);
+                    }
+                }
+
+                if (compareUpperEndpoints(subtrahend.upper(), rest.upper()) >= 0) {
+                    // the subtrahend can also cut the next ranges
+                    rest = null;
+                } else {
+                    rest = rangeConverter.after(rest, subtrahend.upperEndpoint());
+                    j++;
+                }
+            }
+            if (rest != null) {
+                result.add(rest);
+            }
+        }
+        return copyOfSorted(result);
+    }
+
+    /**
+     * @return unit of the ranges at the zero-based index, prefixCounts[i] is the number of units before range i.
+     */
+    @SuppressWarnings("unchecked")
+    private T findNth(long[] prefixCounts, long index, TemporalUnit temporalUnit) {
+        int position = Arrays.binarySearch(prefixCounts, index);
+        int rangeIndex = position >= 0 ? position : -position - 2;
+        return (T) ranges[rangeIndex].lowerEndpoint().plus(index - prefixCounts[rangeIndex], temporalUnit);
+    }
+
+    /**
+     * Merges connected ranges of an array sorted by lower endpoint in place.
+     */
+    private static <T extends Comparable<?> & Temporal> ClosedRange<T>[] coalesce(ClosedRange<T>[] sorted, int length) {
+        int k = 0;
+        for (int i = 0; i < length; i++) {
+            if (k > 0 && sorted[k - 1].isConnected(sorted[i])) {
+                sorted[k - 1] = sorted[k - 1].span(sorted[i]);
+            } else {
+                sorted[k++] = sorted[i];
+            }
+        }
+        return k == sorted.length ? sorted : Arrays.copyOf(sorted, k);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ClosedRangeSet)) {
+            return false;
+        }
+        ClosedRangeSet<?> other = (ClosedRangeSet<?>) o;
+        return hashCode() == other.hashCode() && Arrays.equals(ranges, other.ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Arrays.hashCode(ranges);
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < ranges.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(ranges[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+
+/**
+ * Discrete domain of temporal values, used to convert exclusive endpoints to inclusive ones.
+ *
+ * @since 18-Oct-2026
+ */
+interface ComparableTemporalDiscreteDomain<T extends Comparable<?> & Temporal> {
+
+    T next(T value);
+
+    T previous(T value);
+
+    long distance(T start, T end);
+}
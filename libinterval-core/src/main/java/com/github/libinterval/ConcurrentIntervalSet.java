@@ -0,0 +1,337 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.github.libinterval.ClosedRange.compareLowerEndpoints;
+
+/**
+ * Thread-safe mutable set of time ranges, e.g. a resource calendar which is updated by several threads.
+ * The ranges are stored in a skip list sorted by lower endpoint, so an update touches only the neighbouring
+ * ranges instead of copying the whole set. Every range has its own lock, and an update locks only the ranges
+ * which it touches and the range before them in the order of the skip list, so updates of different parts
+ * of the set run in parallel. {@link #contains(Temporal)} and {@link #isEmpty()} don't take any lock.
+ * {@link #intersects(Interval)} and {@link #snapshot()} are validated optimistically and repeated exclusively
+ * only if they overlap an update. E.g:
+ * <pre>{@code
+ * if (calendar.addIfAbsent(Interval.closed(from, to))) {
+ *     // booked without double allocation
+ * }
+ * }</pre>
+ *
+ * @since 18-Oct-2026
+ */
+public class ConcurrentIntervalSet<T extends Comparable<?> & Temporal> {
+    /**
+     * Ranges by lower endpoint. A range is read from its node: a node with an equal key replaces it atomically,
+     * but the map keeps the key which was put first.
+     */
+    private final ConcurrentSkipListMap<ClosedRange<T>, Node<T>> ranges =
+            new ConcurrentSkipListMap<>(MutableRangeSet.lowerBoundComparator());
+    /**
+     * Lock of the gap before the first range.
+     */
+    private final ReentrantLock head = new ReentrantLock();
+    /**
+     * Updates share it, reads which overlap an update take it exclusively.
+     */
+    private final StampedLock gate = new StampedLock();
+    private final AtomicLong startedUpdates = new AtomicLong();
+    private final AtomicLong finishedUpdates = new AtomicLong();
+
+    /**
+     * Adds all the values of the interval.
+     */
+    public void add(Interval<T> interval) {
+        ClosedRangeSet<T> added = IntervalUtils.rangesOf(interval);
+        update(added, update -> {
+            added.asList().forEach(update::add);
+            return null;
+        });
+    }
+
+    /**
+     * Atomically adds the interval if it doesn't intersect any of the values of this set.
+     *
+     * @return true if the interval is added.
+     */
+    public boolean addIfAbsent(Interval<T> interval) {
+        ClosedRangeSet<T> added = IntervalUtils.rangesOf(interval);
+        return update(added, update -> {
+            if (added.asList().stream().anyMatch(this::intersects)) {
+                return false;
+            }
+            added.asList().forEach(update::add);
+            return true;
+        });
+    }
+
+    /**
+     * Removes all the values of the interval. Same as {@link Interval#difference(Interval)}.
+     */
+    public void remove(Interval<T> interval) {
+        remove(interval, RangeConverter.defaultInstance());
+    }
+
+    /**
+     * Same as {@link Interval#difference(Interval, TemporalUnit)}.
+     */
+    public void remove(Interval<T> interval, TemporalUnit temporalUnit) {
+        remove(interval, new RangeConverter<>(new TemporalUnitDiscreteDomain<>(temporalUnit)));
+    }
+
+    public boolean contains(T value) {
+        Map.Entry<ClosedRange<T>, Node<T>> floor = ranges.floorEntry(ClosedRange.singleton(value));
+        return floor != null && floor.getValue().range.contains(value);
+    }
+
+    public boolean intersects(Interval<T> interval) {
+        return read(() -> IntervalUtils.rangesOf(interval).asList().stream().anyMatch(this::intersects));
+    }
+
+    public boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    /**
+     * @return consistent immutable copy of the set.
+     */
+    public Interval<T> snapshot() {
+        return read(() -> {
+            List<ClosedRange<T>> copy = new ArrayList<>();
+            ranges.values().forEach(node -> copy.add(node.range));
+            return new IntervalImpl<>(ClosedRangeSet.copyOfSorted(copy));
+        });
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    private void remove(Interval<T> interval, RangeConverter<T> rangeConverter) {
+        ClosedRangeSet<T> removed = IntervalUtils.rangesOf(interval);
+        update(removed, update -> {
+            for (ClosedRange<T> range : removed.asList()) {
+                update.remove(range, rangeConverter);
+            }
+            return null;
+        });
+    }
+
+    private boolean intersects(ClosedRange<T> range) {
+        return !findConnected(range).isEmpty();
+    }
+
+    /**
+     * @return ranges which overlap the range, sorted by lower endpoint.
+     */
+    private List<ClosedRange<T>> findConnected(ClosedRange<T> range) {
+        List<ClosedRange<T>> connected = new ArrayList<>();
+        Map.Entry<ClosedRange<T>, Node<T>> floor = ranges.floorEntry(range);
+        if (floor != null && floor.getValue().range.isConnected(range)) {
+            connected.add(floor.getValue().range);
+        }
+        for (Node<T> next : ranges.tailMap(range, false).values()) {
+            if (!next.range.isConnected(range)) {
+                break;
+            }
+            connected.add(next.range);
+        }
+        return connected;
+    }
+
+    /**
+     * Reads without a lock if no update runs during the read, otherwise repeats the read exclusively.
+     */
+    private <R> R read(Supplier<R> reader) {
+        long finished = finishedUpdates.get();
+        long started = startedUpdates.get();
+        if (started == finished) {
+            try {
+                R result = reader.get();
+                if (startedUpdates.get() == started) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                // a concurrent update can be observed half-applied, so the read is repeated exclusively
+                if (startedUpdates.get() == started) {
+                    throw e;
+                }
+            }
+        }
+
+        long stamp = gate.writeLock();
+        try {
+            return reader.get();
+        } finally {
+            gate.unlockWrite(stamp);
+        }
+    }
+
+    private <R> R update(ClosedRangeSet<T> operand, Function<Update, R> updater) {
+        long stamp = gate.readLock();
+        startedUpdates.incrementAndGet();
+        List<ReentrantLock> locks = lockRegion(operand);
+        try {
+            return updater.apply(new Update(locks));
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
+            finishedUpdates.incrementAndGet();
+            gate.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Locks the ranges which overlap the ranges of the operand and the range before each of them, or the head
+     * if there is no such range. Any update of these ranges or of the gaps after them needs one of these locks,
+     * so the region can't change until they are released. The locks are taken in the order of the skip list,
+     * so updates don't deadlock, and the region is read again to check that it didn't change in the meantime.
+     * A retry yields first, so it doesn't keep a CPU busy while the concurrent update finishes.
+     */
+    private List<ReentrantLock> lockRegion(ClosedRangeSet<T> operand) {
+        while (true) {
+            List<ReentrantLock> region = findRegion(operand);
+            if (region == null) {
+                Thread.yield();
+                continue;
+            }
+
+            region.forEach(ReentrantLock::lock);
+            if (region.equals(findRegion(operand))) {
+                return region;
+            }
+            region.forEach(ReentrantLock::unlock);
+            Thread.yield();
+        }
+    }
+
+    /**
+     * @return locks of the region in the order of the skip list or null if a concurrent update
+     * was observed half-applied.
+     */
+    private List<ReentrantLock> findRegion(ClosedRangeSet<T> operand) {
+        List<ReentrantLock> region = new ArrayList<>();
+        ClosedRange<T> last = null;
+        for (ClosedRange<T> range : operand.asList()) {
+            Map.Entry<ClosedRange<T>, Node<T>> floor = ranges.floorEntry(range);
+            if (floor == null) {
+                if (last != null) {
+                    return null;
+                }
+                addOnce(region, head);
+            } else {
+                last = addInOrder(region, last, floor.getValue());
+                if (last == null) {
+                    return null;
+                }
+            }
+            for (Node<T> next : ranges.tailMap(range, false).values()) {
+                if (!next.range.isConnected(range)) {
+                    break;
+                }
+                last = addInOrder(region, last, next);
+                if (last == null) {
+                    return null;
+                }
+            }
+        }
+        return region;
+    }
+
+    /**
+     * @return the range of the node or null if it isn't after the last range of the region.
+     */
+    private static <T extends Comparable<?> & Temporal> ClosedRange<T> addInOrder(List<ReentrantLock> region,
+                                                                                   ClosedRange<T> last,
+                                                                                   Node<T> node) {
+        int order = last == null ? 1 : compareLowerEndpoints(node.range.lower(), last.lower());
+        if (order < 0 || order == 0 && region.get(region.size() - 1) != node) {
+            return null;
+        }
+        addOnce(region, node);
+        return node.range;
+    }
+
+    private static void addOnce(List<ReentrantLock> region, ReentrantLock lock) {
+        if (region.isEmpty() || region.get(region.size() - 1) != lock) {
+            region.add(lock);
+        }
+    }
+
+    /**
+     * Changes of a locked region. New ranges are inserted before the ones they replace are removed,
+     * so every value is added or removed only once and lock-free {@link #contains(Temporal)} never sees
+     * a value which is in the set before and after the update as missing.
+     */
+    private final class Update {
+        private final List<ReentrantLock> locks;
+
+        private Update(List<ReentrantLock> locks) {
+            this.locks = locks;
+        }
+
+        private void add(ClosedRange<T> range) {
+            List<ClosedRange<T>> connected = findConnected(range);
+            ClosedRange<T> merged = range;
+            for (ClosedRange<T> next : connected) {
+                merged = merged.span(next);
+            }
+            // replaces the first connected range if it has the same lower endpoint
+            put(merged);
+            for (ClosedRange<T> next : connected) {
+                if (compareLowerEndpoints(next.lower(), merged.lower()) != 0) {
+                    ranges.remove(next);
+                }
+            }
+        }
+
+        private void remove(ClosedRange<T> range, RangeConverter<T> rangeConverter) {
+            for (ClosedRange<T> r : findConnected(range)) {
+                ClosedRange<T> before = range.hasLowerBound() ? rangeConverter.before(r, range.lowerEndpoint()) : null;
+                ClosedRange<T> after = range.hasUpperBound() ? rangeConverter.after(r, range.upperEndpoint()) : null;
+                if (after != null && compareLowerEndpoints(after.lower(), r.lower()) != 0) {
+                    put(after);
+                    after = null;
+                }
+
+                ClosedRange<T> replacement = before != null ? before : after;
+                if (replacement != null) {
+                    put(replacement);
+                } else {
+                    ranges.remove(r);
+                }
+            }
+        }
+
+        /**
+         * The new range is locked until the end of the update.
+         */
+        private void put(ClosedRange<T> range) {
+            Node<T> node = new Node<>(range);
+            node.lock();
+            locks.add(node);
+            ranges.put(range, node);
+        }
+    }
+
+    /**
+     * Range of the set with its lock.
+     */
+    private static final class Node<T extends Comparable<?> & Temporal> extends ReentrantLock {
+        private final ClosedRange<T> range;
+
+        private Node(ClosedRange<T> range) {
+            this.range = range;
+        }
+    }
+}
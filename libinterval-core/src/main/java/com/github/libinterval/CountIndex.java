@@ -0,0 +1,115 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+
+import static com.github.libinterval.IntervalUtils.compare;
+
+/**
+ * Cumulative counts of temporal units of sorted ranges, so the counts in a window, the n-th unit and the rank
+ * of a value are found by binary search in O(log n). Ranges are counted like {@link Interval#count(TemporalUnit)},
+ * and only the ranges at the edges of a window are counted again.
+ *
+ * @since 18-Oct-2026
+ */
+final class CountIndex<T extends Comparable<?> & Temporal> {
+    private final ClosedRangeSet<T> rangeSet;
+    private final TemporalUnit temporalUnit;
+    /**
+     * Count of the units of the ranges before the index, it has one more element than the ranges.
+     */
+    private final long[] counts;
+
+    CountIndex(ClosedRangeSet<T> rangeSet, TemporalUnit temporalUnit) {
+        this.rangeSet = rangeSet;
+        this.temporalUnit = temporalUnit;
+        this.counts = new long[rangeSet.size() + 1];
+        for (int i = 0; i < rangeSet.size(); i++) {
+            ClosedRange<T> range = rangeSet.get(i);
+            if (!range.hasLowerBound()) {
+                throw IntervalUtils.newInvalidLowerBoundException(new IntervalImpl<>(rangeSet));
+            }
+            if (!range.hasUpperBound()) {
+                throw IntervalUtils.newInvalidUpperBoundException(new IntervalImpl<>(rangeSet));
+            }
+            counts[i + 1] = Math.addExact(counts[i], countRange(range));
+        }
+    }
+
+    TemporalUnit temporalUnit() {
+        return temporalUnit;
+    }
+
+    /**
+     * @return count of the units of the ranges within the window.
+     */
+    long count(ClosedRange<T> window) {
+        int first = window.hasLowerBound() ? firstEndingNotBefore(window.lowerEndpoint()) : 0;
+        int last = window.hasUpperBound() ? rangeSet.floorIndex(window.upperEndpoint()) : rangeSet.size() - 1;
+        if (first > last) {
+            return 0;
+        }
+        long count = countRange(rangeSet.get(first).intersection(window));
+        if (first == last) {
+            return count;
+        }
+        return count + counts[last] - counts[first + 1] + countRange(rangeSet.get(last).intersection(window));
+    }
+
+    /**
+     * @param n - zero-based index of the unit.
+     * @return start of the unit or null if there are no more units.
+     */
+    T nth(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Index should not be negative: " + n + ".");
+        }
+        if (n >= counts[counts.length - 1]) {
+            return null;
+        }
+        int low = 0;
+        int high = rangeSet.size() - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (counts[middle] <= n) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        @SuppressWarnings("unchecked")
+        T nth = (T) rangeSet.get(low).lowerEndpoint().plus(n - counts[low], temporalUnit);
+        return nth;
+    }
+
+    /**
+     * @return zero-based index of the unit which contains the value or the count of units before the value
+     * if the ranges don't contain it.
+     */
+    long rankOf(T value) {
+        int index = rangeSet.floorIndex(value);
+        if (index < 0) {
+            return 0;
+        }
+        ClosedRange<T> range = rangeSet.get(index);
+        if (range.contains(value)) {
+            return counts[index] + temporalUnit.between(range.lowerEndpoint(), value);
+        }
+        return counts[index + 1];
+    }
+
+    /**
+     * @return index of the first range which ends at or after the value.
+     */
+    private int firstEndingNotBefore(T value) {
+        int index = rangeSet.floorIndex(value);
+        if (index < 0) {
+            return 0;
+        }
+        return compare(rangeSet.get(index).upperEndpoint(), value) < 0 ? index + 1 : index;
+    }
+
+    private long countRange(ClosedRange<T> range) {
+        return temporalUnit.between(range.lowerEndpoint(), range.upperEndpoint()) + 1;
+    }
+}
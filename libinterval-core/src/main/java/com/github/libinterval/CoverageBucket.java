@@ -0,0 +1,220 @@
+package com.github.libinterval;
+
+import java.math.BigInteger;
+import java.time.DayOfWeek;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static com.github.libinterval.IntervalUtils.compare;
+
+/**
+ * Coverage of a calendar bucket, e.g. a month, by an interval. Both counts are measured in the same fine unit,
+ * e.g. days, the same way as {@link Interval#count(TemporalUnit)}: the interval [[2018-01-01..2018-01-10]]
+ * covers 10 of 31 days of 2018-01.
+ *
+ * @see Interval#rollup(TemporalUnit, TemporalUnit)
+ * @since 18-Oct-2026
+ */
+public final class CoverageBucket<T extends Comparable<?> & Temporal> {
+    private final T start;
+    private final T end;
+    private final long coveredCount;
+    private final long totalCount;
+
+    private CoverageBucket(T start, T end, long coveredCount, long totalCount) {
+        this.start = start;
+        this.end = end;
+        this.coveredCount = coveredCount;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * @return first value of the bucket, e.g. 2018-01-01 for January of 2018.
+     */
+    public T getStart() {
+        return start;
+    }
+
+    /**
+     * @return last value of the bucket, e.g. 2018-01-31 for January of 2018.
+     */
+    public T getEnd() {
+        return end;
+    }
+
+    public long getCoveredCount() {
+        return coveredCount;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @return covered count divided by total count.
+     */
+    public double getRatio() {
+        return (double) coveredCount / totalCount;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + start + ".." + end + "] " + coveredCount + "/" + totalCount;
+    }
+
+    /**
+     * Walks the ranges once, so a bucket which is covered by several ranges is accumulated in place.
+     */
+    static <T extends Comparable<?> & Temporal> List<CoverageBucket<T>> rollup(ClosedRangeSet<T> rangeSet,
+                                                                               TemporalUnit coarse,
+                                                                               TemporalUnit fine) {
+        ComparableTemporalDiscreteDomain<T> domain = DefaultComparableTemporalDiscreteDomain.instance();
+        List<CoverageBucket<T>> buckets = new ArrayList<>();
+        T bucketStart = null;
+        T bucketEnd = null;
+        long covered = 0;
+        for (ClosedRange<T> range : rangeSet.asList()) {
+            if (!range.hasLowerBound()) {
+                throw IntervalUtils.newInvalidLowerBoundException(new IntervalImpl<>(rangeSet));
+            }
+            if (!range.hasUpperBound()) {
+                throw IntervalUtils.newInvalidUpperBoundException(new IntervalImpl<>(rangeSet));
+            }
+            T lower = range.lowerEndpoint();
+            T upper = range.upperEndpoint();
+            while (compare(lower, upper) <= 0) {
+                if (bucketEnd == null || compare(lower, bucketEnd) > 0) {
+                    if (bucketStart != null) {
+                        buckets.add(newBucket(bucketStart, bucketEnd, covered, fine));
+                    }
+                    bucketStart = truncate(lower, coarse);
+                    bucketEnd = domain.previous(plus(bucketStart, coarse));
+                    covered = 0;
+                }
+                T coveredUpper = compare(upper, bucketEnd) < 0 ? upper : bucketEnd;
+                covered += fine.between(lower, coveredUpper) + 1;
+                if (coveredUpper == upper) {
+                    break;
+                }
+                lower = domain.next(bucketEnd);
+            }
+        }
+        if (bucketStart != null) {
+            buckets.add(newBucket(bucketStart, bucketEnd, covered, fine));
+        }
+        return buckets;
+    }
+
+    /**
+     * Splits the amount in proportion to the covered counts of the buckets by the largest remainder method:
+     * every share is rounded towards zero and the rest is given one by one to the buckets with the largest remainders,
+     * the earlier bucket first, so the shares always sum up to the amount.
+     *
+     * @return shares by the start of the bucket, empty if the interval is empty.
+     */
+    static <T extends Comparable<?> & Temporal> SortedMap<T, BigInteger> prorate(ClosedRangeSet<T> rangeSet,
+                                                                                 BigInteger amount,
+                                                                                 TemporalUnit weightUnit,
+                                                                                 TemporalUnit bucketUnit) {
+        List<CoverageBucket<T>> buckets = rollup(rangeSet, bucketUnit, weightUnit);
+        long total = 0;
+        for (CoverageBucket<T> bucket : buckets) {
+            total = Math.addExact(total, bucket.coveredCount);
+        }
+
+        SortedMap<T, BigInteger> shares = new TreeMap<>((first, second) -> compare(first, second));
+        if (total == 0) {
+            return shares;
+        }
+        BigInteger absoluteAmount = amount.abs();
+        BigInteger totalWeight = BigInteger.valueOf(total);
+        BigInteger[] quotients = new BigInteger[buckets.size()];
+        long[] remainders = new long[buckets.size()];
+        BigInteger rest = absoluteAmount;
+        for (int i = 0; i < buckets.size(); i++) {
+            BigInteger[] division = absoluteAmount.multiply(BigInteger.valueOf(buckets.get(i).coveredCount))
+                    .divideAndRemainder(totalWeight);
+            quotients[i] = division[0];
+            remainders[i] = division[1].longValue();
+            rest = rest.subtract(division[0]);
+        }
+
+        // the rest is less than the number of buckets, because every remainder is less than the total weight
+        Integer[] order = new Integer[buckets.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (first, second) -> remainders[first] != remainders[second]
+                ? Long.compare(remainders[second], remainders[first])
+                : Integer.compare(first, second));
+        for (int i = 0; i < rest.intValue(); i++) {
+            quotients[order[i]] = quotients[order[i]].add(BigInteger.ONE);
+        }
+
+        for (int i = 0; i < buckets.size(); i++) {
+            shares.put(buckets.get(i).start, amount.signum() < 0 ? quotients[i].negate() : quotients[i]);
+        }
+        return shares;
+    }
+
+    private static <T extends Comparable<?> & Temporal> CoverageBucket<T> newBucket(T start, T end, long covered, TemporalUnit fine) {
+        return new CoverageBucket<>(start, end, covered, fine.between(start, end) + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<?> & Temporal> T plus(T value, TemporalUnit unit) {
+        return (T) value.plus(1, unit);
+    }
+
+    /**
+     * @return the first value of the bucket which contains the value, e.g. the 1st day of the month for {@link ChronoUnit#MONTHS}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<?> & Temporal> T truncate(T value, TemporalUnit unit) {
+        if (!(unit instanceof ChronoUnit) || !value.isSupported(unit)) {
+            throw new IllegalArgumentException("Unsupported bucket unit: " + unit + ".");
+        }
+        Temporal result = value;
+        switch ((ChronoUnit) unit) {
+            case YEARS:
+                result = withMinimum(result, ChronoField.MONTH_OF_YEAR);
+                result = withMinimum(result, ChronoField.DAY_OF_MONTH);
+                break;
+            case MONTHS:
+                result = withMinimum(result, ChronoField.DAY_OF_MONTH);
+                break;
+            case WEEKS:
+                result = result.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                break;
+            case DAYS:
+                break;
+            default:
+                if (!unit.isTimeBased()) {
+                    throw new IllegalArgumentException("Unsupported bucket unit: " + unit + ".");
+                }
+                return (T) truncateTime(result, unit);
+        }
+        return (T) truncateTime(result, ChronoUnit.DAYS);
+    }
+
+    private static Temporal withMinimum(Temporal value, ChronoField field) {
+        return value.isSupported(field) ? value.with(field, field.range().getMinimum()) : value;
+    }
+
+    private static Temporal truncateTime(Temporal value, TemporalUnit unit) {
+        if (!value.isSupported(ChronoField.NANO_OF_DAY)) {
+            return value;
+        }
+        long nanoOfDay = value.getLong(ChronoField.NANO_OF_DAY);
+        long unitNanos = unit.getDuration().toNanos();
+        return value.with(ChronoField.NANO_OF_DAY, nanoOfDay / unitNanos * unitNanos);
+    }
+}
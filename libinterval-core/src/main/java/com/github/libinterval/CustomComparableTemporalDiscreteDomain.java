@@ -6,31 +6,32 @@ import java.time.temporal.Temporal;
 import java.time.temporal.TemporalUnit;
 
 /**
+ *  Guava view of {@link TemporalUnitDiscreteDomain}, the library itself doesn't use it,
+ *  so Guava is required only by the callers of this class.
+ *
  *  @author Igor Rybak
  *  @since 11-Sep-2018
  */
 public class CustomComparableTemporalDiscreteDomain<T extends Comparable<?> & Temporal> extends DiscreteDomain<T> {
 
-    private final TemporalUnit unit;
+    private final TemporalUnitDiscreteDomain<T> domain;
 
     CustomComparableTemporalDiscreteDomain(TemporalUnit unit) {
-        this.unit = unit;
+        this.domain = new TemporalUnitDiscreteDomain<>(unit);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public T next(T value) {
-        return (T) value.plus(1, unit);
+        return domain.next(value);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public T previous(T value) {
-        return (T) value.minus(1, unit);
+        return domain.previous(value);
     }
 
     @Override
     public long distance(T start, T end) {
-        return unit.between(start, end);
+        return domain.distance(start, end);
     }
 }
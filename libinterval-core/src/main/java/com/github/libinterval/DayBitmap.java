@@ -0,0 +1,311 @@
+package com.github.libinterval;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable compressed bitmap of epoch days. Days are grouped into containers of 4096 days (about 11 years)
+ * keyed by the high bits of the epoch day, like in Roaring bitmaps. Only containers which have at least one day are stored,
+ * so set operations are bitwise operations on the words of containers with the same keys. Containers are never
+ * modified after creation, so they are shared between bitmaps.
+ * <p>
+ * Adjacent ranges like [2018-01-01..2018-01-05] and [2018-01-06..2018-01-10] aren't merged by intervals, so besides
+ * the days each container has link bits: a day is linked if it is in the same range as the previous day.
+ * The first {@link #WORDS} words of a container are days and the rest are links.
+ *
+ * @since 18-Oct-2026
+ */
+final class DayBitmap {
+    private static final int CONTAINER_BITS = 12;
+    private static final int CONTAINER_MASK = (1 << CONTAINER_BITS) - 1;
+    private static final int WORDS = 1 << (CONTAINER_BITS - 6);
+    private static final DayBitmap EMPTY = new DayBitmap(new long[0], new long[0][]);
+
+    private final long[] keys;
+    private final long[][] containers;
+    private final long cardinality;
+
+    private DayBitmap(long[] keys, long[][] containers) {
+        this.keys = keys;
+        this.containers = containers;
+        long count = 0;
+        for (long[] container : containers) {
+            for (int w = 0; w < WORDS; w++) {
+                count += Long.bitCount(container[w]);
+            }
+        }
+        this.cardinality = count;
+    }
+
+    /**
+     * @param ranges    - sorted disjoint ranges.
+     * @param clipLower - epoch day before which the days are ignored, used for unbounded ranges.
+     * @param clipUpper - epoch day after which the days are ignored, used for unbounded ranges.
+     */
+    static DayBitmap of(ClosedRangeSet<LocalDate> ranges, long clipLower, long clipUpper) {
+        Builder builder = new Builder(ranges.size());
+        for (ClosedRange<LocalDate> range : ranges.asList()) {
+            long lower = range.hasLowerBound() ? Math.max(range.lowerEndpoint().toEpochDay(), clipLower) : clipLower;
+            long upper = range.hasUpperBound() ? Math.min(range.upperEndpoint().toEpochDay(), clipUpper) : clipUpper;
+            if (lower <= upper) {
+                builder.add(lower, upper);
+            }
+        }
+        return builder.build();
+    }
+
+    boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    long cardinality() {
+        return cardinality;
+    }
+
+    boolean contains(long day) {
+        int index = Arrays.binarySearch(keys, day >> CONTAINER_BITS);
+        if (index < 0) {
+            return false;
+        }
+        int bit = (int) (day & CONTAINER_MASK);
+        return (containers[index][bit >>> 6] & 1L << bit) != 0;
+    }
+
+    long first() {
+        long[] container = containers[0];
+        for (int i = 0; i < WORDS; i++) {
+            if (container[i] != 0) {
+                return (keys[0] << CONTAINER_BITS) + i * 64 + Long.numberOfTrailingZeros(container[i]);
+            }
+        }
+        throw new IllegalStateException("The interval is empty.");
+    }
+
+    long last() {
+        long[] container = containers[containers.length - 1];
+        for (int i = WORDS - 1; i >= 0; i--) {
+            if (container[i] != 0) {
+                return (keys[keys.length - 1] << CONTAINER_BITS) + i * 64 + 63 - Long.numberOfLeadingZeros(container[i]);
+            }
+        }
+        throw new IllegalStateException("The interval is empty.");
+    }
+
+    /**
+     * Two days are in the same range of the union if they are in the same range of any of the bitmaps.
+     */
+    DayBitmap or(DayBitmap other) {
+        long[] resultKeys = new long[keys.length + other.keys.length];
+        long[][] resultContainers = new long[resultKeys.length][];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < keys.length || j < other.keys.length) {
+            if (j == other.keys.length || i < keys.length && keys[i] < other.keys[j]) {
+                resultKeys[k] = keys[i];
+                resultContainers[k++] = containers[i++];
+            } else if (i == keys.length || other.keys[j] < keys[i]) {
+                resultKeys[k] = other.keys[j];
+                resultContainers[k++] = other.containers[j++];
+            } else {
+                long[] words = new long[2 * WORDS];
+                for (int w = 0; w < words.length; w++) {
+                    words[w] = containers[i][w] | other.containers[j][w];
+                }
+                resultKeys[k] = keys[i];
+                resultContainers[k++] = words;
+                i++;
+                j++;
+            }
+        }
+        return newBitmap(resultKeys, resultContainers, k);
+    }
+
+    /**
+     * Two days are in the same range of the intersection if they are in the same range of both bitmaps.
+     */
+    DayBitmap and(DayBitmap other) {
+        long[] resultKeys = new long[Math.min(keys.length, other.keys.length)];
+        long[][] resultContainers = new long[resultKeys.length][];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (other.keys[j] < keys[i]) {
+                j++;
+            } else {
+                long[] words = new long[2 * WORDS];
+                long any = 0;
+                for (int w = 0; w < words.length; w++) {
+                    words[w] = containers[i][w] & other.containers[j][w];
+                    any |= words[w];
+                }
+                if (any != 0) {
+                    resultKeys[k] = keys[i];
+                    resultContainers[k++] = words;
+                }
+                i++;
+                j++;
+            }
+        }
+        return newBitmap(resultKeys, resultContainers, k);
+    }
+
+    /**
+     * A day stays linked if neither it nor the previous day is removed.
+     */
+    DayBitmap andNot(DayBitmap other) {
+        long[] resultKeys = new long[keys.length];
+        long[][] resultContainers = new long[resultKeys.length][];
+        int j = 0;
+        int k = 0;
+        for (int i = 0; i < keys.length; i++) {
+            while (j < other.keys.length && other.keys[j] < keys[i]) {
+                j++;
+            }
+            long[] removed = j < other.keys.length && other.keys[j] == keys[i] ? other.containers[j] : null;
+            long[] previous = j > 0 && other.keys[j - 1] == keys[i] - 1 ? other.containers[j - 1] : null;
+            if (removed == null && previous == null) {
+                resultKeys[k] = keys[i];
+                resultContainers[k++] = containers[i];
+                continue;
+            }
+
+            long[] words = new long[2 * WORDS];
+            long carry = previous == null ? 0 : previous[WORDS - 1] >>> 63;
+            long any = 0;
+            for (int w = 0; w < WORDS; w++) {
+                long removedWord = removed == null ? 0 : removed[w];
+                words[w] = containers[i][w] & ~removedWord;
+                words[WORDS + w] = containers[i][WORDS + w] & ~removedWord & ~(removedWord << 1 | carry);
+                carry = removedWord >>> 63;
+                any |= words[w];
+            }
+            if (any != 0) {
+                resultKeys[k] = keys[i];
+                resultContainers[k++] = words;
+            }
+        }
+        return newBitmap(resultKeys, resultContainers, k);
+    }
+
+    /**
+     * @return ranges of linked days.
+     */
+    ClosedRangeSet<LocalDate> toRanges() {
+        List<ClosedRange<LocalDate>> ranges = new ArrayList<>();
+        long runStart = 0;
+        long runEnd = Long.MIN_VALUE;
+        for (int c = 0; c < keys.length; c++) {
+            long base = keys[c] << CONTAINER_BITS;
+            for (int w = 0; w < WORDS; w++) {
+                long word = containers[c][w];
+                long starts = word & ~containers[c][WORDS + w];
+                while (word != 0) {
+                    int start = Long.numberOfTrailingZeros(word);
+                    int length = Long.numberOfTrailingZeros(~(word >>> start));
+                    long wordBase = base + w * 64;
+                    if (wordBase + start != runEnd + 1 || (starts & 1L << start) != 0) {
+                        addRange(ranges, runStart, runEnd);
+                        runStart = wordBase + start;
+                    }
+                    long runMask = length == 64 ? -1L : (1L << length) - 1 << start;
+                    long splits = starts & runMask & ~(1L << start);
+                    while (splits != 0) {
+                        int split = Long.numberOfTrailingZeros(splits);
+                        addRange(ranges, runStart, wordBase + split - 1);
+                        runStart = wordBase + split;
+                        splits &= splits - 1;
+                    }
+                    runEnd = wordBase + start + length - 1;
+                    word &= ~runMask;
+                }
+            }
+        }
+        addRange(ranges, runStart, runEnd);
+        return ClosedRangeSet.copyOfSorted(ranges);
+    }
+
+    private static void addRange(List<ClosedRange<LocalDate>> ranges, long lower, long upper) {
+        if (upper != Long.MIN_VALUE) {
+            ranges.add(ClosedRange.of(LocalDate.ofEpochDay(lower), LocalDate.ofEpochDay(upper)));
+        }
+    }
+
+    private static DayBitmap newBitmap(long[] keys, long[][] containers, int size) {
+        if (size == 0) {
+            return EMPTY;
+        }
+        return new DayBitmap(size == keys.length ? keys : Arrays.copyOf(keys, size),
+                size == containers.length ? containers : Arrays.copyOf(containers, size));
+    }
+
+    /**
+     * Collects ranges of days in ascending order.
+     */
+    private static final class Builder {
+        private final List<Long> keys;
+        private final List<long[]> containers;
+
+        private Builder(int expectedSize) {
+            this.keys = new ArrayList<>(expectedSize);
+            this.containers = new ArrayList<>(expectedSize);
+        }
+
+        private void add(long lower, long upper) {
+            for (long key = lower >> CONTAINER_BITS; key <= upper >> CONTAINER_BITS; key++) {
+                long base = key << CONTAINER_BITS;
+                int from = (int) (Math.max(lower, base) - base);
+                int to = (int) (Math.min(upper, base + CONTAINER_MASK) - base);
+                long[] container = container(key);
+                setRange(container, 0, from, to);
+                int linkFrom = (int) (Math.max(lower + 1, base) - base);
+                if (linkFrom <= to) {
+                    setRange(container, WORDS, linkFrom, to);
+                }
+            }
+        }
+
+        private long[] container(long key) {
+            int last = keys.size() - 1;
+            if (last >= 0 && keys.get(last) == key) {
+                return containers.get(last);
+            }
+            long[] container = new long[2 * WORDS];
+            keys.add(key);
+            containers.add(container);
+            return container;
+        }
+
+        private static void setRange(long[] words, int offset, int from, int to) {
+            int fromWord = offset + (from >>> 6);
+            int toWord = offset + (to >>> 6);
+            long fromMask = -1L << from;
+            long toMask = -1L >>> (63 - (to & 63));
+            if (fromWord == toWord) {
+                words[fromWord] |= fromMask & toMask;
+                return;
+            }
+            words[fromWord] |= fromMask;
+            for (int i = fromWord + 1; i < toWord; i++) {
+                words[i] = -1L;
+            }
+            words[toWord] |= toMask;
+        }
+
+        private DayBitmap build() {
+            if (keys.isEmpty()) {
+                return EMPTY;
+            }
+            long[] keyArray = new long[keys.size()];
+            for (int i = 0; i < keyArray.length; i++) {
+                keyArray[i] = keys.get(i);
+            }
+            return new DayBitmap(keyArray, containers.toArray(new long[0][]));
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.github.libinterval;
 
-import com.google.common.collect.DiscreteDomain;
-
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalQueries;
 import java.time.temporal.TemporalUnit;
@@ -11,7 +9,7 @@ import java.util.Optional;
  * @author Igor Rybak
  * @since 09-May-2018
  */
-class DefaultComparableTemporalDiscreteDomain<T extends Comparable<?> & Temporal> extends DiscreteDomain<T> {
+class DefaultComparableTemporalDiscreteDomain<T extends Comparable<?> & Temporal> implements ComparableTemporalDiscreteDomain<T> {
     private final static DefaultComparableTemporalDiscreteDomain INSTANCE = new DefaultComparableTemporalDiscreteDomain();
 
     private DefaultComparableTemporalDiscreteDomain() {
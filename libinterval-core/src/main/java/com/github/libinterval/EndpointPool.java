@@ -0,0 +1,118 @@
+package com.github.libinterval;
+
+import java.lang.ref.WeakReference;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Optional pool of canonical endpoints, so equal endpoints of millions of ranges are the same instance.
+ * It is disabled by default and enabled by system property "libinterval.endpoint.pool=true".
+ * Dates and months in the window between "libinterval.endpoint.pool.from" and "libinterval.endpoint.pool.to",
+ * default [1970-01-01..2100-12-31], are kept in arrays indexed by epoch day and epoch month, which are filled on demand.
+ * Other {@link LocalDate}, {@link YearMonth} and {@link LocalDateTime} endpoints are kept in a weak map,
+ * so they are collected when no range uses them.
+ *
+ * @since 18-Oct-2026
+ */
+final class EndpointPool {
+    static final boolean ENABLED = Boolean.getBoolean("libinterval.endpoint.pool");
+
+    private static final Map<Object, WeakReference<Object>> OTHERS = new WeakHashMap<>();
+
+    /**
+     * @return equal endpoint from the pool, or the given one if the pool is disabled or doesn't pool its type.
+     */
+    static <T> T canonical(T endpoint) {
+        if (!ENABLED || endpoint == null) {
+            return endpoint;
+        }
+        if (endpoint instanceof LocalDate) {
+            long index = ((LocalDate) endpoint).toEpochDay() - Window.FIRST_DAY;
+            if (index >= 0 && index < Window.DAYS.length) {
+                return pooled(Window.DAYS, (int) index, endpoint);
+            }
+        } else if (endpoint instanceof YearMonth) {
+            long index = epochMonth((YearMonth) endpoint) - Window.FIRST_MONTH;
+            if (index >= 0 && index < Window.MONTHS.length) {
+                return pooled(Window.MONTHS, (int) index, endpoint);
+            }
+        } else if (!(endpoint instanceof LocalDateTime)) {
+            return endpoint;
+        }
+        return pooledWeakly(endpoint);
+    }
+
+    /**
+     * Racing threads may store different equal instances, which is harmless because they are immutable.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T pooled(Object[] pool, int index, T endpoint) {
+        Object pooled = pool[index];
+        if (pooled == null) {
+            pool[index] = endpoint;
+            return endpoint;
+        }
+        return (T) pooled;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T pooledWeakly(T endpoint) {
+        synchronized (OTHERS) {
+            WeakReference<Object> reference = OTHERS.get(endpoint);
+            Object pooled = reference == null ? null : reference.get();
+            if (pooled == null) {
+                OTHERS.put(endpoint, new WeakReference<>(endpoint));
+                return endpoint;
+            }
+            return (T) pooled;
+        }
+    }
+
+    private static long epochMonth(YearMonth month) {
+        return month.getYear() * 12L + month.getMonthValue() - 1;
+    }
+
+    /**
+     * The window is read when the first date or month is pooled, so its properties are ignored if the pool is disabled.
+     */
+    private static final class Window {
+        private static final String FROM_PROPERTY = "libinterval.endpoint.pool.from";
+        private static final String TO_PROPERTY = "libinterval.endpoint.pool.to";
+
+        private static final LocalDate FROM = parse(FROM_PROPERTY, "1970-01-01");
+        private static final LocalDate TO = parse(TO_PROPERTY, "2100-12-31");
+        private static final long FIRST_DAY = FROM.toEpochDay();
+        private static final long FIRST_MONTH = epochMonth(YearMonth.from(FROM));
+
+        private static final LocalDate[] DAYS = new LocalDate[daysInWindow()];
+        private static final YearMonth[] MONTHS = new YearMonth[(int) (epochMonth(YearMonth.from(TO)) - FIRST_MONTH + 1)];
+
+        private static LocalDate parse(String property, String defaultValue) {
+            String value = System.getProperty(property, defaultValue);
+            try {
+                return LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid " + property + ": " + value + ".", e);
+            }
+        }
+
+        private static int daysInWindow() {
+            long days = TO.toEpochDay() - FIRST_DAY + 1;
+            if (days <= 0 || days > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid endpoint pool window " + FROM_PROPERTY + ".." + TO_PROPERTY
+                        + ": [" + FROM + ".." + TO + "].");
+            }
+            return (int) days;
+        }
+
+        private Window() {
+        }
+    }
+
+    private EndpointPool() {
+    }
+}
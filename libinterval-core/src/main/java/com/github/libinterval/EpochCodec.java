@@ -0,0 +1,92 @@
+package com.github.libinterval;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.Temporal;
+
+/**
+ * Encodes endpoints as numbers of their precision units since 1970, so the order of the numbers is the order of the endpoints
+ * and adjacent endpoints differ by 1. {@link Long#MIN_VALUE} and {@link Long#MAX_VALUE} are reserved for -∞ and +∞.
+ *
+ * @since 18-Oct-2026
+ */
+abstract class EpochCodec<T extends Comparable<?> & Temporal> {
+    static final long NEGATIVE_INFINITY = Long.MIN_VALUE;
+    static final long POSITIVE_INFINITY = Long.MAX_VALUE;
+
+    static final EpochCodec<LocalDate> DAYS = new EpochCodec<LocalDate>() {
+        @Override
+        long encodeFinite(LocalDate value) {
+            return value.toEpochDay();
+        }
+
+        @Override
+        LocalDate decodeFinite(long value) {
+            return LocalDate.ofEpochDay(value);
+        }
+    };
+
+    static final EpochCodec<YearMonth> MONTHS = new EpochCodec<YearMonth>() {
+        private static final long EPOCH_MONTH = 1970 * 12L;
+
+        @Override
+        long encodeFinite(YearMonth value) {
+            return value.getYear() * 12L + value.getMonthValue() - 1 - EPOCH_MONTH;
+        }
+
+        @Override
+        YearMonth decodeFinite(long value) {
+            long month = Math.addExact(value, EPOCH_MONTH);
+            return YearMonth.of(Math.toIntExact(Math.floorDiv(month, 12)), (int) Math.floorMod(month, 12) + 1);
+        }
+    };
+
+    /**
+     * Nanoseconds since 1970-01-01T00:00, which covers years from 1677 to 2262.
+     */
+    static final EpochCodec<LocalDateTime> NANOS = new EpochCodec<LocalDateTime>() {
+        private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+        @Override
+        long encodeFinite(LocalDateTime value) {
+            try {
+                return Math.addExact(Math.multiplyExact(value.toEpochSecond(ZoneOffset.UTC), NANOS_PER_SECOND), value.getNano());
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Endpoint " + value + " is out of the supported range.", e);
+            }
+        }
+
+        @Override
+        LocalDateTime decodeFinite(long value) {
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(value, NANOS_PER_SECOND),
+                    (int) Math.floorMod(value, NANOS_PER_SECOND), ZoneOffset.UTC);
+        }
+    };
+
+    abstract long encodeFinite(T value);
+
+    abstract T decodeFinite(long value);
+
+    /**
+     * @param lower - true if null means -∞, false if null means +∞.
+     */
+    long encode(T value, boolean lower) {
+        if (value == null) {
+            return lower ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+        }
+        long encoded = encodeFinite(value);
+        if (encoded == NEGATIVE_INFINITY || encoded == POSITIVE_INFINITY) {
+            throw new IllegalArgumentException("Endpoint " + value + " is out of the supported range.");
+        }
+        return encoded;
+    }
+
+    /**
+     * @return null for -∞ and +∞.
+     */
+    T decode(long value) {
+        return value == NEGATIVE_INFINITY || value == POSITIVE_INFINITY ? null : decodeFinite(value);
+    }
+}
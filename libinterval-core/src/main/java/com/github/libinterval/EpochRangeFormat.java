@@ -0,0 +1,77 @@
+package com.github.libinterval;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary form of sorted ranges whose endpoints are encoded by {@link EpochCodec}: the number of ranges and
+ * the endpoints as zigzag differences from the previous endpoint in variable length numbers, so nearby ranges
+ * take a few bytes each. Differences wrap around for infinite endpoints, which is reversed by reading.
+ *
+ * @since 18-Oct-2026
+ */
+final class EpochRangeFormat {
+
+    /**
+     * @param endpoints - lower and upper endpoints of every range.
+     * @param count     - number of ranges.
+     */
+    static void write(DataOutput out, long[] endpoints, int count) throws IOException {
+        writeVarLong(out, count);
+        long previous = 0;
+        for (int i = 0; i < 2 * count; i++) {
+            writeVarLong(out, zigzag(endpoints[i] - previous));
+            previous = endpoints[i];
+        }
+    }
+
+    /**
+     * @param maxCount - maximal number of ranges, which protects from allocation of malformed sizes.
+     * @return lower and upper endpoints of every range.
+     */
+    static long[] read(DataInput in, int maxCount) throws IOException {
+        long count = readVarLong(in);
+        if (count < 0 || count > maxCount) {
+            throw new IOException("Malformed number of ranges: " + count + ".");
+        }
+        long[] endpoints = new long[2 * (int) count];
+        long previous = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            endpoints[i] = previous + unzigzag(readVarLong(in));
+            previous = endpoints[i];
+        }
+        return endpoints;
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length number.");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private EpochRangeFormat() {
+    }
+}
@@ -0,0 +1,374 @@
+package com.github.libinterval;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.BiConsumer;
+
+/**
+ * Union of intervals grouped by key, e.g. one interval per employee, for inputs which don't fit in memory and aren't sorted.
+ * Ranges are buffered until the limit and then sorted by key, merged and spilled to a temporary file as a run
+ * of compact epoch-encoded records. The runs are merged with a heap by key, so the result is produced in order of keys
+ * and only the ranges of one key per run are in memory. E.g:
+ * <pre>{@code
+ * try (GroupedIntervalUnion<Long, LocalDate> union =
+ *              GroupedIntervalUnion.ofDates(GroupedIntervalUnion.KeySerializer.longs(), 10_000_000, tempDirectory)) {
+ *     rows.forEach(row -> union.add(row.getEmployeeId(), row.getInterval()));
+ *     union.forEach((employeeId, interval) -> writer.write(employeeId, interval));
+ * }
+ * }</pre>
+ * The result is the same as {@link Interval#unionOf(Iterable)} of the intervals of every key. It isn't thread-safe.
+ *
+ * @since 18-Oct-2026
+ */
+public final class GroupedIntervalUnion<K extends Comparable<? super K>, T extends Comparable<?> & Temporal> implements Closeable {
+    private static final Comparator<long[]> BY_LOWER = (first, second) -> Long.compare(first[0], second[0]);
+
+    private final EpochCodec<T> codec;
+    private final KeySerializer<K> keySerializer;
+    private final int maxBufferedRanges;
+    private final Path directory;
+    private final List<Entry<K>> buffer = new ArrayList<>();
+    private final List<Path> runs = new ArrayList<>();
+    private boolean consumed;
+
+    private GroupedIntervalUnion(EpochCodec<T> codec, KeySerializer<K> keySerializer, int maxBufferedRanges, Path directory) {
+        if (maxBufferedRanges <= 0) {
+            throw new IllegalArgumentException("Maximal number of buffered ranges should be positive: " + maxBufferedRanges + ".");
+        }
+        this.codec = codec;
+        this.keySerializer = keySerializer;
+        this.maxBufferedRanges = maxBufferedRanges;
+        this.directory = directory;
+    }
+
+    /**
+     * @param maxBufferedRanges - number of ranges which are kept in memory before spilling,
+     *                          every range takes about 40 bytes and its key.
+     * @param directory         - directory for temporary files, which are deleted by {@link #forEach} or {@link #close()}.
+     */
+    public static <K extends Comparable<? super K>> GroupedIntervalUnion<K, LocalDate> ofDates(KeySerializer<K> keySerializer,
+                                                                                             int maxBufferedRanges,
+                                                                                             Path directory) {
+        return new GroupedIntervalUnion<>(EpochCodec.DAYS, keySerializer, maxBufferedRanges, directory);
+    }
+
+    public static <K extends Comparable<? super K>> GroupedIntervalUnion<K, YearMonth> ofMonths(KeySerializer<K> keySerializer,
+                                                                                              int maxBufferedRanges,
+                                                                                              Path directory) {
+        return new GroupedIntervalUnion<>(EpochCodec.MONTHS, keySerializer, maxBufferedRanges, directory);
+    }
+
+    /**
+     * Endpoints are stored as nanoseconds, so they should be between years 1677 and 2262.
+     */
+    public static <K extends Comparable<? super K>> GroupedIntervalUnion<K, LocalDateTime> ofDateTimes(KeySerializer<K> keySerializer,
+                                                                                                      int maxBufferedRanges,
+                                                                                                      Path directory) {
+        return new GroupedIntervalUnion<>(EpochCodec.NANOS, keySerializer, maxBufferedRanges, directory);
+    }
+
+    /**
+     * @throws UncheckedIOException if the buffer can't be spilled.
+     */
+    public void add(K key, Interval<T> interval) {
+        if (consumed) {
+            throw new IllegalStateException("The union is already consumed.");
+        }
+        for (ClosedRange<T> range : IntervalUtils.rangesOf(interval).asList()) {
+            buffer.add(new Entry<>(key, codec.encode(range.lower(), true), codec.encode(range.upper(), false)));
+            if (buffer.size() >= maxBufferedRanges) {
+                spill();
+            }
+        }
+    }
+
+    /**
+     * Passes the union of every key in order of keys and deletes the temporary files. It can be called only once.
+     *
+     * @throws UncheckedIOException if the runs can't be read.
+     */
+    public void forEach(BiConsumer<K, Interval<T>> consumer) {
+        if (consumed) {
+            throw new IllegalStateException("The union is already consumed.");
+        }
+        consumed = true;
+        sortBuffer();
+        PriorityQueue<Run<K>> queue = new PriorityQueue<>((first, second) -> first.key.compareTo(second.key));
+        List<Run<K>> opened = new ArrayList<>(runs.size() + 1);
+        try {
+            opened.add(new BufferRun<>(buffer));
+            for (Path path : runs) {
+                opened.add(new FileRun<>(path, keySerializer));
+            }
+            for (Run<K> run : opened) {
+                if (run.advance()) {
+                    queue.add(run);
+                }
+            }
+
+            List<long[]> ranges = new ArrayList<>();
+            while (!queue.isEmpty()) {
+                K key = queue.peek().key;
+                ranges.clear();
+                while (!queue.isEmpty() && queue.peek().key.compareTo(key) == 0) {
+                    Run<K> run = queue.poll();
+                    for (int i = 0; i < run.endpoints.length; i += 2) {
+                        ranges.add(new long[]{run.endpoints[i], run.endpoints[i + 1]});
+                    }
+                    if (run.advance()) {
+                        queue.add(run);
+                    }
+                }
+                consumer.accept(key, IntervalUtils.newInterval(decode(merge(ranges))));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+            closeAll(opened);
+            close();
+        }
+    }
+
+    /**
+     * Deletes the temporary files.
+     */
+    @Override
+    public void close() {
+        for (Path run : runs) {
+            try {
+                Files.deleteIfExists(run);
+            } catch (IOException ignored) {
+                // the file is in the temporary directory, so it is deleted eventually
+            }
+        }
+        runs.clear();
+    }
+
+    private void spill() {
+        sortBuffer();
+        Path path = null;
+        try {
+            path = Files.createTempFile(directory, "libinterval-union-", ".run");
+            runs.add(path);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+                int start = 0;
+                while (start < buffer.size()) {
+                    int end = start + 1;
+                    while (end < buffer.size() && buffer.get(end).key.compareTo(buffer.get(start).key) == 0) {
+                        end++;
+                    }
+                    writeGroup(out, start, end);
+                    start = end;
+                }
+                out.writeBoolean(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't spill ranges to " + (path == null ? directory : path) + ".", e);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes the key and the merged ranges of the entries which have the same key.
+     */
+    private void writeGroup(DataOutput out, int start, int end) throws IOException {
+        List<long[]> ranges = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            ranges.add(new long[]{buffer.get(i).lower, buffer.get(i).upper});
+        }
+        long[] endpoints = merge(ranges);
+        out.writeBoolean(true);
+        keySerializer.write(buffer.get(start).key, out);
+        EpochRangeFormat.write(out, endpoints, endpoints.length / 2);
+    }
+
+    private void sortBuffer() {
+        buffer.sort((first, second) -> {
+            int keyComparison = first.key.compareTo(second.key);
+            return keyComparison != 0 ? keyComparison : Long.compare(first.lower, second.lower);
+        });
+    }
+
+    /**
+     * Merges the ranges which have common values, like {@link ClosedRangeSet#unionOf(java.util.Collection)}.
+     *
+     * @return lower and upper endpoints of the merged ranges.
+     */
+    private static long[] merge(List<long[]> ranges) {
+        ranges.sort(BY_LOWER);
+        long[] endpoints = new long[2 * ranges.size()];
+        int count = 0;
+        for (long[] range : ranges) {
+            if (count > 0 && range[0] <= endpoints[2 * count - 1]) {
+                endpoints[2 * count - 1] = Math.max(endpoints[2 * count - 1], range[1]);
+            } else {
+                endpoints[2 * count] = range[0];
+                endpoints[2 * count + 1] = range[1];
+                count++;
+            }
+        }
+        return Arrays.copyOf(endpoints, 2 * count);
+    }
+
+    private ClosedRangeSet<T> decode(long[] endpoints) {
+        List<ClosedRange<T>> ranges = new ArrayList<>(endpoints.length / 2);
+        for (int i = 0; i < endpoints.length; i += 2) {
+            ranges.add(ClosedRange.of(codec.decode(endpoints[i]), codec.decode(endpoints[i + 1])));
+        }
+        return ClosedRangeSet.copyOfSorted(ranges);
+    }
+
+    private static <K extends Comparable<? super K>> void closeAll(List<Run<K>> runs) {
+        for (Run<K> run : runs) {
+            try {
+                run.close();
+            } catch (IOException ignored) {
+                // the run is already read or failed
+            }
+        }
+    }
+
+    /**
+     * Writes and reads keys of spilled runs.
+     */
+    public interface KeySerializer<K> {
+
+        void write(K key, DataOutput out) throws IOException;
+
+        K read(DataInput in) throws IOException;
+
+        static KeySerializer<Long> longs() {
+            return new KeySerializer<Long>() {
+                @Override
+                public void write(Long key, DataOutput out) throws IOException {
+                    out.writeLong(key);
+                }
+
+                @Override
+                public Long read(DataInput in) throws IOException {
+                    return in.readLong();
+                }
+            };
+        }
+
+        static KeySerializer<String> strings() {
+            return new KeySerializer<String>() {
+                @Override
+                public void write(String key, DataOutput out) throws IOException {
+                    out.writeUTF(key);
+                }
+
+                @Override
+                public String read(DataInput in) throws IOException {
+                    return in.readUTF();
+                }
+            };
+        }
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long lower;
+        private final long upper;
+
+        private Entry(K key, long lower, long upper) {
+            this.key = key;
+            this.lower = lower;
+            this.upper = upper;
+        }
+    }
+
+    /**
+     * Sorted groups of ranges by key.
+     */
+    private abstract static class Run<K> implements Closeable {
+        K key;
+        long[] endpoints;
+
+        /**
+         * Moves to the next key.
+         *
+         * @return false if there are no more keys.
+         */
+        abstract boolean advance() throws IOException;
+    }
+
+    /**
+     * Sorted buffer which wasn't spilled.
+     */
+    private static final class BufferRun<K extends Comparable<? super K>> extends Run<K> {
+        private final List<Entry<K>> entries;
+        private int index;
+
+        private BufferRun(List<Entry<K>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        boolean advance() {
+            if (index >= entries.size()) {
+                return false;
+            }
+            key = entries.get(index).key;
+            int end = index + 1;
+            while (end < entries.size() && entries.get(end).key.compareTo(key) == 0) {
+                end++;
+            }
+            endpoints = new long[2 * (end - index)];
+            for (int i = index; i < end; i++) {
+                endpoints[2 * (i - index)] = entries.get(i).lower;
+                endpoints[2 * (i - index) + 1] = entries.get(i).upper;
+            }
+            index = end;
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class FileRun<K> extends Run<K> {
+        private final DataInputStream in;
+        private final KeySerializer<K> keySerializer;
+
+        private FileRun(Path path, KeySerializer<K> keySerializer) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+            this.keySerializer = keySerializer;
+        }
+
+        @Override
+        boolean advance() throws IOException {
+            if (!in.readBoolean()) {
+                return false;
+            }
+            key = keySerializer.read(in);
+            endpoints = EpochRangeFormat.read(in, Integer.MAX_VALUE / 2);
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
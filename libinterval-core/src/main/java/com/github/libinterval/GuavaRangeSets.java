@@ -0,0 +1,63 @@
+package com.github.libinterval;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adapter between {@link ClosedRangeSet} and Guava range sets. It is the only class of the core which uses Guava,
+ * so Guava is loaded only if {@link Interval#getRangeSet()} is called.
+ *
+ * @since 18-Oct-2026
+ */
+class GuavaRangeSets {
+
+    static <T extends Comparable<?> & Temporal> ImmutableRangeSet<T> toRangeSet(ClosedRangeSet<T> rangeSet) {
+        ImmutableRangeSet.Builder<T> builder = ImmutableRangeSet.builder();
+        for (ClosedRange<T> range : rangeSet.asList()) {
+            builder.add(toRange(range));
+        }
+        return builder.build();
+    }
+
+    static <T extends Comparable<?> & Temporal> Range<T> toRange(ClosedRange<T> range) {
+        if (range.hasLowerBound() && range.hasUpperBound()) {
+            return Range.closed(range.lowerEndpoint(), range.upperEndpoint());
+        } else if (range.hasLowerBound()) {
+            return Range.atLeast(range.lowerEndpoint());
+        } else if (range.hasUpperBound()) {
+            return Range.atMost(range.upperEndpoint());
+        }
+        return Range.all();
+    }
+
+    /**
+     * Converts ranges of an interval of unknown implementation. Open endpoints are converted to closed ones
+     * with the default discrete domain.
+     */
+    static <T extends Comparable<?> & Temporal> ClosedRangeSet<T> rangesOf(Interval<T> interval) {
+        ComparableTemporalDiscreteDomain<T> domain = DefaultComparableTemporalDiscreteDomain.instance();
+        List<ClosedRange<T>> ranges = new ArrayList<>();
+        for (Range<T> range : interval.getRangeSet().asRanges()) {
+            T lower = null;
+            T upper = null;
+            if (range.hasLowerBound()) {
+                lower = range.lowerBoundType() == BoundType.CLOSED ? range.lowerEndpoint() : domain.next(range.lowerEndpoint());
+            }
+            if (range.hasUpperBound()) {
+                upper = range.upperBoundType() == BoundType.CLOSED ? range.upperEndpoint() : domain.previous(range.upperEndpoint());
+            }
+            if (ClosedRange.startsNotAfter(lower, upper)) {
+                ranges.add(ClosedRange.of(lower, upper));
+            }
+        }
+        return ClosedRangeSet.unionOf(ranges);
+    }
+
+    private GuavaRangeSets() {
+    }
+}
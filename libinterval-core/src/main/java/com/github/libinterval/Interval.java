@@ -1,20 +1,26 @@
 package com.github.libinterval;
 
 import com.google.common.collect.ImmutableRangeSet;
-import com.google.common.collect.Range;
-import com.google.common.collect.Streams;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalUnit;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.github.libinterval.TemporalConverters.convertLowerEndpoint;
 import static com.github.libinterval.TemporalConverters.convertUpperEndpoint;
@@ -53,18 +59,7 @@ public interface Interval<T extends Comparable<?> & Temporal> {
      * @return [[lowerEndpoint..upperEndpoint]]
      */
     static <T extends Comparable<?> & Temporal> Interval<T> between(T lowerEndpoint, T upperEndpoint) {
-        Range<T> range;
-        if (lowerEndpoint != null && upperEndpoint != null) {
-            range = Range.closed(lowerEndpoint, upperEndpoint);
-        } else if (lowerEndpoint != null) {
-            range = Range.atLeast(lowerEndpoint);
-        } else if (upperEndpoint != null) {
-            range = Range.atMost(upperEndpoint);
-        } else {
-            range = Range.all();
-        }
-
-        return new IntervalImpl<>(ImmutableRangeSet.of(range));
+        return new IntervalImpl<>(ClosedRangeSet.of(ClosedRange.of(lowerEndpoint, upperEndpoint)));
     }
 
     /**
@@ -72,7 +67,7 @@ public interface Interval<T extends Comparable<?> & Temporal> {
      * @return [[lowerEndpoint..+∞)].
      */
     static <T extends Comparable<?> & Temporal> Interval<T> atLeast(T lowerEndpoint) {
-        return new IntervalImpl<>(ImmutableRangeSet.of(Range.atLeast(lowerEndpoint)));
+        return new IntervalImpl<>(ClosedRangeSet.of(ClosedRange.of(Objects.requireNonNull(lowerEndpoint), null)));
     }
 
     /**
@@ -80,7 +75,7 @@ public interface Interval<T extends Comparable<?> & Temporal> {
      * @return [(- ∞ ..upperEndpoint]].
      */
     static <T extends Comparable<?> & Temporal> Interval<T> atMost(T upperEndpoint) {
-        return new IntervalImpl<>(ImmutableRangeSet.of(Range.atMost(upperEndpoint)));
+        return new IntervalImpl<>(ClosedRangeSet.of(ClosedRange.of(null, Objects.requireNonNull(upperEndpoint))));
     }
 
     /**
@@ -89,7 +84,8 @@ public interface Interval<T extends Comparable<?> & Temporal> {
      * @return [[lowerEndpoint..upperEndpoint]]
      */
     static <T extends Comparable<?> & Temporal> Interval<T> closed(T lowerEndpoint, T upperEndpoint) {
-        return new IntervalImpl<>(ImmutableRangeSet.of(Range.closed(lowerEndpoint, upperEndpoint)));
+        return new IntervalImpl<>(ClosedRangeSet.of(
+                ClosedRange.of(Objects.requireNonNull(lowerEndpoint), Objects.requireNonNull(upperEndpoint))));
     }
 
     /**
@@ -104,7 +100,7 @@ public interface Interval<T extends Comparable<?> & Temporal> {
     }
 
     static <T extends Comparable<?> & Temporal> Interval<T> intersectionOf(Iterable<Interval<T>> intervals) {
-        return IntervalUtils.intersection(Streams.stream(intervals));
+        return IntervalUtils.intersection(StreamSupport.stream(intervals.spliterator(), false));
     }
 
     /**
@@ -121,20 +117,19 @@ public interface Interval<T extends Comparable<?> & Temporal> {
     }
 
     static <T extends Comparable<?> & Temporal> Interval<T> unionOf(Iterable<Interval<T>> intervals) {
-        return IntervalUtils.union(Streams.stream(intervals));
+        return IntervalUtils.union(StreamSupport.stream(intervals.spliterator(), false));
     }
 
     static <T extends Comparable<?> & Temporal, V> Interval<T> unionOf(Function<V, Interval<T>> getIntervalFunction, Iterable<V> intervals) {
-        return IntervalUtils.union(Streams.stream(intervals).map(getIntervalFunction));
+        return IntervalUtils.union(StreamSupport.stream(intervals.spliterator(), false).map(getIntervalFunction));
     }
 
     static <T extends Comparable<?> & Temporal> Interval<T> all() {
-        ImmutableRangeSet<T> all = ImmutableRangeSet.of(Range.all());
-        return new IntervalImpl<>(all);
+        return new IntervalImpl<>(ClosedRangeSet.of(ClosedRange.all()));
     }
 
     static <T extends Comparable<?> & Temporal> Interval<T> none() {
-        return new IntervalImpl<>(ImmutableRangeSet.of());
+        return new IntervalImpl<>(ClosedRangeSet.of());
     }
 
     /**
@@ -206,9 +201,148 @@ public interface Interval<T extends Comparable<?> & Temporal> {
 
     long count(TemporalUnit temporalUnit);
 
+    /**
+     * Counts the units of the interval within the window like {@link #count(TemporalUnit)} of their intersection,
+     * e.g. the count of days of [[2018-01-01..2018-01-10], [2018-01-20..2018-01-31]] within [[2018-01-05..2018-01-25]]
+     * is 12. The cumulative counts of the sub intervals are computed once and kept by the interval for the last used unit,
+     * so the count costs O(log n) and no intermediate intervals are created. Implementations of the interval
+     * outside of this library don't keep them, so every call costs O(n) for them.
+     *
+     * @throws IllegalStateException if the interval is unbounded.
+     */
+    default long count(TemporalUnit temporalUnit, Interval<T> window) {
+        CountIndex<T> index = IntervalUtils.rangesOf(this).countIndex(temporalUnit);
+        long count = 0;
+        for (ClosedRange<T> range : IntervalUtils.rangesOf(window).asList()) {
+            count += index.count(range);
+        }
+        return count;
+    }
+
+    /**
+     * Finds the n-th unit of the interval in O(log n) with the counts of {@link #count(TemporalUnit, Interval)},
+     * e.g. the 5th day of [[2018-01-01..2018-01-03], [2018-01-10..2018-01-31]] with zero-based index 4 is 2018-01-11.
+     *
+     * @param n - zero-based index of the unit.
+     * @return start of the unit or empty if the interval has fewer units.
+     * @throws IllegalStateException if the interval is unbounded.
+     */
+    default Optional<T> nth(TemporalUnit temporalUnit, long n) {
+        return Optional.ofNullable(IntervalUtils.rangesOf(this).countIndex(temporalUnit).nth(n));
+    }
+
+    /**
+     * Finds the zero-based index of the unit which contains the value in O(log n), so it is the opposite
+     * of {@link #nth(TemporalUnit, long)} and uses the same counts. If the interval doesn't contain the value,
+     * it is the count of units before the value.
+     *
+     * @throws IllegalStateException if the interval is unbounded.
+     */
+    default long rankOf(TemporalUnit temporalUnit, T t) {
+        return IntervalUtils.rangesOf(this).countIndex(temporalUnit).rankOf(t);
+    }
+
+    /**
+     * Finds the values which were added and removed by the newer version of the interval in one walk over both of them,
+     * e.g. the delta from [[2018-01-01..2018-01-10]] to [[2018-01-05..2018-01-15]] added [[2018-01-11..2018-01-15]]
+     * and removed [[2018-01-01..2018-01-04]]. It is the same as the differences of the intervals in both directions.
+     */
+    default IntervalDelta<T> delta(Interval<T> newer) {
+        return IntervalDelta.between(IntervalUtils.rangesOf(this), IntervalUtils.rangesOf(newer));
+    }
+
+    /**
+     * Splits the interval into parts which contain (almost) the same number of temporal units.
+     * Gaps are not counted, so the parts don't necessarily have the same calendar length. E.g:
+     * partition of [[2018-01-01..2018-01-02], [2018-03-01..2018-03-04]] into 2 parts by days is
+     * [[2018-01-01..2018-01-02], [2018-03-01..2018-03-01]] and [[2018-03-02..2018-03-04]].
+     *
+     * @param n            - number of parts, must be positive.
+     * @param temporalUnit - unit used to measure the parts.
+     * @return exactly n parts ordered by time. Part k (counted from zero) ends before unit floor(total * (k + 1) / n)
+     * of the interval, so the larger parts and, if the interval has less than n units, the empty parts are spread
+     * evenly, e.g. 3 units into 5 parts gives parts of 0, 1, 0, 1 and 1 units.
+     */
+    default List<Interval<T>> partition(int n, TemporalUnit temporalUnit) {
+        return IntervalUtils.rangesOf(this).partition(n, temporalUnit).stream()
+                .map(IntervalUtils::newInterval)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Computes which part of each calendar bucket is covered by the interval in one walk over its sub intervals, e.g.
+     * rollup of [[2018-01-20..2018-02-10]] by months and days is 2018-01 covered for 12/31 days and 2018-02 for 10/28 days.
+     * Only the buckets which have at least one value of the interval are returned.
+     *
+     * @param coarse - unit of the buckets: years, months, weeks starting on Monday, days or time units.
+     * @param fine   - unit of the counts.
+     * @return buckets ordered by time.
+     * @throws IllegalStateException if the interval is unbounded.
+     * @throws IllegalArgumentException if the bucket unit isn't supported by the endpoints, e.g. weeks of months.
+     */
+    default Stream<CoverageBucket<T>> rollup(TemporalUnit coarse, TemporalUnit fine) {
+        return CoverageBucket.rollup(IntervalUtils.rangesOf(this), coarse, fine).stream();
+    }
+
+    /**
+     * Splits the amount between calendar buckets in proportion to the covered counts, e.g. proration of 100 over
+     * [[2018-01-22..2018-02-10]] by days and months is 50 for 2018-01-01 and 50 for 2018-02-01. The shares are computed
+     * from the lengths of sub intervals in one walk, without iterating the values. The amount isn't divisible exactly
+     * in general, so the rest is given one by one to the buckets with the largest remainders, the earlier bucket first,
+     * and the shares always sum up to the amount.
+     *
+     * @param weightUnit - unit of the counts, e.g. days.
+     * @param bucketUnit - unit of the buckets, see {@link #rollup(TemporalUnit, TemporalUnit)}.
+     * @return shares by the first value of the bucket, ordered by time.
+     * @throws IllegalStateException if the interval is unbounded.
+     */
+    default SortedMap<T, Long> prorate(long amount, TemporalUnit weightUnit, TemporalUnit bucketUnit) {
+        SortedMap<T, BigInteger> shares = CoverageBucket.prorate(IntervalUtils.rangesOf(this), BigInteger.valueOf(amount),
+                weightUnit, bucketUnit);
+        SortedMap<T, Long> result = new TreeMap<>(shares.comparator());
+        shares.forEach((start, share) -> result.put(start, share.longValue()));
+        return result;
+    }
+
+    /**
+     * Splits the amount like {@link #prorate(long, TemporalUnit, TemporalUnit)} in units of the last digit
+     * of the amount, e.g. cents of 100.00.
+     */
+    default SortedMap<T, BigDecimal> prorate(BigDecimal amount, TemporalUnit weightUnit, TemporalUnit bucketUnit) {
+        SortedMap<T, BigInteger> shares = CoverageBucket.prorate(IntervalUtils.rangesOf(this), amount.unscaledValue(),
+                weightUnit, bucketUnit);
+        SortedMap<T, BigDecimal> result = new TreeMap<>(shares.comparator());
+        shares.forEach((start, share) -> result.put(start, new BigDecimal(share, amount.scale())));
+        return result;
+    }
+
+    /**
+     * Finds relation of Allen's interval algebra of this interval to the other one, e.g. the relation of
+     * [[2018-01-01..2018-01-05]] to [[2018-01-06..2018-01-10]] is {@link AllenRelation#MEETS}.
+     * Intervals with gaps are related by their spans.
+     *
+     * @throws IllegalStateException if any of the intervals is empty.
+     */
+    default AllenRelation relationTo(Interval<T> interval) {
+        return AllenRelation.of(this, interval);
+    }
+
+    /**
+     * @param temporalUnit - unit used to check adjacency of the intervals.
+     * @see #relationTo(Interval)
+     */
+    default AllenRelation relationTo(Interval<T> interval, TemporalUnit temporalUnit) {
+        return AllenRelation.of(this, interval, temporalUnit);
+    }
+
     boolean isPresent();
 
     Optional<Interval<T>> getNotNoneInterval();
 
+    /**
+     * Guava is an optional dependency of the library, so it must be on the classpath to call this method.
+     *
+     * @return ranges of the interval as Guava range set.
+     */
     ImmutableRangeSet<T> getRangeSet();
 }
@@ -0,0 +1,56 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Mutable input of {@link IntervalExpression}s. Every change recomputes the dependent expressions
+ * and notifies their listeners before it returns.
+ *
+ * @since 18-Oct-2026
+ */
+public final class IntervalCell<T extends Comparable<?> & Temporal> extends IntervalExpression<T> {
+
+    public IntervalCell() {
+        super(Collections.emptyList());
+    }
+
+    public IntervalCell(Interval<T> initial) {
+        this();
+        for (ClosedRange<T> range : IntervalUtils.rangesOf(initial).asList()) {
+            value.add(range);
+        }
+    }
+
+    public void add(Interval<T> interval) {
+        List<ClosedRange<T>> added = new ArrayList<>();
+        List<ClosedRange<T>> removed = new ArrayList<>();
+        for (ClosedRange<T> range : IntervalUtils.rangesOf(interval).asList()) {
+            replace(range, ClosedRangeSet.of(range), added, removed);
+        }
+        propagate(added, removed);
+    }
+
+    public void remove(Interval<T> interval) {
+        List<ClosedRange<T>> added = new ArrayList<>();
+        List<ClosedRange<T>> removed = new ArrayList<>();
+        for (ClosedRange<T> range : IntervalUtils.rangesOf(interval).asList()) {
+            replace(range, ClosedRangeSet.of(), added, removed);
+        }
+        propagate(added, removed);
+    }
+
+    public void set(Interval<T> interval) {
+        List<ClosedRange<T>> added = new ArrayList<>();
+        List<ClosedRange<T>> removed = new ArrayList<>();
+        replace(ClosedRange.all(), IntervalUtils.rangesOf(interval), added, removed);
+        propagate(added, removed);
+    }
+
+    @Override
+    void recompute(ClosedRange<?> changed, List<ClosedRange<T>> added, List<ClosedRange<T>> removed) {
+        throw new IllegalStateException("Cell doesn't depend on other expressions.");
+    }
+}
@@ -0,0 +1,196 @@
+package com.github.libinterval;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.Temporal;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.github.libinterval.EpochCodec.NEGATIVE_INFINITY;
+import static com.github.libinterval.EpochCodec.POSITIVE_INFINITY;
+
+/**
+ * Immutable column of single range intervals, e.g. validity periods of millions of contracts.
+ * The endpoints are stored in two primitive arrays as numbers of days, months or nanoseconds since 1970, and unbounded
+ * endpoints as {@link Long#MIN_VALUE} and {@link Long#MAX_VALUE}. So batch predicates are simple loops over the arrays
+ * without branches and objects, and {@link Interval} views are created only on demand. E.g:
+ * <pre>{@code
+ * IntervalColumn<LocalDate> periods = IntervalColumn.ofDates(contracts.stream().map(Contract::getPeriod).collect(toList()));
+ * BitSet activeInJanuary = periods.overlaps(Interval.closed(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 31)));
+ * }</pre>
+ *
+ * @since 18-Oct-2026
+ */
+public final class IntervalColumn<T extends Comparable<?> & Temporal> {
+    private static final long NANOS_PER_DAY = 86_400_000_000_000L;
+
+    private final EpochCodec<T> codec;
+    private final long[] lowers;
+    private final long[] uppers;
+
+    private IntervalColumn(EpochCodec<T> codec, Collection<Interval<T>> intervals) {
+        this.codec = codec;
+        this.lowers = new long[intervals.size()];
+        this.uppers = new long[intervals.size()];
+        int i = 0;
+        for (Interval<T> interval : intervals) {
+            ClosedRangeSet<T> rangeSet = IntervalUtils.rangesOf(interval);
+            if (rangeSet.size() != 1) {
+                throw new IllegalArgumentException("Interval " + interval + " should have exactly one sub interval.");
+            }
+            ClosedRange<T> range = rangeSet.get(0);
+            lowers[i] = codec.encode(range.lower(), true);
+            uppers[i] = codec.encode(range.upper(), false);
+            i++;
+        }
+    }
+
+    /**
+     * @param intervals - intervals which have exactly one sub interval each.
+     * @throws IllegalArgumentException if any of the intervals is empty or has gaps.
+     */
+    public static IntervalColumn<LocalDate> ofDates(Collection<Interval<LocalDate>> intervals) {
+        return new IntervalColumn<>(EpochCodec.DAYS, intervals);
+    }
+
+    /**
+     * @param intervals - intervals which have exactly one sub interval each.
+     * @throws IllegalArgumentException if any of the intervals is empty or has gaps.
+     */
+    public static IntervalColumn<YearMonth> ofMonths(Collection<Interval<YearMonth>> intervals) {
+        return new IntervalColumn<>(EpochCodec.MONTHS, intervals);
+    }
+
+    /**
+     * Endpoints are stored with nanosecond precision, so they must be between years 1677 and 2262.
+     *
+     * @param intervals - intervals which have exactly one sub interval each.
+     * @throws IllegalArgumentException if any of the intervals is empty, has gaps or its endpoints are out of range.
+     */
+    public static IntervalColumn<LocalDateTime> ofDateTimes(Collection<Interval<LocalDateTime>> intervals) {
+        return new IntervalColumn<>(EpochCodec.NANOS, intervals);
+    }
+
+    public int size() {
+        return lowers.length;
+    }
+
+    /**
+     * @return view of the i-th interval.
+     */
+    public Interval<T> get(int index) {
+        return new IntervalImpl<>(ClosedRangeSet.of(ClosedRange.of(codec.decode(lowers[index]), codec.decode(uppers[index]))));
+    }
+
+    public Stream<Interval<T>> stream() {
+        return IntStream.range(0, size()).mapToObj(this::get);
+    }
+
+    /**
+     * @return indexes of the intervals which have at least one common value with the given interval.
+     */
+    public BitSet overlaps(Interval<T> interval) {
+        long[] words = new long[wordCount()];
+        for (ClosedRange<T> range : IntervalUtils.rangesOf(interval).asList()) {
+            long lower = codec.encode(range.lower(), true);
+            long upper = codec.encode(range.upper(), false);
+            for (int i = 0; i < lowers.length; i++) {
+                words[i >>> 6] |= (lowers[i] <= upper & uppers[i] >= lower ? 1L : 0L) << i;
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * @return indexes of the intervals which contain the value.
+     */
+    public BitSet contains(T value) {
+        long encoded = codec.encode(Objects.requireNonNull(value), true);
+        long[] words = new long[wordCount()];
+        for (int i = 0; i < lowers.length; i++) {
+            words[i >>> 6] |= (lowers[i] <= encoded & uppers[i] >= encoded ? 1L : 0L) << i;
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * @return indexes of the intervals which contain all the values of the given interval, all indexes if it is none.
+     */
+    public BitSet encloses(Interval<T> interval) {
+        ClosedRangeSet<T> ranges = IntervalUtils.rangesOf(interval);
+        if (ranges.isEmpty()) {
+            BitSet all = new BitSet(size());
+            all.set(0, size());
+            return all;
+        }
+        ClosedRange<T> span = ranges.span();
+        long lower = codec.encode(span.lower(), true);
+        long upper = codec.encode(span.upper(), false);
+        long[] words = new long[wordCount()];
+        for (int i = 0; i < lowers.length; i++) {
+            words[i >>> 6] |= (lowers[i] <= lower & uppers[i] >= upper ? 1L : 0L) << i;
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * @return number of days of each interval, counted like {@link Interval#countDays()}.
+     * @throws IllegalStateException if any of the intervals is unbounded.
+     * @throws UnsupportedTemporalTypeException if the column has months, which don't have days.
+     */
+    public long[] countDays() {
+        if (codec == EpochCodec.MONTHS) {
+            throw new UnsupportedTemporalTypeException("Months can't be counted in days.");
+        }
+        for (int i = 0; i < lowers.length; i++) {
+            if (lowers[i] == NEGATIVE_INFINITY || uppers[i] == POSITIVE_INFINITY) {
+                checkBounded(i);
+            }
+        }
+
+        long[] counts = new long[lowers.length];
+        if (codec == EpochCodec.DAYS) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = uppers[i] - lowers[i] + 1;
+            }
+            return counts;
+        }
+        // whole days between the date-times, the difference of nanoseconds may overflow
+        for (int i = 0; i < counts.length; i++) {
+            long days = Math.floorDiv(uppers[i], NANOS_PER_DAY) - Math.floorDiv(lowers[i], NANOS_PER_DAY);
+            long nanos = Math.floorMod(uppers[i], NANOS_PER_DAY) - Math.floorMod(lowers[i], NANOS_PER_DAY);
+            counts[i] = days + (nanos >> 63) + 1;
+        }
+        return counts;
+    }
+
+    private void checkBounded(int index) {
+        if (lowers[index] == NEGATIVE_INFINITY) {
+            throw IntervalUtils.newInvalidLowerBoundException(get(index));
+        }
+        if (uppers[index] == POSITIVE_INFINITY) {
+            throw IntervalUtils.newInvalidUpperBoundException(get(index));
+        }
+    }
+
+    private int wordCount() {
+        return (lowers.length + 63) >>> 6;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < lowers.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(get(i));
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,237 @@
+package com.github.libinterval;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.libinterval.IntervalUtils.compare;
+
+/**
+ * Change of an interval: the values which were added and the values which were removed. They never intersect.
+ * The change can be stored or sent as a compact changelog and applied to the older interval later, e.g:
+ * <pre>{@code
+ * byte[] changelog = stored.delta(current).toChangelog();
+ * Interval<LocalDate> synced = IntervalDelta.fromChangelog(changelog, LocalDate.class).applyTo(replica);
+ * }</pre>
+ * The changelog stores the endpoints as differences from the previous endpoint in variable length numbers,
+ * so nearby ranges take a few bytes each. It supports {@link LocalDate}, {@link YearMonth} and {@link LocalDateTime}.
+ *
+ * @see IntervalExpression#addListener(java.util.function.Consumer)
+ * @see Interval#delta(Interval)
+ * @since 18-Oct-2026
+ */
+public final class IntervalDelta<T extends Comparable<?> & Temporal> {
+    private static final List<Class<?>> CHANGELOG_TYPES = Arrays.asList(LocalDate.class, YearMonth.class, LocalDateTime.class);
+    private static final List<EpochCodec<?>> CHANGELOG_CODECS = Arrays.asList(EpochCodec.DAYS, EpochCodec.MONTHS, EpochCodec.NANOS);
+    /**
+     * Type of changelog which has only infinite endpoints, so it can be read as any type.
+     */
+    private static final int ANY_TYPE = 0x7F;
+
+    private final Interval<T> added;
+    private final Interval<T> removed;
+
+    IntervalDelta(ClosedRangeSet<T> added, ClosedRangeSet<T> removed) {
+        this.added = new IntervalImpl<>(added);
+        this.removed = new IntervalImpl<>(removed);
+    }
+
+    /**
+     * Finds both sides of the change in one walk over the sorted ranges of both intervals.
+     * The result is the same as the differences of the intervals.
+     */
+    static <T extends Comparable<?> & Temporal> IntervalDelta<T> between(ClosedRangeSet<T> older, ClosedRangeSet<T> newer) {
+        ComparableTemporalDiscreteDomain<T> domain = DefaultComparableTemporalDiscreteDomain.instance();
+        RangeEventSource<T> olderEvents = new RangeEventSource<>(older, 1, domain);
+        RangeEventSource<T> newerEvents = new RangeEventSource<>(newer, 2, domain);
+        // 0 - in neither, 1 - only in the older, 2 - only in the newer, 3 - in both
+        int state = olderEvents.initialWeight() + newerEvents.initialWeight();
+        boolean hasOlder = olderEvents.advance();
+        boolean hasNewer = newerEvents.advance();
+
+        List<ClosedRange<T>> added = new ArrayList<>();
+        List<ClosedRange<T>> removed = new ArrayList<>();
+        T start = null;
+        while (hasOlder || hasNewer) {
+            T position = !hasNewer || hasOlder && compare(olderEvents.position, newerEvents.position) <= 0
+                    ? olderEvents.position
+                    : newerEvents.position;
+            int newState = state;
+            while (hasOlder && compare(olderEvents.position, position) == 0) {
+                newState += olderEvents.delta;
+                hasOlder = olderEvents.advance();
+            }
+            while (hasNewer && compare(newerEvents.position, position) == 0) {
+                newState += newerEvents.delta;
+                hasNewer = newerEvents.advance();
+            }
+
+            // events which don't change the state are adjacent ranges, they are kept separately like in difference
+            if (state == 1 || state == 2) {
+                (state == 1 ? removed : added).add(ClosedRange.of(start, domain.previous(position)));
+            }
+            if (newState == 1 || newState == 2) {
+                start = position;
+            }
+            state = newState;
+        }
+        if (state == 1 || state == 2) {
+            (state == 1 ? removed : added).add(ClosedRange.of(start, null));
+        }
+        return new IntervalDelta<>(ClosedRangeSet.copyOfSorted(added), ClosedRangeSet.copyOfSorted(removed));
+    }
+
+    public Interval<T> getAdded() {
+        return added;
+    }
+
+    public Interval<T> getRemoved() {
+        return removed;
+    }
+
+    public boolean isEmpty() {
+        return IntervalUtils.rangesOf(added).isEmpty() && IntervalUtils.rangesOf(removed).isEmpty();
+    }
+
+    /**
+     * @return the interval without the removed values and with the added ones.
+     */
+    public Interval<T> applyTo(Interval<T> interval) {
+        return IntervalUtils.newInterval(IntervalUtils.rangesOf(interval)
+                .difference(IntervalUtils.rangesOf(removed), RangeConverter.defaultInstance())
+                .union(IntervalUtils.rangesOf(added)));
+    }
+
+    /**
+     * @return compact binary form of the delta.
+     * @throws IllegalArgumentException if the type of endpoints isn't supported.
+     */
+    public byte[] toChangelog() {
+        ClosedRangeSet<T> addedRanges = IntervalUtils.rangesOf(added);
+        ClosedRangeSet<T> removedRanges = IntervalUtils.rangesOf(removed);
+        T sample = findEndpoint(addedRanges);
+        if (sample == null) {
+            sample = findEndpoint(removedRanges);
+        }
+        int type = sample == null ? ANY_TYPE : CHANGELOG_TYPES.indexOf(sample.getClass());
+        if (type < 0) {
+            throw new IllegalArgumentException("Changelog doesn't support " + sample.getClass().getName() + ".");
+        }
+        @SuppressWarnings("unchecked")
+        EpochCodec<T> codec = (EpochCodec<T>) CHANGELOG_CODECS.get(type == ANY_TYPE ? 0 : type);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type);
+            writeRanges(out, addedRanges, codec);
+            writeRanges(out, removedRanges, codec);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param type - type of endpoints, it should be the same as the type of the delta which created the changelog.
+     * @throws IllegalArgumentException if the changelog is malformed or has another type.
+     */
+    public static <T extends Comparable<?> & Temporal> IntervalDelta<T> fromChangelog(byte[] changelog, Class<T> type) {
+        int typeIndex = CHANGELOG_TYPES.indexOf(type);
+        if (typeIndex < 0) {
+            throw new IllegalArgumentException("Changelog doesn't support " + type.getName() + ".");
+        }
+        if (changelog.length == 0 || changelog[0] != typeIndex && changelog[0] != ANY_TYPE) {
+            throw new IllegalArgumentException("Changelog doesn't contain " + type.getName() + ".");
+        }
+        @SuppressWarnings("unchecked")
+        EpochCodec<T> codec = (EpochCodec<T>) CHANGELOG_CODECS.get(typeIndex);
+        ByteArrayInputStream bytes = new ByteArrayInputStream(changelog, 1, changelog.length - 1);
+        try (DataInputStream in = new DataInputStream(bytes)) {
+            ClosedRangeSet<T> added = readRanges(in, changelog.length, codec);
+            ClosedRangeSet<T> removed = readRanges(in, changelog.length, codec);
+            if (bytes.available() > 0) {
+                throw new IllegalArgumentException("Changelog has " + bytes.available() + " unexpected bytes.");
+            }
+            return new IntervalDelta<>(added, removed);
+        } catch (EOFException e) {
+            throw new IllegalArgumentException("Changelog is truncated.", e);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Changelog is malformed.", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IntervalDelta{added=" + added + ", removed=" + removed + "}";
+    }
+
+    private static <T extends Comparable<?> & Temporal> T findEndpoint(ClosedRangeSet<T> ranges) {
+        for (ClosedRange<T> range : ranges.asList()) {
+            if (range.hasLowerBound()) {
+                return range.lowerEndpoint();
+            }
+            if (range.hasUpperBound()) {
+                return range.upperEndpoint();
+            }
+        }
+        return null;
+    }
+
+    private static <T extends Comparable<?> & Temporal> void writeRanges(DataOutput out,
+                                                                         ClosedRangeSet<T> ranges,
+                                                                         EpochCodec<T> codec) throws IOException {
+        long[] endpoints = new long[2 * ranges.size()];
+        for (int i = 0; i < ranges.size(); i++) {
+            endpoints[2 * i] = codec.encode(ranges.get(i).lower(), true);
+            endpoints[2 * i + 1] = codec.encode(ranges.get(i).upper(), false);
+        }
+        EpochRangeFormat.write(out, endpoints, ranges.size());
+    }
+
+    private static <T extends Comparable<?> & Temporal> ClosedRangeSet<T> readRanges(DataInput in,
+                                                                                     int maxCount,
+                                                                                     EpochCodec<T> codec) throws IOException {
+        long[] endpoints = EpochRangeFormat.read(in, maxCount);
+        checkSortedAndDisjoint(endpoints);
+        List<ClosedRange<T>> ranges = new ArrayList<>(endpoints.length / 2);
+        try {
+            for (int i = 0; i < endpoints.length; i += 2) {
+                ranges.add(ClosedRange.of(codec.decode(endpoints[i]), codec.decode(endpoints[i + 1])));
+            }
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new IllegalArgumentException("Changelog has an endpoint out of the supported range.", e);
+        }
+        return ClosedRangeSet.copyOfSorted(ranges);
+    }
+
+    /**
+     * The ranges are passed to {@link ClosedRangeSet#copyOfSorted(List)} as is, so they have to be checked here:
+     * only the first lower endpoint may be -∞, only the last upper endpoint may be +∞
+     * and every range has to start after the end of the previous one.
+     */
+    private static void checkSortedAndDisjoint(long[] endpoints) {
+        for (int i = 0; i < endpoints.length; i++) {
+            if (endpoints[i] == EpochCodec.NEGATIVE_INFINITY && i != 0
+                    || endpoints[i] == EpochCodec.POSITIVE_INFINITY && i != endpoints.length - 1) {
+                throw new IllegalArgumentException("Changelog has an infinite endpoint in the middle of the ranges.");
+            }
+            if (i > 0 && (i % 2 == 1 ? endpoints[i] < endpoints[i - 1] : endpoints[i] <= endpoints[i - 1])) {
+                throw new IllegalArgumentException("Changelog ranges aren't sorted and disjoint.");
+            }
+        }
+    }
+}
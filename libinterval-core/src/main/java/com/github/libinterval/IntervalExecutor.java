@@ -0,0 +1,278 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Runs one task per element of an interval (see {@link Interval#iterate(TemporalUnit)}) on the given executor
+ * with at most {@code maxInFlight} tasks running at the same time. It is intended for blocking I/O-bound tasks,
+ * so any executor can be used, e.g. a fixed thread pool or {@code Executors.newVirtualThreadPerTaskExecutor()}
+ * on JDK 21+. The first failed task cancels all the other tasks. E.g:
+ * <pre>{@code
+ * Map<LocalDate, Rate> rates = new IntervalExecutor<>(interval, DAYS, executor, 16)
+ *         .mapAll(day -> client.fetchRate(day))
+ *         .join();
+ * }</pre>
+ *
+ * @since 18-Oct-2026
+ */
+public class IntervalExecutor<T extends Comparable<?> & Temporal> {
+    private final Interval<T> interval;
+    private final TemporalUnit temporalUnit;
+    private final Executor executor;
+    private final int maxInFlight;
+
+    /**
+     * @param interval     - bounded interval to iterate.
+     * @param temporalUnit - step of the iteration.
+     * @param executor     - executor which runs the tasks.
+     * @param maxInFlight  - max number of tasks which are submitted but not consumed yet.
+     */
+    public IntervalExecutor(Interval<T> interval, TemporalUnit temporalUnit, Executor executor, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight + ".");
+        }
+        this.interval = Objects.requireNonNull(interval, "interval is required");
+        this.temporalUnit = Objects.requireNonNull(temporalUnit, "temporalUnit is required");
+        this.executor = Objects.requireNonNull(executor, "executor is required");
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Submits the tasks lazily: a new task is submitted only when the consumer takes a result,
+     * so no more than {@code maxInFlight} results are computed ahead of the consumer.
+     *
+     * @param task - task to run for every element.
+     * @return results in the order of the elements. If a task fails, the other tasks are cancelled
+     * and the stream throws {@link CompletionException} with the failure as a cause.
+     */
+    public <R> Stream<R> map(Function<? super T, ? extends R> task) {
+        Objects.requireNonNull(task, "task is required");
+        OrderedIterator<R> iterator = new OrderedIterator<>(interval.iterate(temporalUnit).iterator(), task);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::cancel);
+    }
+
+    /**
+     * Submits the tasks without blocking the calling thread: a new task is submitted when a running one completes.
+     *
+     * @param task - task to run for every element.
+     * @return future of the results in the order of the elements. The future completes exceptionally
+     * with the first failure; the other tasks are cancelled then. Cancelling the future cancels all the tasks.
+     */
+    public <R> CompletableFuture<Map<T, R>> mapAll(Function<? super T, ? extends R> task) {
+        Objects.requireNonNull(task, "task is required");
+        return new Submission<R>(interval.iterate(temporalUnit).collect(toList()), task).start();
+    }
+
+    private class OrderedIterator<R> implements Iterator<R> {
+        private final Function<? super T, ? extends R> task;
+        private final Deque<FutureTask<R>> window = new ArrayDeque<>();
+        private final Set<FutureTask<R>> running = ConcurrentHashMap.newKeySet();
+        private Iterator<T> elements;
+        private volatile Throwable failure;
+
+        private OrderedIterator(Iterator<T> elements, Function<? super T, ? extends R> task) {
+            this.elements = elements;
+            this.task = task;
+        }
+
+        @Override
+        public boolean hasNext() {
+            fillWindow();
+            return !window.isEmpty();
+        }
+
+        @Override
+        public R next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            FutureTask<R> head = window.poll();
+            try {
+                return head.get();
+            } catch (ExecutionException e) {
+                cancel();
+                throw new CompletionException(e.getCause());
+            } catch (CancellationException e) {
+                cancel();
+                if (failure != null) {
+                    throw new CompletionException(failure);
+                }
+                throw e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new CancellationException("The iteration is interrupted.");
+            }
+        }
+
+        private void fillWindow() {
+            while (window.size() < maxInFlight && failure == null && elements.hasNext()) {
+                T element = elements.next();
+                FutureTask<R> future = new FutureTask<R>(() -> task.apply(element)) {
+                    @Override
+                    protected void setException(Throwable t) {
+                        failure = t;
+                        super.setException(t);
+                        running.forEach(other -> other.cancel(true));
+                    }
+
+                    @Override
+                    protected void done() {
+                        running.remove(this);
+                    }
+                };
+                window.add(future);
+                running.add(future);
+                try {
+                    executor.execute(future);
+                } catch (RuntimeException e) {
+                    window.removeLast();
+                    running.remove(future);
+                    failure = e;
+                    cancel();
+                    throw new CompletionException(e);
+                }
+                if (failure != null) {
+                    future.cancel(true);
+                }
+            }
+        }
+
+        private void cancel() {
+            window.forEach(future -> future.cancel(true));
+            window.clear();
+            elements = Collections.emptyIterator();
+        }
+    }
+
+    private class Submission<R> {
+        private final List<T> elements;
+        private final Function<? super T, ? extends R> task;
+        private final Object[] results;
+        private final AtomicInteger remaining;
+        private final AtomicInteger permits = new AtomicInteger();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Set<FutureTask<R>> running = ConcurrentHashMap.newKeySet();
+        private final CompletableFuture<Map<T, R>> result = new CompletableFuture<>();
+        private int nextIndex;
+
+        private Submission(List<T> elements, Function<? super T, ? extends R> task) {
+            this.elements = elements;
+            this.task = task;
+            this.results = new Object[elements.size()];
+            this.remaining = new AtomicInteger(elements.size());
+        }
+
+        private CompletableFuture<Map<T, R>> start() {
+            if (elements.isEmpty()) {
+                result.complete(Collections.emptyMap());
+                return result;
+            }
+
+            result.whenComplete((r, e) -> {
+                if (e != null) {
+                    running.forEach(future -> future.cancel(true));
+                }
+            });
+            permits.set(Math.min(maxInFlight, elements.size()));
+            drain();
+            return result;
+        }
+
+        /**
+         * Submits a task per permit. Only one thread drains at a time: a task which completes while
+         * the loop is running (e.g. on a same-thread executor) adds its permit and leaves the submission
+         * to that loop instead of recursing into it.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                while (permits.get() > 0 && nextIndex < elements.size() && !result.isDone()) {
+                    permits.decrementAndGet();
+                    submit(nextIndex++);
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void submit(int index) {
+            T element = elements.get(index);
+            FutureTask<R> future = new FutureTask<R>(() -> task.apply(element)) {
+                @Override
+                protected void done() {
+                    running.remove(this);
+                    if (!isCancelled()) {
+                        onDone(index, this);
+                    }
+                }
+            };
+            running.add(future);
+            try {
+                executor.execute(future);
+            } catch (RuntimeException e) {
+                running.remove(future);
+                result.completeExceptionally(e);
+            }
+            if (result.isDone()) {
+                future.cancel(true);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void onDone(int index, FutureTask<R> future) {
+            try {
+                results[index] = future.get();
+            } catch (ExecutionException e) {
+                result.completeExceptionally(e.getCause());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.cancel(true);
+                return;
+            }
+
+            if (remaining.decrementAndGet() == 0) {
+                Map<T, R> map = new LinkedHashMap<>();
+                for (int i = 0; i < results.length; i++) {
+                    map.put(elements.get(i), (R) results[i]);
+                }
+                result.complete(map);
+            } else {
+                permits.incrementAndGet();
+                drain();
+            }
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.github.libinterval.ClosedRange.startsNotAfter;
+
+/**
+ * Interval which is derived from {@link IntervalCell}s and is kept up to date when they change, e.g:
+ * <pre>{@code
+ * IntervalCell<LocalDate> contracts = new IntervalCell<>(contractPeriods);
+ * IntervalCell<LocalDate> absences = new IntervalCell<>();
+ * IntervalExpression<LocalDate> working = IntervalExpression.difference(contracts, absences);
+ * working.addListener(delta -> schedule.apply(delta));
+ * absences.add(Interval.closed(from, to));    // recomputes only [from..to]
+ * }</pre>
+ * Union, intersection and difference are computed value by value, so a change of the inputs is recomputed only for
+ * the changed values, which costs O(log n) plus the number of touched ranges. Expressions are updated in order of their
+ * depth, so an expression which uses the same cell several times is recomputed once per change and listeners never
+ * see intermediate states. Adjacent ranges of expressions are merged, e.g. [2018-01-01..2018-01-02] and
+ * [2018-01-03..2018-01-04] are [2018-01-01..2018-01-04]. Expressions aren't thread-safe, and they are referenced
+ * by their inputs, so they live as long as the cells.
+ *
+ * @since 18-Oct-2026
+ */
+public abstract class IntervalExpression<T extends Comparable<?> & Temporal> {
+    private static final Comparator<IntervalExpression<?>> BY_HEIGHT = Comparator.comparingInt(expression -> expression.height);
+
+    final MutableRangeSet<T> value =
+            new MutableRangeSet<>(new TreeSet<>(MutableRangeSet.lowerBoundComparator()), DefaultComparableTemporalDiscreteDomain.instance());
+    private final int height;
+    private final List<IntervalExpression<?>> parents = new ArrayList<>();
+    private final List<Consumer<IntervalDelta<T>>> listeners = new ArrayList<>();
+    private List<ClosedRange<?>> pendingRegions;
+
+    IntervalExpression(List<? extends IntervalExpression<?>> operands) {
+        int maxHeight = -1;
+        for (IntervalExpression<?> operand : operands) {
+            maxHeight = Math.max(maxHeight, operand.height);
+            operand.parents.add(this);
+        }
+        this.height = maxHeight + 1;
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<?> & Temporal> IntervalExpression<T> union(IntervalExpression<T>... operands) {
+        return pointwise(Arrays.asList(operands), ClosedRangeSet::union);
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<?> & Temporal> IntervalExpression<T> intersection(IntervalExpression<T>... operands) {
+        return pointwise(Arrays.asList(operands), ClosedRangeSet::intersection);
+    }
+
+    public static <T extends Comparable<?> & Temporal> IntervalExpression<T> difference(IntervalExpression<T> minuend,
+                                                                                        IntervalExpression<T> subtrahend) {
+        return pointwise(Arrays.asList(minuend, subtrahend),
+                (first, second) -> first.difference(second, RangeConverter.defaultInstance()));
+    }
+
+    /**
+     * @param mapper - non decreasing function, e.g. {@code date -> date.plusDays(1)} or {@code YearMonth::from},
+     *               so the change of a range affects only the mapped values around it.
+     * @see Interval#map(Function)
+     */
+    public <R extends Comparable<?> & Temporal> IntervalExpression<R> map(Function<T, R> mapper) {
+        return map(mapper, mapper);
+    }
+
+    /**
+     * @param lowerEndpointMapper - non decreasing function.
+     * @param upperEndpointMapper - non decreasing function.
+     * @see Interval#map(Function, Function)
+     */
+    public <R extends Comparable<?> & Temporal> IntervalExpression<R> map(Function<T, R> lowerEndpointMapper,
+                                                                          Function<T, R> upperEndpointMapper) {
+        return initialized(new Mapped<>(this, lowerEndpointMapper, upperEndpointMapper));
+    }
+
+    /**
+     * @return snapshot of the current value.
+     */
+    public Interval<T> get() {
+        return new IntervalImpl<>(value.toRangeSet());
+    }
+
+    public boolean contains(T t) {
+        return value.contains(t);
+    }
+
+    /**
+     * @param listener - is called with the delta of this expression after every change which modifies it.
+     */
+    public void addListener(Consumer<IntervalDelta<T>> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<IntervalDelta<T>> listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public String toString() {
+        return value.toRangeSet().toString();
+    }
+
+    /**
+     * Recomputes the values of this expression which depend on the changed values of the operands.
+     *
+     * @param changed - range of changed values of an operand.
+     * @param added   - collects ranges of added values.
+     * @param removed - collects ranges of removed values.
+     */
+    abstract void recompute(ClosedRange<?> changed, List<ClosedRange<T>> added, List<ClosedRange<T>> removed);
+
+    /**
+     * Replaces the values in the region with the new ones and collects the difference.
+     */
+    final void replace(ClosedRange<T> region,
+                       ClosedRangeSet<T> newValues,
+                       List<ClosedRange<T>> added,
+                       List<ClosedRange<T>> removed) {
+        ClosedRangeSet<T> oldValues = value.slice(region);
+        for (ClosedRange<T> range : oldValues.difference(newValues, RangeConverter.defaultInstance()).asList()) {
+            value.remove(range, RangeConverter.defaultInstance());
+            removed.add(range);
+        }
+        for (ClosedRange<T> range : newValues.difference(oldValues, RangeConverter.defaultInstance()).asList()) {
+            value.add(range);
+            added.add(range);
+        }
+    }
+
+    /**
+     * Notifies the listeners and recomputes the dependent expressions in order of their depth.
+     */
+    final void propagate(List<ClosedRange<T>> added, List<ClosedRange<T>> removed) {
+        PriorityQueue<IntervalExpression<?>> queue = new PriorityQueue<>(BY_HEIGHT);
+        fire(added, removed, queue);
+        while (!queue.isEmpty()) {
+            queue.poll().update(queue);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void update(PriorityQueue<IntervalExpression<?>> queue) {
+        ClosedRangeSet<?> regions = ClosedRangeSet.unionOf((List) pendingRegions);
+        pendingRegions = null;
+        List<ClosedRange<T>> added = new ArrayList<>();
+        List<ClosedRange<T>> removed = new ArrayList<>();
+        for (ClosedRange<?> region : regions.asList()) {
+            recompute(region, added, removed);
+        }
+        fire(added, removed, queue);
+    }
+
+    private void fire(List<ClosedRange<T>> added, List<ClosedRange<T>> removed, PriorityQueue<IntervalExpression<?>> queue) {
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        IntervalDelta<T> delta = new IntervalDelta<>(ClosedRangeSet.unionOf(added), ClosedRangeSet.unionOf(removed));
+        for (Consumer<IntervalDelta<T>> listener : new ArrayList<>(listeners)) {
+            listener.accept(delta);
+        }
+        for (IntervalExpression<?> parent : parents) {
+            if (parent.pendingRegions == null) {
+                parent.pendingRegions = new ArrayList<>();
+                queue.add(parent);
+            }
+            parent.pendingRegions.addAll(added);
+            parent.pendingRegions.addAll(removed);
+        }
+    }
+
+    private static <T extends Comparable<?> & Temporal> IntervalExpression<T> pointwise(List<IntervalExpression<T>> operands,
+                                                                                        BinaryOperator<ClosedRangeSet<T>> operator) {
+        if (operands.isEmpty()) {
+            throw new IllegalArgumentException("At least one operand is required.");
+        }
+        return initialized(new Pointwise<>(operands, operator));
+    }
+
+    private static <E extends IntervalExpression<?>> E initialized(E expression) {
+        expression.recompute(ClosedRange.all(), new ArrayList<>(), new ArrayList<>());
+        return expression;
+    }
+
+    /**
+     * Expression whose every value depends only on the same value of the operands.
+     */
+    private static final class Pointwise<T extends Comparable<?> & Temporal> extends IntervalExpression<T> {
+        private final List<IntervalExpression<T>> operands;
+        private final BinaryOperator<ClosedRangeSet<T>> operator;
+
+        private Pointwise(List<IntervalExpression<T>> operands, BinaryOperator<ClosedRangeSet<T>> operator) {
+            super(operands);
+            this.operands = new ArrayList<>(operands);
+            this.operator = operator;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void recompute(ClosedRange<?> changed, List<ClosedRange<T>> added, List<ClosedRange<T>> removed) {
+            ClosedRange<T> region = (ClosedRange<T>) changed;
+            ClosedRangeSet<T> result = operands.get(0).value.slice(region);
+            for (int i = 1; i < operands.size(); i++) {
+                result = operator.apply(result, operands.get(i).value.slice(region));
+            }
+            replace(region, result, added, removed);
+        }
+    }
+
+    /**
+     * Expression of mapped ranges. The mappers are non decreasing, so the mapped ranges are sorted like the ranges
+     * and a changed range affects only the mapped values between the mapped endpoints of its connected ranges.
+     */
+    private static final class Mapped<T extends Comparable<?> & Temporal, R extends Comparable<?> & Temporal>
+            extends IntervalExpression<R> {
+        private final IntervalExpression<T> operand;
+        private final Function<T, R> lowerEndpointMapper;
+        private final Function<T, R> upperEndpointMapper;
+
+        private Mapped(IntervalExpression<T> operand, Function<T, R> lowerEndpointMapper, Function<T, R> upperEndpointMapper) {
+            super(Collections.singletonList(operand));
+            this.operand = operand;
+            this.lowerEndpointMapper = lowerEndpointMapper;
+            this.upperEndpointMapper = upperEndpointMapper;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void recompute(ClosedRange<?> changed, List<ClosedRange<R>> added, List<ClosedRange<R>> removed) {
+            ClosedRange<T> extended = operand.value.spanOfConnected((ClosedRange<T>) changed);
+            ClosedRange<R> region = map(extended);
+
+            List<ClosedRange<R>> mapped = new ArrayList<>();
+            Iterator<ClosedRange<T>> after = operand.value.ascendingFrom(extended);
+            while (after.hasNext()) {
+                ClosedRange<R> range = map(after.next());
+                if (!startsNotAfter(range.lower(), region.upper())) {
+                    break;
+                }
+                mapped.add(range.intersection(region));
+            }
+            Iterator<ClosedRange<T>> before = operand.value.descendingBefore(extended);
+            while (before.hasNext()) {
+                ClosedRange<R> range = map(before.next());
+                if (!startsNotAfter(region.lower(), range.upper())) {
+                    break;
+                }
+                mapped.add(range.intersection(region));
+            }
+            replace(region, ClosedRangeSet.unionOf(mapped), added, removed);
+        }
+
+        private ClosedRange<R> map(ClosedRange<T> range) {
+            return ClosedRange.of(range.hasLowerBound() ? lowerEndpointMapper.apply(range.lowerEndpoint()) : null,
+                    range.hasUpperBound() ? upperEndpointMapper.apply(range.upperEndpoint()) : null);
+        }
+    }
+}
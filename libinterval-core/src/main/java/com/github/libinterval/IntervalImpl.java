@@ -1,14 +1,13 @@
 package com.github.libinterval;
 
-import com.google.common.collect.DiscreteDomain;
 import com.google.common.collect.ImmutableRangeSet;
-import com.google.common.collect.Range;
-import com.google.common.collect.RangeSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -17,9 +16,10 @@ import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
+import static com.github.libinterval.IntervalUtils.compare;
 import static com.github.libinterval.IntervalUtils.newInvalidLowerBoundException;
 import static com.github.libinterval.IntervalUtils.newInvalidUpperBoundException;
-import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -29,35 +29,27 @@ import static java.util.stream.Collectors.toSet;
 class IntervalImpl<T extends Comparable<?> & Temporal> implements Interval<T> {
     private static Logger logger = LoggerFactory.getLogger(IntervalImpl.class);
 
-    private final ImmutableRangeSet<T> rangeSet;
+    private final ClosedRangeSet<T> rangeSet;
 
     @Override
     public Interval<T> difference(Interval<T> interval) {
-        logger.debug("Finding difference of " + this + " and " + interval);
+        logger.debug("Finding difference of {} and {}", this, interval);
         Interval<T> result = findDifference(interval, RangeConverter.defaultInstance());
-        logger.debug("Result of a difference of " + this + " and " + interval + " is " + result + ".");
+        logger.debug("Result of a difference of {} and {} is {}.", this, interval, result);
         return result;
     }
 
     @Override
     public Interval<T> difference(Interval<T> interval, TemporalUnit temporalUnit) {
-        logger.debug("Finding difference of " + this + " and " + interval + " with " + temporalUnit + " precision.");
-        DiscreteDomain<T> discreteDomain = new CustomComparableTemporalDiscreteDomain<>(temporalUnit);
+        logger.debug("Finding difference of {} and {} with {} precision.", this, interval, temporalUnit);
+        ComparableTemporalDiscreteDomain<T> discreteDomain = new TemporalUnitDiscreteDomain<>(temporalUnit);
         Interval<T> result = findDifference(interval, new RangeConverter<>(discreteDomain));
-        logger.debug("Result of a difference of " + this + " and " + interval + " is " + result + ".");
+        logger.debug("Result of a difference of {} and {} is {}.", this, interval, result);
         return result;
     }
 
     private Interval<T> findDifference(Interval<T> interval, RangeConverter<T> rangeConverter) {
-        ImmutableRangeSet<T> difference = this.rangeSet.difference(interval.getRangeSet());
-        return new IntervalImpl<>(convertToClosed(difference, rangeConverter));
-    }
-
-    private ImmutableRangeSet<T> convertToClosed(ImmutableRangeSet<T> difference, RangeConverter<T> rangeConverter) {
-        return difference.asRanges().stream()
-                .filter(rangeConverter::canBeConvertedToClosed)
-                .map(rangeConverter::convertToClosed)
-                .collect(collectingAndThen(toSet(), ImmutableRangeSet::copyOf));
+        return IntervalUtils.newInterval(rangeSet.difference(IntervalUtils.rangesOf(interval), rangeConverter));
     }
 
     @Override
@@ -90,29 +82,43 @@ class IntervalImpl<T extends Comparable<?> & Temporal> implements Interval<T> {
     public <R extends Comparable<?> & Temporal> Stream<R> iterate(TemporalUnit temporalUnit,
                                                                   Function<T, R> lowerEndpointMapper,
                                                                   Function<T, R> upperEndpointMapper) {
-        return subIntervalsStream()
-                .flatMap(subInterval -> {
-                    Interval<R> converted;
-
-                    if (lowerEndpointMapper == null && upperEndpointMapper == null) {
-                        converted = (Interval<R>) this;
-                    } else {
-                        Objects.requireNonNull(lowerEndpointMapper, "lowerEndpointMapper is required");
-                        Objects.requireNonNull(lowerEndpointMapper, "upperEndpointMapper is required");
-                        converted = subInterval.map(lowerEndpointMapper, upperEndpointMapper);
-                    }
-
-                    R lower = converted.findLowerEndpoint()
-                            .orElseThrow(() -> newInvalidLowerBoundException(converted));
-                    R upper = converted.findUpperEndpoint()
-                            .orElseThrow(() -> newInvalidUpperBoundException(converted));
+        List<ClosedRange<R>> convertedRanges = new ArrayList<>(rangeSet.size());
+        boolean sortedAndDisjoint = true;
+        for (ClosedRange<T> range : rangeSet.asList()) {
+            ClosedRange<R> converted;
+
+            if (lowerEndpointMapper == null && upperEndpointMapper == null) {
+                converted = (ClosedRange<R>) range;
+            } else {
+                Objects.requireNonNull(lowerEndpointMapper, "lowerEndpointMapper is required");
+                Objects.requireNonNull(upperEndpointMapper, "upperEndpointMapper is required");
+                converted = ClosedRange.of(
+                        range.hasLowerBound() ? lowerEndpointMapper.apply(range.lowerEndpoint()) : null,
+                        range.hasUpperBound() ? upperEndpointMapper.apply(range.upperEndpoint()) : null);
+            }
+
+            if (!converted.hasLowerBound()) {
+                throw newInvalidLowerBoundException(new IntervalImpl<>(ClosedRangeSet.of(converted)));
+            }
+            if (!converted.hasUpperBound()) {
+                throw newInvalidUpperBoundException(new IntervalImpl<>(ClosedRangeSet.of(converted)));
+            }
+            if (!convertedRanges.isEmpty()) {
+                ClosedRange<R> previous = convertedRanges.get(convertedRanges.size() - 1);
+                sortedAndDisjoint &= compare(previous.upperEndpoint(), converted.lowerEndpoint()) < 0;
+            }
+            convertedRanges.add(converted);
+        }
 
+        Stream<R> values = convertedRanges.stream()
+                .flatMap(range -> {
+                    R lower = range.lowerEndpoint();
                     UnaryOperator<R> increaseFunction = date -> (R) date.plus(1, temporalUnit);
                     return Stream.iterate(lower, increaseFunction)
-                            .limit(temporalUnit.between(lower, upper) + 1);
-                })
-                .distinct()
-                .sorted();
+                            .limit(temporalUnit.between(lower, range.upperEndpoint()) + 1);
+                });
+        // values of sorted disjoint ranges are already sorted and distinct
+        return sortedAndDisjoint ? values : values.distinct().sorted();
     }
 
     @Override
@@ -132,18 +138,15 @@ class IntervalImpl<T extends Comparable<?> & Temporal> implements Interval<T> {
     @Override
     public <R extends Comparable<?> & Temporal> Interval<R> map(Function<T, R> lowerEndpointMapper,
                                                                 Function<T, R> upperEndpointMapper) {
-        ImmutableRangeSet<R> rangeSet = getSubIntervals().stream()
-                .map(i -> {
-                    R start = i.findLowerEndpoint().map(lowerEndpointMapper).orElse(null);
-                    R end = i.findUpperEndpoint().map(upperEndpointMapper).orElse(null);
-                    return Interval.between(start, end);
+        List<ClosedRange<R>> ranges = rangeSet.asList().stream()
+                .map(range -> {
+                    R start = range.hasLowerBound() ? lowerEndpointMapper.apply(range.lowerEndpoint()) : null;
+                    R end = range.hasUpperBound() ? upperEndpointMapper.apply(range.upperEndpoint()) : null;
+                    return ClosedRange.of(start, end);
                 })
-                .map(Interval::getRangeSet)
-                .map(RangeSet::asRanges)
-                .flatMap(Set::stream)
-                .collect(collectingAndThen(toSet(), ImmutableRangeSet::unionOf));
+                .collect(toList());
 
-        return new IntervalImpl<>(rangeSet);
+        return new IntervalImpl<>(ClosedRangeSet.unionOf(ranges));
     }
 
     @Override
@@ -153,16 +156,14 @@ class IntervalImpl<T extends Comparable<?> & Temporal> implements Interval<T> {
     }
 
     private Stream<IntervalImpl<T>> subIntervalsStream() {
-        return rangeSet.asRanges().stream()
-                .map(ImmutableRangeSet::of)
+        return rangeSet.asList().stream()
+                .map(ClosedRangeSet::of)
                 .map(IntervalImpl::new);
     }
 
     @Override
     public long count(TemporalUnit temporalUnit) {
-        return rangeSet.asRanges().stream()
-                .mapToLong(range -> temporalUnit.between(range.lowerEndpoint(), range.upperEndpoint()) + 1)
-                .sum();
+        return rangeSet.count(temporalUnit);
     }
 
     @Override
@@ -177,16 +178,18 @@ class IntervalImpl<T extends Comparable<?> & Temporal> implements Interval<T> {
 
     @Override
     public ImmutableRangeSet<T> getRangeSet() {
+        return GuavaRangeSets.toRangeSet(rangeSet);
+    }
+
+    ClosedRangeSet<T> closedRangeSet() {
         return rangeSet;
     }
 
-    private Range<T> getRange() {
-        Set<Range<T>> ranges = rangeSet.asRanges();
-        if (ranges.size() > 1) {
+    private ClosedRange<T> getRange() {
+        if (rangeSet.size() > 1) {
             throw new IllegalStateException("The interval has more than one sub intervals: " + this + ".");
         }
-
-        return ranges.stream().findFirst().orElseThrow(() -> new IllegalStateException("The interval is empty."));
+        return rangeSet.span();
     }
 
     @Override
@@ -194,7 +197,7 @@ class IntervalImpl<T extends Comparable<?> & Temporal> implements Interval<T> {
         return rangeSet.toString();
     }
 
-    IntervalImpl(ImmutableRangeSet<T> rangeSet) {
+    IntervalImpl(ClosedRangeSet<T> rangeSet) {
         this.rangeSet = rangeSet;
     }
 }
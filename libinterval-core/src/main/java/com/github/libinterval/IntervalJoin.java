@@ -0,0 +1,332 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.github.libinterval.IntervalUtils.compare;
+
+/**
+ * Joins two collections of intervals on time overlap with a sweep line. Both inputs must be sorted by
+ * lower endpoint (unbounded lower endpoint goes first). Only intervals which are active at the sweep position
+ * are kept in memory, so the join costs O(n + m + output) instead of O(n * m) of nested loops. E.g:
+ * <pre>{@code
+ * IntervalJoin.innerJoin(contracts.iterator(), absences.iterator(), Contract::getEmployeeId, Absence::getEmployeeId)
+ *         .forEach(match -> process(match.getLeft(), match.getRight(), match.getIntersection()));
+ * }</pre>
+ * Intervals which have gaps are compared by their spans first and then by {@link Interval#intersectionOf}.
+ *
+ * @since 18-Oct-2026
+ */
+public final class IntervalJoin {
+
+    /**
+     * @param left  - left entries sorted by lower endpoint of the interval.
+     * @param right - right entries sorted by lower endpoint of the interval.
+     * @return lazy stream of all overlapping pairs.
+     */
+    public static <T extends Comparable<?> & Temporal, L, R> Stream<Match<T, L, R>> innerJoin(
+            Iterator<? extends Map.Entry<Interval<T>, L>> left,
+            Iterator<? extends Map.Entry<Interval<T>, R>> right) {
+        return innerJoin(left, right, l -> null, r -> null);
+    }
+
+    /**
+     * Same as {@link #innerJoin(Iterator, Iterator)} but only the entries with equal keys are joined.
+     *
+     * @param leftKey  - function which extracts key of a left value.
+     * @param rightKey - function which extracts key of a right value.
+     */
+    public static <T extends Comparable<?> & Temporal, L, R, K> Stream<Match<T, L, R>> innerJoin(
+            Iterator<? extends Map.Entry<Interval<T>, L>> left,
+            Iterator<? extends Map.Entry<Interval<T>, R>> right,
+            Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey) {
+        return stream(new SweepIterator<>(left, right, leftKey, rightKey, false));
+    }
+
+    /**
+     * @param left  - left entries sorted by lower endpoint of the interval.
+     * @param right - right entries sorted by lower endpoint of the interval.
+     * @return lazy stream of all overlapping pairs and a match without right value
+     * for every left entry which doesn't overlap any right entry.
+     */
+    public static <T extends Comparable<?> & Temporal, L, R> Stream<Match<T, L, R>> leftOuterJoin(
+            Iterator<? extends Map.Entry<Interval<T>, L>> left,
+            Iterator<? extends Map.Entry<Interval<T>, R>> right) {
+        return leftOuterJoin(left, right, l -> null, r -> null);
+    }
+
+    /**
+     * Same as {@link #leftOuterJoin(Iterator, Iterator)} but only the entries with equal keys are joined.
+     *
+     * @param leftKey  - function which extracts key of a left value.
+     * @param rightKey - function which extracts key of a right value.
+     */
+    public static <T extends Comparable<?> & Temporal, L, R, K> Stream<Match<T, L, R>> leftOuterJoin(
+            Iterator<? extends Map.Entry<Interval<T>, L>> left,
+            Iterator<? extends Map.Entry<Interval<T>, R>> right,
+            Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey) {
+        return stream(new SweepIterator<>(left, right, leftKey, rightKey, true));
+    }
+
+    private static <T extends Comparable<?> & Temporal, L, R> Stream<Match<T, L, R>> stream(Iterator<Match<T, L, R>> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Result of a join.
+     */
+    public static final class Match<T extends Comparable<?> & Temporal, L, R> {
+        private final L left;
+        private final R right;
+        private final Interval<T> intersection;
+
+        private Match(L left, R right, Interval<T> intersection) {
+            this.left = left;
+            this.right = right;
+            this.intersection = intersection;
+        }
+
+        public L getLeft() {
+            return left;
+        }
+
+        /**
+         * @return right value or null if the left value doesn't have a match in a left outer join.
+         */
+        public R getRight() {
+            return right;
+        }
+
+        /**
+         * @return intersection of left and right intervals or none if there is no right value.
+         */
+        public Interval<T> getIntersection() {
+            return intersection;
+        }
+
+        @Override
+        public String toString() {
+            return "Match{left=" + left + ", right=" + right + ", intersection=" + intersection + "}";
+        }
+    }
+
+    private static final class Item<T extends Comparable<?> & Temporal, V> {
+        private final Interval<T> interval;
+        private final V value;
+        private final Object key;
+        private final ClosedRange<T> span;
+        private boolean matched;
+
+        private Item(Interval<T> interval, V value, Object key) {
+            this.interval = interval;
+            this.value = value;
+            this.key = key;
+            this.span = interval.isPresent() ? IntervalUtils.rangesOf(interval).span() : null;
+        }
+    }
+
+    private static final class Active<T extends Comparable<?> & Temporal, L, R> {
+        private final Set<Item<T, L>> left = new LinkedHashSet<>();
+        private final Set<Item<T, R>> right = new LinkedHashSet<>();
+    }
+
+    private static final class SweepIterator<T extends Comparable<?> & Temporal, L, R, K> implements Iterator<Match<T, L, R>> {
+        private final Iterator<? extends Map.Entry<Interval<T>, L>> leftIterator;
+        private final Iterator<? extends Map.Entry<Interval<T>, R>> rightIterator;
+        private final Function<? super L, ? extends K> leftKey;
+        private final Function<? super R, ? extends K> rightKey;
+        private final boolean leftOuter;
+
+        private final Map<Object, Active<T, L, R>> active = new HashMap<>();
+        private final Queue<Item<T, L>> activeLeft = new PriorityQueue<>(upperBoundComparator());
+        private final Queue<Item<T, R>> activeRight = new PriorityQueue<>(upperBoundComparator());
+        private final Queue<Match<T, L, R>> buffer = new ArrayDeque<>();
+
+        private Item<T, L> nextLeft;
+        private Item<T, R> nextRight;
+        private boolean finished;
+
+        private SweepIterator(Iterator<? extends Map.Entry<Interval<T>, L>> leftIterator,
+                              Iterator<? extends Map.Entry<Interval<T>, R>> rightIterator,
+                              Function<? super L, ? extends K> leftKey,
+                              Function<? super R, ? extends K> rightKey,
+                              boolean leftOuter) {
+            this.leftIterator = Objects.requireNonNull(leftIterator, "left is required");
+            this.rightIterator = Objects.requireNonNull(rightIterator, "right is required");
+            this.leftKey = Objects.requireNonNull(leftKey, "leftKey is required");
+            this.rightKey = Objects.requireNonNull(rightKey, "rightKey is required");
+            this.leftOuter = leftOuter;
+            this.nextLeft = readLeft(null);
+            this.nextRight = readRight(null);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (buffer.isEmpty() && !finished) {
+                step();
+            }
+            return !buffer.isEmpty();
+        }
+
+        @Override
+        public Match<T, L, R> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return buffer.poll();
+        }
+
+        private void step() {
+            if (nextLeft == null && nextRight == null) {
+                evictLeft(item -> true);
+                finished = true;
+            } else if (nextRight == null || nextLeft != null && !goesAfter(nextLeft, nextRight)) {
+                Item<T, L> item = nextLeft;
+                nextLeft = readLeft(item);
+                if (item.span == null) {
+                    emitUnmatched(item);
+                    return;
+                }
+
+                evict(item.span);
+                Active<T, L, R> activeForKey = active.computeIfAbsent(item.key, k -> new Active<>());
+                for (Item<T, R> candidate : activeForKey.right) {
+                    match(item, candidate);
+                }
+                activeForKey.left.add(item);
+                activeLeft.add(item);
+            } else {
+                Item<T, R> item = nextRight;
+                nextRight = readRight(item);
+                if (item.span == null) {
+                    return;
+                }
+
+                evict(item.span);
+                Active<T, L, R> activeForKey = active.computeIfAbsent(item.key, k -> new Active<>());
+                for (Item<T, L> candidate : activeForKey.left) {
+                    match(candidate, item);
+                }
+                activeForKey.right.add(item);
+                activeRight.add(item);
+            }
+        }
+
+        private void match(Item<T, L> left, Item<T, R> right) {
+            Interval<T> intersection = Interval.intersectionOf(left.interval, right.interval);
+            if (intersection.isPresent()) {
+                left.matched = true;
+                buffer.add(new Match<>(left.value, right.value, intersection));
+            }
+        }
+
+        /**
+         * Removes all intervals which end before the sweep position, so they can't overlap any of the next intervals.
+         */
+        private void evict(ClosedRange<T> position) {
+            if (!position.hasLowerBound()) {
+                return;
+            }
+            evictLeft(item -> endsBefore(item.span, position.lowerEndpoint()));
+            while (!activeRight.isEmpty() && endsBefore(activeRight.peek().span, position.lowerEndpoint())) {
+                Item<T, R> item = activeRight.poll();
+                Active<T, L, R> activeForKey = active.get(item.key);
+                activeForKey.right.remove(item);
+                removeIfEmpty(item.key, activeForKey);
+            }
+        }
+
+        private void evictLeft(Predicate<Item<T, L>> predicate) {
+            while (!activeLeft.isEmpty() && predicate.test(activeLeft.peek())) {
+                Item<T, L> item = activeLeft.poll();
+                Active<T, L, R> activeForKey = active.get(item.key);
+                activeForKey.left.remove(item);
+                removeIfEmpty(item.key, activeForKey);
+                emitUnmatched(item);
+            }
+        }
+
+        private void emitUnmatched(Item<T, L> item) {
+            if (leftOuter && !item.matched) {
+                buffer.add(new Match<>(item.value, null, Interval.none()));
+            }
+        }
+
+        private void removeIfEmpty(Object key, Active<T, L, R> activeForKey) {
+            if (activeForKey.left.isEmpty() && activeForKey.right.isEmpty()) {
+                active.remove(key);
+            }
+        }
+
+        private Item<T, L> readLeft(Item<T, L> previous) {
+            if (!leftIterator.hasNext()) {
+                return null;
+            }
+            Map.Entry<Interval<T>, L> entry = leftIterator.next();
+            Item<T, L> item = new Item<>(entry.getKey(), entry.getValue(), leftKey.apply(entry.getValue()));
+            checkOrder(previous, item, "left");
+            return item;
+        }
+
+        private Item<T, R> readRight(Item<T, R> previous) {
+            if (!rightIterator.hasNext()) {
+                return null;
+            }
+            Map.Entry<Interval<T>, R> entry = rightIterator.next();
+            Item<T, R> item = new Item<>(entry.getKey(), entry.getValue(), rightKey.apply(entry.getValue()));
+            checkOrder(previous, item, "right");
+            return item;
+        }
+
+        /**
+         * Empty intervals don't overlap anything, so they are processed as soon as they are read.
+         */
+        private boolean goesAfter(Item<T, ?> first, Item<T, ?> second) {
+            if (first.span == null || second.span == null) {
+                return first.span != null;
+            }
+            return compareLowerBounds(first.span, second.span) > 0;
+        }
+
+        private void checkOrder(Item<T, ?> previous, Item<T, ?> item, String side) {
+            if (previous != null && previous.span != null && item.span != null
+                    && compareLowerBounds(previous.span, item.span) > 0) {
+                throw new IllegalArgumentException("The " + side + " input is not sorted by lower endpoint: "
+                        + item.interval + " goes after " + previous.interval + ".");
+            }
+        }
+    }
+
+    private static <T extends Comparable<?> & Temporal> int compareLowerBounds(ClosedRange<T> first, ClosedRange<T> second) {
+        return ClosedRange.compareLowerEndpoints(first.lower(), second.lower());
+    }
+
+    private static <T extends Comparable<?> & Temporal> boolean endsBefore(ClosedRange<T> range, T point) {
+        return range.hasUpperBound() && compare(range.upperEndpoint(), point) < 0;
+    }
+
+    private static <T extends Comparable<?> & Temporal, V> Comparator<Item<T, V>> upperBoundComparator() {
+        return (first, second) -> ClosedRange.compareUpperEndpoints(first.span.upper(), second.span.upper());
+    }
+
+    private IntervalJoin() {
+    }
+}
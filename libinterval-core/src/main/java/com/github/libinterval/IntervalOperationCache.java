@@ -0,0 +1,236 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of results of {@link Interval#unionOf}, {@link Interval#intersectionOf} and {@link Interval#difference}
+ * for callers which combine the same intervals again and again, e.g. a contract, a calendar and a policy in every request.
+ * Operands are compared by value, so equal intervals created by different requests share the result; the hash code
+ * of an operand is computed once and kept with it, so a lookup with the same operand instances doesn't walk their ranges.
+ * The static operations of {@link Interval} don't use a cache: the cache is an explicit object owned by the caller,
+ * which decides what is worth caching and how long, rather than a global hook which every caller would pay for.
+ * The cache is split into segments with their own least recently used eviction and lock, so concurrent callers
+ * rarely wait for each other. A result is computed outside of the lock and may be computed twice by racing callers. E.g:
+ * <pre>{@code
+ * IntervalOperationCache<LocalDate> cache = new IntervalOperationCache<>(10_000);
+ * Interval<LocalDate> available = cache.intersectionOf(contract, calendar, policy);
+ * }</pre>
+ *
+ * @since 18-Oct-2026
+ */
+public class IntervalOperationCache<T extends Comparable<?> & Temporal> {
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param maximumSize - maximal number of cached results.
+     */
+    public IntervalOperationCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size should be positive: " + maximumSize + ".");
+        }
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maximumSize));
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0), evictionCount);
+        }
+    }
+
+    @SafeVarargs
+    public final Interval<T> unionOf(Interval<T> first, Interval<T> second, Interval<T>... intervals) {
+        return unionOf(asList(first, second, intervals));
+    }
+
+    public Interval<T> unionOf(Iterable<Interval<T>> intervals) {
+        return get(Operation.UNION, null, intervals, () -> Interval.unionOf(intervals));
+    }
+
+    @SafeVarargs
+    public final Interval<T> intersectionOf(Interval<T> first, Interval<T> second, Interval<T>... intervals) {
+        return intersectionOf(asList(first, second, intervals));
+    }
+
+    public Interval<T> intersectionOf(Iterable<Interval<T>> intervals) {
+        return get(Operation.INTERSECTION, null, intervals, () -> Interval.intersectionOf(intervals));
+    }
+
+    /**
+     * @return cached result of {@link Interval#difference(Interval)}.
+     */
+    public Interval<T> difference(Interval<T> minuend, Interval<T> subtrahend) {
+        return get(Operation.DIFFERENCE, null, Arrays.asList(minuend, subtrahend), () -> minuend.difference(subtrahend));
+    }
+
+    /**
+     * @return cached result of {@link Interval#difference(Interval, TemporalUnit)}.
+     */
+    public Interval<T> difference(Interval<T> minuend, Interval<T> subtrahend, TemporalUnit temporalUnit) {
+        return get(Operation.DIFFERENCE, temporalUnit, Arrays.asList(minuend, subtrahend),
+                () -> minuend.difference(subtrahend, temporalUnit));
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return ratio of the calls which were served from the cache, 1 if there were no calls.
+     */
+    public double hitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 1 : (double) hits / total;
+    }
+
+    /**
+     * @return number of cached results.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all the cached results, the statistics are kept.
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IntervalOperationCache{size=" + size() + ", hitCount=" + hitCount() + ", missCount=" + missCount()
+                + ", evictionCount=" + evictionCount() + "}";
+    }
+
+    private Interval<T> get(Operation operation,
+                            TemporalUnit temporalUnit,
+                            Iterable<Interval<T>> intervals,
+                            Supplier<Interval<T>> function) {
+        List<ClosedRangeSet<T>> operands = new ArrayList<>();
+        for (Interval<T> interval : intervals) {
+            operands.add(IntervalUtils.rangesOf(interval));
+        }
+        Key key = new Key(operation, temporalUnit, operands);
+        Segment segment = segments[key.hashCode() & (segments.length - 1)];
+
+        Interval<?> result;
+        synchronized (segment) {
+            result = segment.get(key);
+        }
+        if (result != null) {
+            hitCount.increment();
+            return cast(result);
+        }
+
+        missCount.increment();
+        Interval<T> computed = function.get();
+        synchronized (segment) {
+            segment.put(key, computed);
+        }
+        return computed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Interval<T> cast(Interval<?> interval) {
+        return (Interval<T>) interval;
+    }
+
+    private static <T> List<T> asList(T first, T second, T[] others) {
+        List<T> list = new ArrayList<>(others.length + 2);
+        list.add(first);
+        list.add(second);
+        list.addAll(Arrays.asList(others));
+        return list;
+    }
+
+    private enum Operation {
+        UNION, INTERSECTION, DIFFERENCE
+    }
+
+    private static final class Key {
+        private final Operation operation;
+        private final TemporalUnit temporalUnit;
+        private final List<?> operands;
+        private final int hash;
+
+        private Key(Operation operation, TemporalUnit temporalUnit, List<?> operands) {
+            this.operation = operation;
+            this.temporalUnit = temporalUnit;
+            this.operands = operands;
+            int h = Objects.hash(operation, temporalUnit, operands);
+            this.hash = h ^ (h >>> 16);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hash == key.hash && operation == key.operation && Objects.equals(temporalUnit, key.temporalUnit)
+                    && operands.equals(key.operands);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Access ordered map which evicts the least recently used result, guarded by its own monitor.
+     */
+    private static final class Segment extends LinkedHashMap<Key, Interval<?>> {
+        private final int maximumSize;
+        private final LongAdder evictionCount;
+
+        private Segment(int maximumSize, LongAdder evictionCount) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+            this.evictionCount = evictionCount;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Interval<?>> eldest) {
+            if (size() > maximumSize) {
+                evictionCount.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
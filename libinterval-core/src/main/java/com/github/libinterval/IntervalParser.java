@@ -0,0 +1,454 @@
+package com.github.libinterval;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parses intervals from text without regular expressions, formatters and intermediate strings. Supported formats:
+ * <ul>
+ * <li>format of {@link Interval#toString()}, e.g. [[2018-01-01..2018-01-10], [2018-02-01..+∞)] or [];</li>
+ * <li>single range, e.g. [2018-01-01..2018-01-10] or (-∞..2018-01-10];</li>
+ * <li>ISO-8601 start/end interval, e.g. 2018-01-01/2018-01-10. Open endpoint is written as "..", e.g. 2018-01-01/..</li>
+ * </ul>
+ * Whitespaces around the tokens are ignored. Values are written in ISO-8601 format of the parser type,
+ * e.g. 2018-01-01T10:15:30.5 for {@link LocalDateTime}. The parser is immutable and thread-safe.
+ *
+ * @param <T> - type of the interval endpoints.
+ * @since 18-Oct-2026
+ */
+public final class IntervalParser<T extends Comparable<?> & Temporal> {
+    private static final char INFINITY = '∞';
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final IntervalParser<LocalDate> DATES = new IntervalParser<>(IntervalParser::scanDate);
+    private static final IntervalParser<YearMonth> MONTHS = new IntervalParser<>(IntervalParser::scanMonth);
+    private static final IntervalParser<Year> YEARS = new IntervalParser<>(IntervalParser::scanYear);
+    private static final IntervalParser<LocalDateTime> DATE_TIMES = new IntervalParser<>(IntervalParser::scanDateTime);
+
+    private final ValueScanner<T> valueScanner;
+
+    private IntervalParser(ValueScanner<T> valueScanner) {
+        this.valueScanner = valueScanner;
+    }
+
+    public static IntervalParser<LocalDate> ofDates() {
+        return DATES;
+    }
+
+    public static IntervalParser<YearMonth> ofMonths() {
+        return MONTHS;
+    }
+
+    public static IntervalParser<Year> ofYears() {
+        return YEARS;
+    }
+
+    public static IntervalParser<LocalDateTime> ofDateTimes() {
+        return DATE_TIMES;
+    }
+
+    /**
+     * @param text - text which contains exactly one interval, e.g. {@link String} or {@link CharBuffer}.
+     * @throws IllegalArgumentException if the text can't be parsed.
+     */
+    public Interval<T> parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * @param text  - text which contains exactly one interval between start and end indices.
+     * @param start - index of the first char, inclusive.
+     * @param end   - index of the last char, exclusive.
+     * @throws IllegalArgumentException if the text can't be parsed.
+     */
+    public Interval<T> parse(CharSequence text, int start, int end) {
+        Objects.requireNonNull(text, "text is required");
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") is out of text of length " + text.length() + ".");
+        }
+        return parse(new Cursor(text, start, end));
+    }
+
+    /**
+     * Parses one interval per line. Lines are separated by \n or \r\n, blank lines are skipped.
+     * The reader is read lazily with its own buffer, so it doesn't need to be buffered, and isn't closed by the stream.
+     * IOException of the reader is rethrown as {@link UncheckedIOException}.
+     */
+    public Stream<Interval<T>> parseLines(Reader reader) {
+        Objects.requireNonNull(reader, "reader is required");
+        return StreamSupport.stream(new LineSpliterator(reader), false);
+    }
+
+    private Interval<T> parse(Cursor cursor) {
+        cursor.skipWhitespaces();
+        ClosedRangeSet<T> rangeSet;
+        if (cursor.peek() == '[' && isRangeStart(cursor.peekAfterWhitespaces(1))) {
+            rangeSet = parseRangeSet(cursor);
+        } else if (cursor.peek() == '[' || cursor.peek() == '(') {
+            rangeSet = ClosedRangeSet.of(parseRange(cursor));
+        } else {
+            rangeSet = ClosedRangeSet.of(parseIsoRange(cursor));
+        }
+
+        cursor.skipWhitespaces();
+        if (cursor.peek() != -1) {
+            throw cursor.error("end of text");
+        }
+        return IntervalUtils.newInterval(rangeSet);
+    }
+
+    private static boolean isRangeStart(int c) {
+        return c == '[' || c == '(' || c == ']';
+    }
+
+    private ClosedRangeSet<T> parseRangeSet(Cursor cursor) {
+        cursor.expect('[');
+        cursor.skipWhitespaces();
+        if (cursor.peek() == ']') {
+            cursor.next();
+            return ClosedRangeSet.of();
+        }
+
+        ClosedRange<T> first = parseRange(cursor);
+        cursor.skipWhitespaces();
+        if (cursor.peek() == ']') {
+            cursor.next();
+            return ClosedRangeSet.of(first);
+        }
+
+        List<ClosedRange<T>> ranges = new ArrayList<>();
+        ranges.add(first);
+        while (cursor.peek() == ',') {
+            cursor.next();
+            cursor.skipWhitespaces();
+            ranges.add(parseRange(cursor));
+            cursor.skipWhitespaces();
+        }
+        cursor.expect(']');
+        return ClosedRangeSet.unionOf(ranges);
+    }
+
+    /**
+     * Parses [lower..upper], (-∞..upper], [lower..+∞) or (-∞..+∞).
+     */
+    private ClosedRange<T> parseRange(Cursor cursor) {
+        T lower = null;
+        if (cursor.peek() == '(') {
+            cursor.next();
+            cursor.expect('-');
+            cursor.expect(INFINITY);
+        } else {
+            cursor.expect('[');
+            lower = scanValue(cursor);
+        }
+
+        cursor.expect('.');
+        cursor.expect('.');
+
+        T upper = null;
+        if (cursor.peek() == '+') {
+            cursor.next();
+            cursor.expect(INFINITY);
+            cursor.expect(')');
+        } else {
+            upper = scanValue(cursor);
+            cursor.expect(']');
+        }
+        return newRange(cursor, lower, upper);
+    }
+
+    /**
+     * Parses lower/upper where an open endpoint is "..".
+     */
+    private ClosedRange<T> parseIsoRange(Cursor cursor) {
+        T lower = cursor.peek() == '.' ? skipOpenEndpoint(cursor) : scanValue(cursor);
+        cursor.skipWhitespaces();
+        cursor.expect('/');
+        cursor.skipWhitespaces();
+        T upper = cursor.peek() == '.' ? skipOpenEndpoint(cursor) : scanValue(cursor);
+        return newRange(cursor, lower, upper);
+    }
+
+    private T skipOpenEndpoint(Cursor cursor) {
+        cursor.expect('.');
+        cursor.expect('.');
+        return null;
+    }
+
+    private T scanValue(Cursor cursor) {
+        int start = cursor.position;
+        try {
+            return valueScanner.scan(cursor);
+        } catch (DateTimeException e) {
+            cursor.position = start;
+            throw cursor.error("valid value", e);
+        }
+    }
+
+    private ClosedRange<T> newRange(Cursor cursor, T lower, T upper) {
+        if (!ClosedRange.startsNotAfter(lower, upper)) {
+            throw cursor.error("lower endpoint which is not greater than upper endpoint " + upper);
+        }
+        return ClosedRange.of(lower, upper);
+    }
+
+    private static LocalDate scanDate(Cursor cursor) {
+        int year = cursor.scanYear();
+        cursor.expect('-');
+        int month = cursor.scanDigits(2);
+        cursor.expect('-');
+        return LocalDate.of(year, month, cursor.scanDigits(2));
+    }
+
+    private static YearMonth scanMonth(Cursor cursor) {
+        int year = cursor.scanYear();
+        cursor.expect('-');
+        return YearMonth.of(year, cursor.scanDigits(2));
+    }
+
+    private static Year scanYear(Cursor cursor) {
+        return Year.of(cursor.scanYear());
+    }
+
+    /**
+     * Parses date and time in the format of {@link LocalDateTime#toString()}: seconds and fraction are optional.
+     */
+    private static LocalDateTime scanDateTime(Cursor cursor) {
+        LocalDate date = scanDate(cursor);
+        cursor.expect('T');
+        int hour = cursor.scanDigits(2);
+        cursor.expect(':');
+        int minute = cursor.scanDigits(2);
+        int second = 0;
+        int nano = 0;
+        if (cursor.peek() == ':') {
+            cursor.next();
+            second = cursor.scanDigits(2);
+            if (cursor.peek() == '.') {
+                cursor.next();
+                int digits = 0;
+                while (digits < 9 && isDigit(cursor.peek())) {
+                    nano = nano * 10 + cursor.next() - '0';
+                    digits++;
+                }
+                if (digits == 0) {
+                    throw cursor.error("digit");
+                }
+                for (; digits < 9; digits++) {
+                    nano *= 10;
+                }
+            }
+        }
+        return LocalDateTime.of(date.getYear(), date.getMonth(), date.getDayOfMonth(), hour, minute, second, nano);
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    @FunctionalInterface
+    private interface ValueScanner<T> {
+        T scan(Cursor cursor);
+    }
+
+    /**
+     * Position in the text between start and end indices.
+     */
+    private static final class Cursor {
+        private CharSequence text;
+        private int start;
+        private int position;
+        private int end;
+
+        private Cursor(CharSequence text, int start, int end) {
+            reset(text, start, end);
+        }
+
+        private Cursor reset(CharSequence text, int start, int end) {
+            this.text = text;
+            this.start = start;
+            this.position = start;
+            this.end = end;
+            return this;
+        }
+
+        /**
+         * @return current char or -1 if there are no more chars.
+         */
+        private int peek() {
+            return position < end ? text.charAt(position) : -1;
+        }
+
+        /**
+         * @return char which goes after the current one and the whitespaces after it or -1 if there is no such char.
+         */
+        private int peekAfterWhitespaces(int offset) {
+            int index = position + offset;
+            while (index < end && Character.isWhitespace(text.charAt(index))) {
+                index++;
+            }
+            return index < end ? text.charAt(index) : -1;
+        }
+
+        private char next() {
+            if (position >= end) {
+                throw error("char");
+            }
+            return text.charAt(position++);
+        }
+
+        private void expect(char expected) {
+            if (peek() != expected) {
+                throw error("'" + expected + "'");
+            }
+            position++;
+        }
+
+        private void skipWhitespaces() {
+            while (position < end && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        /**
+         * Scans year in ISO-8601 format: 4 digits or sign and up to 9 digits.
+         */
+        private int scanYear() {
+            boolean negative = false;
+            boolean signed = peek() == '+' || peek() == '-';
+            if (signed) {
+                negative = next() == '-';
+            }
+
+            int year = 0;
+            int digits = 0;
+            while (digits < 9 && isDigit(peek())) {
+                year = year * 10 + next() - '0';
+                digits++;
+            }
+            if (digits < 4 || digits > 4 && !signed) {
+                throw error("year");
+            }
+            return negative ? -year : year;
+        }
+
+        private int scanDigits(int count) {
+            int value = 0;
+            for (int i = 0; i < count; i++) {
+                if (!isDigit(peek())) {
+                    throw error("digit");
+                }
+                value = value * 10 + next() - '0';
+            }
+            return value;
+        }
+
+        private IllegalArgumentException error(String expected) {
+            return error(expected, null);
+        }
+
+        private IllegalArgumentException error(String expected, Throwable cause) {
+            String found = position < end ? "'" + text.charAt(position) + "'" : "end of text";
+            return new IllegalArgumentException("Cannot parse interval \"" + text.subSequence(start, end) + "\": expected "
+                    + expected + " at index " + (position - start) + " but found " + found + ".", cause);
+        }
+    }
+
+    /**
+     * Splits the reader into lines in a reusable char buffer, so the lines are parsed without creating strings.
+     */
+    private final class LineSpliterator extends Spliterators.AbstractSpliterator<Interval<T>> {
+        private final Reader reader;
+        private final Cursor cursor = new Cursor("", 0, 0);
+        private char[] buffer = new char[BUFFER_SIZE];
+        private CharBuffer view = CharBuffer.wrap(buffer);
+        private int lineStart;
+        private int scanned;
+        private int limit;
+        private boolean endOfInput;
+
+        private LineSpliterator(Reader reader) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Interval<T>> action) {
+            while (true) {
+                while (scanned < limit && buffer[scanned] != '\n') {
+                    scanned++;
+                }
+
+                if (scanned == limit && !endOfInput) {
+                    fill();
+                    continue;
+                }
+                if (scanned == limit && lineStart == limit) {
+                    return false;
+                }
+
+                int start = lineStart;
+                int end = scanned;
+                lineStart = scanned = Math.min(scanned + 1, limit);
+                if (!isBlank(start, end)) {
+                    action.accept(parse(cursor.reset(view, start, end)));
+                    return true;
+                }
+            }
+        }
+
+        private boolean isBlank(int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (!Character.isWhitespace(buffer[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Moves the current line to the start of the buffer and reads the next chars after it.
+         */
+        private void fill() {
+            int length = limit - lineStart;
+            if (length == buffer.length) {
+                char[] grown = new char[buffer.length * 2];
+                System.arraycopy(buffer, lineStart, grown, 0, length);
+                buffer = grown;
+                view = CharBuffer.wrap(buffer);
+            } else if (lineStart > 0) {
+                System.arraycopy(buffer, lineStart, buffer, 0, length);
+            }
+            scanned -= lineStart;
+            lineStart = 0;
+            limit = length;
+
+            try {
+                int read = reader.read(buffer, limit, buffer.length - limit);
+                if (read < 0) {
+                    endOfInput = true;
+                } else {
+                    limit += read;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
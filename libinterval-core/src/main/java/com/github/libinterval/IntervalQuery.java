@@ -0,0 +1,349 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import static com.github.libinterval.IntervalUtils.compare;
+
+/**
+ * Deferred composition of intervals which is evaluated at once, without the intermediate intervals of every step, e.g:
+ * <pre>{@code
+ * Interval<LocalDate> result = IntervalQuery.intersectionOf(IntervalQuery.of(a), IntervalQuery.unionOf(b, c, d))
+ *         .difference(e)
+ *         .evaluate();
+ * }</pre>
+ * Before evaluation every operand is clipped to the bounding window of the operations above it, e.g. all the operands
+ * of an intersection are clipped to the intersection of their spans and the subtrahend is clipped to the minuend.
+ * Operands which are empty in their window are dropped, an intersection with an empty operand is dropped as a whole
+ * and nested unions and intersections are flattened. Then the remaining ranges of all the operands are merged by one
+ * sweep line which evaluates the whole query at every endpoint. The result is the same as of the eager operations,
+ * so adjacent ranges of the operands aren't merged, e.g. the union of [2018-01-01..2018-01-02] and
+ * [2018-01-03..2018-01-04] has both ranges like {@link Interval#unionOf(Iterable)}.
+ * Queries are immutable, so they can be shared by several queries and evaluated several times.
+ *
+ * @since 18-Oct-2026
+ */
+public final class IntervalQuery<T extends Comparable<?> & Temporal> {
+    private final Operation operation;
+    private final List<IntervalQuery<T>> operands;
+    private final ClosedRangeSet<T> ranges;
+
+    private IntervalQuery(Operation operation, List<IntervalQuery<T>> operands, ClosedRangeSet<T> ranges) {
+        this.operation = operation;
+        this.operands = operands;
+        this.ranges = ranges;
+    }
+
+    public static <T extends Comparable<?> & Temporal> IntervalQuery<T> of(Interval<T> interval) {
+        return new IntervalQuery<>(Operation.INTERVAL, Collections.emptyList(), IntervalUtils.rangesOf(interval));
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<?> & Temporal> IntervalQuery<T> unionOf(Interval<T>... intervals) {
+        List<IntervalQuery<T>> queries = new ArrayList<>(intervals.length);
+        for (Interval<T> interval : intervals) {
+            queries.add(of(interval));
+        }
+        return unionOf(queries);
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<?> & Temporal> IntervalQuery<T> unionOf(IntervalQuery<T>... queries) {
+        return unionOf(Arrays.asList(queries));
+    }
+
+    public static <T extends Comparable<?> & Temporal> IntervalQuery<T> unionOf(List<IntervalQuery<T>> queries) {
+        return new IntervalQuery<>(Operation.UNION, new ArrayList<>(queries), null);
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<?> & Temporal> IntervalQuery<T> intersectionOf(IntervalQuery<T> first,
+                                                                                       IntervalQuery<T>... queries) {
+        List<IntervalQuery<T>> operands = new ArrayList<>(queries.length + 1);
+        operands.add(first);
+        operands.addAll(Arrays.asList(queries));
+        return new IntervalQuery<>(Operation.INTERSECTION, operands, null);
+    }
+
+    public IntervalQuery<T> union(Interval<T> interval) {
+        return union(of(interval));
+    }
+
+    public IntervalQuery<T> union(IntervalQuery<T> query) {
+        return unionOf(Arrays.asList(this, query));
+    }
+
+    public IntervalQuery<T> intersection(Interval<T> interval) {
+        return intersection(of(interval));
+    }
+
+    public IntervalQuery<T> intersection(IntervalQuery<T> query) {
+        return intersectionOf(this, query);
+    }
+
+    public IntervalQuery<T> difference(Interval<T> interval) {
+        return difference(of(interval));
+    }
+
+    public IntervalQuery<T> difference(IntervalQuery<T> query) {
+        return new IntervalQuery<>(Operation.DIFFERENCE, Arrays.asList(this, query), null);
+    }
+
+    public Interval<T> evaluate() {
+        List<Leaf<T>> leaves = new ArrayList<>();
+        Plan plan = compile(ClosedRange.all(), new IdentityHashMap<>(), leaves);
+        if (plan == null) {
+            return new IntervalImpl<>(ClosedRangeSet.of());
+        }
+        return IntervalUtils.newInterval(sweep(plan, leaves));
+    }
+
+    @Override
+    public String toString() {
+        if (operation == Operation.INTERVAL) {
+            return ranges.toString();
+        }
+        StringBuilder sb = new StringBuilder(operation.name().toLowerCase()).append('(');
+        for (int i = 0; i < operands.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(operands.get(i));
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * @return span of the values which the query may contain or null if it is empty.
+     */
+    private ClosedRange<T> window(Map<IntervalQuery<T>, ClosedRange<T>> windows) {
+        if (windows.containsKey(this)) {
+            return windows.get(this);
+        }
+        ClosedRange<T> window;
+        switch (operation) {
+            case INTERVAL:
+                window = ranges.isEmpty() ? null : ranges.span();
+                break;
+            case UNION:
+                window = null;
+                for (IntervalQuery<T> operand : operands) {
+                    ClosedRange<T> operandWindow = operand.window(windows);
+                    if (operandWindow != null) {
+                        window = window == null ? operandWindow : window.span(operandWindow);
+                    }
+                }
+                break;
+            case INTERSECTION:
+                window = ClosedRange.all();
+                for (IntervalQuery<T> operand : operands) {
+                    ClosedRange<T> operandWindow = operand.window(windows);
+                    if (operandWindow == null || !operandWindow.isConnected(window)) {
+                        window = null;
+                        break;
+                    }
+                    window = window.intersection(operandWindow);
+                }
+                break;
+            default:
+                window = operands.get(0).window(windows);
+        }
+        windows.put(this, window);
+        return window;
+    }
+
+    /**
+     * @param clip - window of the operations above the query.
+     * @return plan of the query inside of the clip or null if it is empty there.
+     */
+    private Plan compile(ClosedRange<T> clip, Map<IntervalQuery<T>, ClosedRange<T>> windows, List<Leaf<T>> leaves) {
+        ClosedRange<T> window = window(windows);
+        if (window == null || !window.isConnected(clip)) {
+            return null;
+        }
+        ClosedRange<T> clipped = window.intersection(clip);
+        switch (operation) {
+            case INTERVAL:
+                ClosedRangeSet<T> visible = ranges.intersection(clipped);
+                if (visible.isEmpty()) {
+                    return null;
+                }
+                leaves.add(new Leaf<>(leaves.size(), visible));
+                return new Plan(leaves.size() - 1);
+            case UNION:
+            case INTERSECTION:
+                List<Plan> plans = new ArrayList<>(operands.size());
+                for (IntervalQuery<T> operand : operands) {
+                    Plan plan = operand.compile(clipped, windows, leaves);
+                    if (plan == null) {
+                        if (operation == Operation.INTERSECTION) {
+                            return null;
+                        }
+                    } else if (plan.operation == operation) {
+                        plans.addAll(plan.operands);
+                    } else {
+                        plans.add(plan);
+                    }
+                }
+                if (plans.isEmpty()) {
+                    return null;
+                }
+                return plans.size() == 1 ? plans.get(0) : new Plan(operation, plans);
+            default:
+                Plan minuend = operands.get(0).compile(clipped, windows, leaves);
+                if (minuend == null) {
+                    return null;
+                }
+                Plan subtrahend = operands.get(1).compile(clipped, windows, leaves);
+                return subtrahend == null ? minuend : new Plan(Operation.DIFFERENCE, Arrays.asList(minuend, subtrahend));
+        }
+    }
+
+    private static <T extends Comparable<?> & Temporal> ClosedRangeSet<T> sweep(Plan plan, List<Leaf<T>> leaves) {
+        ComparableTemporalDiscreteDomain<T> domain = DefaultComparableTemporalDiscreteDomain.instance();
+        boolean[] inside = new boolean[leaves.size()];
+        PriorityQueue<Leaf<T>> queue = new PriorityQueue<>(leaves.size(),
+                (first, second) -> compare(first.events.position, second.events.position));
+        for (Leaf<T> leaf : leaves) {
+            inside[leaf.index] = leaf.events.initialWeight() > 0;
+            if (leaf.events.advance()) {
+                queue.add(leaf);
+            }
+        }
+        boolean[] before = inside.clone();
+        boolean[] ended = new boolean[leaves.size()];
+        List<Leaf<T>> moved = new ArrayList<>();
+
+        List<ClosedRange<T>> result = new ArrayList<>();
+        boolean included = plan.test(inside);
+        T start = null;
+        while (!queue.isEmpty()) {
+            T position = queue.peek().events.position;
+            while (!queue.isEmpty() && compare(queue.peek().events.position, position) == 0) {
+                Leaf<T> leaf = queue.poll();
+                moved.add(leaf);
+                inside[leaf.index] = leaf.events.delta > 0;
+                ended[leaf.index] |= leaf.events.delta < 0;
+                if (leaf.events.advance()) {
+                    queue.add(leaf);
+                }
+            }
+
+            boolean nowIncluded = plan.test(inside);
+            if (included && nowIncluded) {
+                if (!plan.continues(before, inside, ended)) {
+                    result.add(ClosedRange.of(start, domain.previous(position)));
+                    start = position;
+                }
+            } else if (nowIncluded) {
+                start = position;
+            } else if (included) {
+                result.add(ClosedRange.of(start, domain.previous(position)));
+            }
+            included = nowIncluded;
+            for (Leaf<T> leaf : moved) {
+                before[leaf.index] = inside[leaf.index];
+                ended[leaf.index] = false;
+            }
+            moved.clear();
+        }
+        if (included) {
+            result.add(ClosedRange.of(start, null));
+        }
+        return ClosedRangeSet.copyOfSorted(result);
+    }
+
+    private enum Operation {
+        INTERVAL, UNION, INTERSECTION, DIFFERENCE
+    }
+
+    /**
+     * Optimized query over the indexes of the leaves, which is evaluated at every endpoint of the sweep.
+     */
+    private static final class Plan {
+        private final Operation operation;
+        private final List<Plan> operands;
+        private final int leaf;
+
+        private Plan(int leaf) {
+            this.operation = Operation.INTERVAL;
+            this.operands = Collections.emptyList();
+            this.leaf = leaf;
+        }
+
+        private Plan(Operation operation, List<Plan> operands) {
+            this.operation = operation;
+            this.operands = operands;
+            this.leaf = -1;
+        }
+
+        private boolean test(boolean[] inside) {
+            switch (operation) {
+                case INTERVAL:
+                    return inside[leaf];
+                case UNION:
+                    for (Plan operand : operands) {
+                        if (operand.test(inside)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                case INTERSECTION:
+                    for (Plan operand : operands) {
+                        if (!operand.test(inside)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                default:
+                    return operands.get(0).test(inside) && !operands.get(1).test(inside);
+            }
+        }
+
+        /**
+         * Is called if the query contains both the previous value and the current one.
+         *
+         * @param ended - leaves which have a range that ends at the previous value.
+         * @return true if both values are in the same range, like in the result of the eager operations
+         * where a range which ends at the previous value isn't merged with an adjacent one.
+         */
+        private boolean continues(boolean[] before, boolean[] after, boolean[] ended) {
+            switch (operation) {
+                case INTERVAL:
+                    return !ended[leaf];
+                case UNION:
+                    for (Plan operand : operands) {
+                        if (operand.test(before) && operand.test(after) && operand.continues(before, after, ended)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                case INTERSECTION:
+                    for (Plan operand : operands) {
+                        if (!operand.continues(before, after, ended)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                default:
+                    return operands.get(0).continues(before, after, ended);
+            }
+        }
+    }
+
+    private static final class Leaf<T extends Comparable<?> & Temporal> {
+        private final int index;
+        private final RangeEventSource<T> events;
+
+        private Leaf(int index, ClosedRangeSet<T> ranges) {
+            this.index = index;
+            this.events = new RangeEventSource<>(ranges, 1, DefaultComparableTemporalDiscreteDomain.instance());
+        }
+    }
+}
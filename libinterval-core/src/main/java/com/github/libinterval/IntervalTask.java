@@ -0,0 +1,67 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Fork/join task which recursively splits an interval into two parts with the same number of temporal units
+ * (see {@link Interval#partition(int, TemporalUnit)}) until a part contains no more than {@code threshold} units.
+ * Gaps are not counted, so the work is spread evenly even if the interval is sparse. E.g:
+ * <pre>{@code
+ * long workingDays = ForkJoinPool.commonPool().invoke(new IntervalTask<>(interval, DAYS, 30,
+ *         part -> part.days().filter(this::isWorkingDay).count(), Long::sum));
+ * }</pre>
+ *
+ * @param <T> - type of the interval endpoints.
+ * @param <R> - type of the result.
+ * @since 18-Oct-2026
+ */
+public class IntervalTask<T extends Comparable<?> & Temporal, R> extends RecursiveTask<R> {
+    private final Interval<T> interval;
+    private final TemporalUnit temporalUnit;
+    private final long threshold;
+    private final Function<Interval<T>, R> leafFunction;
+    private final BinaryOperator<R> combiner;
+
+    /**
+     * @param interval     - interval to process.
+     * @param temporalUnit - unit used to measure the parts.
+     * @param threshold    - max number of units which are processed by {@code leafFunction} directly.
+     * @param leafFunction - function which processes a part of the interval.
+     * @param combiner     - function which combines results of two adjacent parts, earlier part goes first.
+     */
+    public IntervalTask(Interval<T> interval,
+                        TemporalUnit temporalUnit,
+                        long threshold,
+                        Function<Interval<T>, R> leafFunction,
+                        BinaryOperator<R> combiner) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The threshold must be positive: " + threshold + ".");
+        }
+        this.interval = Objects.requireNonNull(interval, "interval is required");
+        this.temporalUnit = Objects.requireNonNull(temporalUnit, "temporalUnit is required");
+        this.threshold = threshold;
+        this.leafFunction = Objects.requireNonNull(leafFunction, "leafFunction is required");
+        this.combiner = Objects.requireNonNull(combiner, "combiner is required");
+    }
+
+    @Override
+    protected R compute() {
+        if (interval.count(temporalUnit) <= threshold) {
+            return leafFunction.apply(interval);
+        }
+
+        List<Interval<T>> parts = interval.partition(2, temporalUnit);
+        IntervalTask<T, R> first = new IntervalTask<>(parts.get(0), temporalUnit, threshold, leafFunction, combiner);
+        IntervalTask<T, R> second = new IntervalTask<>(parts.get(1), temporalUnit, threshold, leafFunction, combiner);
+
+        second.fork();
+        R firstResult = first.compute();
+        return combiner.apply(firstResult, second.join());
+    }
+}
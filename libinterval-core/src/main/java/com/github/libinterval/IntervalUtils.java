@@ -1,34 +1,84 @@
 package com.github.libinterval;
 
-import com.google.common.collect.ImmutableRangeSet;
-
 import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.toSet;
-
 /**
  * @author Igor Rybak
  * @since 15-Sep-2018
  */
 class IntervalUtils {
 
+    @SuppressWarnings("unchecked")
     static <T extends Comparable<?> & Temporal> Interval<T> intersection(Stream<Interval<T>> intervals) {
-        ImmutableRangeSet<T> rangeSet = intervals.map(Interval::getRangeSet)
-                .map(ImmutableRangeSet::copyOf)
-                .reduce(ImmutableRangeSet::intersection)
-                .orElseThrow(IllegalArgumentException::new);
-        return new IntervalImpl<>(rangeSet);
+        List<Interval<T>> list = new ArrayList<>();
+        intervals.forEach(list::add);
+        if (list.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        Interval<T> bitmapIntersection = (Interval<T>) BitmapInterval.intersection((List) list);
+        if (bitmapIntersection != null) {
+            return bitmapIntersection;
+        }
+
+        ClosedRangeSet<T> rangeSet = rangesOf(list.get(0));
+        for (int i = 1; i < list.size(); i++) {
+            rangeSet = rangeSet.intersection(rangesOf(list.get(i)));
+        }
+        return newInterval(rangeSet);
     }
 
+    @SuppressWarnings("unchecked")
     static <T extends Comparable<?> & Temporal> Interval<T> union(Stream<Interval<T>> intervals) {
-        ImmutableRangeSet<T> rangeSet = intervals.flatMap(i -> i.getRangeSet().asRanges().stream())
-                .collect(collectingAndThen(toSet(), ImmutableRangeSet::unionOf));
+        List<Interval<T>> list = new ArrayList<>();
+        intervals.forEach(list::add);
+        Interval<T> bitmapUnion = (Interval<T>) BitmapInterval.union((List) list);
+        if (bitmapUnion != null) {
+            return bitmapUnion;
+        }
+
+        List<ClosedRange<T>> ranges = new ArrayList<>();
+        for (Interval<T> interval : list) {
+            ranges.addAll(rangesOf(interval).asList());
+        }
+        return newInterval(ClosedRangeSet.unionOf(ranges));
+    }
 
+    /**
+     * @return interval of the ranges, which is stored as bitmap if the ranges are fragmented days.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Comparable<?> & Temporal> Interval<T> newInterval(ClosedRangeSet<T> rangeSet) {
+        if (BitmapInterval.isFragmented(rangeSet)) {
+            return (Interval<T>) BitmapInterval.of((ClosedRangeSet) rangeSet);
+        }
         return new IntervalImpl<>(rangeSet);
     }
 
+    /**
+     * @return ranges of the interval. Intervals of other implementations are converted through Guava range set.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Comparable<?> & Temporal> ClosedRangeSet<T> rangesOf(Interval<T> interval) {
+        if (interval instanceof IntervalImpl) {
+            return ((IntervalImpl<T>) interval).closedRangeSet();
+        }
+        if (interval instanceof PersistentInterval) {
+            return ((PersistentInterval<T>) interval).closedRangeSet();
+        }
+        if (interval instanceof BitmapInterval) {
+            return (ClosedRangeSet<T>) ((BitmapInterval) interval).closedRangeSet();
+        }
+        return GuavaRangeSets.rangesOf(interval);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends Comparable<?>> int compare(T first, T second) {
+        return ((Comparable<Object>) first).compareTo(second);
+    }
+
     static <T extends Comparable<?> & Temporal> IllegalStateException newInvalidLowerBoundException(Interval<T> interval) {
         return new IllegalStateException("The interval " + interval + " doesn't have lower bound.");
     }
@@ -0,0 +1,184 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+
+import static com.github.libinterval.IntervalUtils.compare;
+
+/**
+ * Mutable set of disjoint closed ranges which are sorted by lower bound. It updates only the ranges
+ * which are touched by an operation, so add and remove cost O(log n) plus the number of merged ranges.
+ * The storage is supplied by the caller, e.g. {@link java.util.TreeSet} or
+ * {@link java.util.concurrent.ConcurrentSkipListSet} created with {@link #lowerBoundComparator()}.
+ * It isn't thread-safe itself.
+ *
+ * @since 18-Oct-2026
+ */
+class MutableRangeSet<T extends Comparable<?> & Temporal> {
+    private final NavigableSet<ClosedRange<T>> ranges;
+    private final ComparableTemporalDiscreteDomain<T> coalescingDomain;
+
+    /**
+     * @param ranges           - empty storage sorted by {@link #lowerBoundComparator()}.
+     * @param coalescingDomain - nullable domain. If present, ranges which are adjacent in the domain are merged.
+     */
+    MutableRangeSet(NavigableSet<ClosedRange<T>> ranges, ComparableTemporalDiscreteDomain<T> coalescingDomain) {
+        this.ranges = ranges;
+        this.coalescingDomain = coalescingDomain;
+    }
+
+    static <T extends Comparable<?> & Temporal> Comparator<ClosedRange<T>> lowerBoundComparator() {
+        return (first, second) -> ClosedRange.compareLowerEndpoints(first.lower(), second.lower());
+    }
+
+    void add(ClosedRange<T> range) {
+        ClosedRange<T> merged = range;
+        ClosedRange<T> floor = ranges.floor(range);
+        if (floor != null && isConnected(floor, range)) {
+            merged = floor.span(merged);
+            ranges.remove(floor);
+        }
+
+        Iterator<ClosedRange<T>> tail = ranges.tailSet(range, false).iterator();
+        while (tail.hasNext()) {
+            ClosedRange<T> next = tail.next();
+            if (!isConnected(merged, next)) {
+                break;
+            }
+            merged = merged.span(next);
+            tail.remove();
+        }
+        ranges.add(merged);
+    }
+
+    void remove(ClosedRange<T> range, RangeConverter<T> rangeConverter) {
+        List<ClosedRange<T>> overlapping = findOverlapping(range);
+        for (ClosedRange<T> r : overlapping) {
+            ranges.remove(r);
+            if (range.hasLowerBound()) {
+                addIfNotNull(rangeConverter.before(r, range.lowerEndpoint()));
+            }
+            if (range.hasUpperBound()) {
+                addIfNotNull(rangeConverter.after(r, range.upperEndpoint()));
+            }
+        }
+    }
+
+    /**
+     * Removes all the values which are less than the point.
+     */
+    void removeBefore(T point) {
+        while (!ranges.isEmpty() && ranges.first().hasUpperBound() && compare(ranges.first().upperEndpoint(), point) < 0) {
+            ranges.pollFirst();
+        }
+        if (!ranges.isEmpty()) {
+            ClosedRange<T> first = ranges.first();
+            if (!first.hasLowerBound() || compare(first.lowerEndpoint(), point) < 0) {
+                ranges.pollFirst();
+                ranges.add(ClosedRange.of(point, first.upper()));
+            }
+        }
+    }
+
+    boolean contains(T value) {
+        ClosedRange<T> floor = ranges.floor(ClosedRange.singleton(value));
+        return floor != null && floor.contains(value);
+    }
+
+    boolean intersects(ClosedRange<T> range) {
+        return !findOverlapping(range).isEmpty();
+    }
+
+    boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    /**
+     * @return the values which are in the range.
+     */
+    ClosedRangeSet<T> slice(ClosedRange<T> range) {
+        List<ClosedRange<T>> overlapping = findOverlapping(range);
+        for (int i = 0; i < overlapping.size(); i++) {
+            overlapping.set(i, overlapping.get(i).intersection(range));
+        }
+        return ClosedRangeSet.copyOfSorted(overlapping);
+    }
+
+    /**
+     * @return span of the range and the ranges which overlap it or, in case of coalescing domain, are adjacent to it.
+     */
+    ClosedRange<T> spanOfConnected(ClosedRange<T> range) {
+        ClosedRange<T> span = range;
+        ClosedRange<T> floor = ranges.floor(range);
+        if (floor != null && isConnected(floor, range)) {
+            span = span.span(floor);
+        }
+        for (ClosedRange<T> next : ranges.tailSet(range, false)) {
+            if (!isConnected(next, range)) {
+                break;
+            }
+            span = span.span(next);
+        }
+        return span;
+    }
+
+    /**
+     * @return ranges which start before the range, from the nearest one.
+     */
+    Iterator<ClosedRange<T>> descendingBefore(ClosedRange<T> range) {
+        return ranges.headSet(range, false).descendingIterator();
+    }
+
+    /**
+     * @return ranges which start with or after the range, from the nearest one.
+     */
+    Iterator<ClosedRange<T>> ascendingFrom(ClosedRange<T> range) {
+        return ranges.tailSet(range, true).iterator();
+    }
+
+    ClosedRangeSet<T> toRangeSet() {
+        return ClosedRangeSet.copyOfSorted(new ArrayList<>(ranges));
+    }
+
+    private List<ClosedRange<T>> findOverlapping(ClosedRange<T> range) {
+        List<ClosedRange<T>> overlapping = new ArrayList<>();
+        ClosedRange<T> floor = ranges.floor(range);
+        if (floor != null && floor.isConnected(range)) {
+            overlapping.add(floor);
+        }
+        for (ClosedRange<T> next : ranges.tailSet(range, false)) {
+            if (!next.isConnected(range)) {
+                break;
+            }
+            overlapping.add(next);
+        }
+        return overlapping;
+    }
+
+    private void addIfNotNull(ClosedRange<T> range) {
+        if (range != null) {
+            ranges.add(range);
+        }
+    }
+
+    /**
+     * @return true if the ranges overlap or, in case of coalescing domain, are adjacent.
+     */
+    private boolean isConnected(ClosedRange<T> first, ClosedRange<T> second) {
+        if (first.isConnected(second)) {
+            return true;
+        }
+        if (coalescingDomain == null) {
+            return false;
+        }
+
+        ClosedRange<T> earlier = MutableRangeSet.<T>lowerBoundComparator().compare(first, second) <= 0 ? first : second;
+        ClosedRange<T> later = earlier == first ? second : first;
+        return earlier.hasUpperBound() && later.hasLowerBound()
+                && compare(coalescingDomain.next(earlier.upperEndpoint()), later.lowerEndpoint()) >= 0;
+    }
+}
@@ -0,0 +1,201 @@
+package com.github.libinterval;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.libinterval.EpochCodec.NEGATIVE_INFINITY;
+import static com.github.libinterval.EpochCodec.POSITIVE_INFINITY;
+
+/**
+ * Summary of intervals of partitions, e.g. files of a data lake, which finds the partitions which may overlap a filter
+ * without intersecting the filter with every partition. Every partition is summarized by its bounds and a bitmap
+ * of 64 buckets of its span, where a bit is set if the partition has any day in the bucket. The bounds are sorted
+ * by lower bound with the maximal upper bound of every subtree, so the partitions whose bounds overlap a range of
+ * the filter are found in O(log n) plus the number of candidates, which are checked by their bitmaps then.
+ * The result never misses an overlapping partition, but it may contain a partition which has a gap in the filter.
+ * E.g:
+ * <pre>{@code
+ * PartitionPruner<String> pruner = PartitionPruner.of(intervalsByFile);
+ * List<String> files = pruner.mayOverlap(Interval.between(from, to));
+ * }</pre>
+ * The summary is immutable and serializable if the partitions are, so it can be built once and stored with the data.
+ *
+ * @since 18-Oct-2026
+ */
+public final class PartitionPruner<P> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int BUCKETS = Long.SIZE;
+
+    private final Object[] partitions;
+    /**
+     * Indexes of non-empty partitions sorted by lower bound.
+     */
+    private final int[] order;
+    private final long[] lowers;
+    private final long[] uppers;
+    private final long[] bitmaps;
+    /**
+     * Implicit binary tree over the sorted partitions, every node has the maximal upper bound of its leaves.
+     */
+    private final long[] maxUppers;
+    private final int leafCount;
+
+    private PartitionPruner(Object[] partitions, int[] order, long[] lowers, long[] uppers, long[] bitmaps) {
+        this.partitions = partitions;
+        this.order = order;
+        this.lowers = lowers;
+        this.uppers = uppers;
+        this.bitmaps = bitmaps;
+        int leaves = 1;
+        while (leaves < order.length) {
+            leaves <<= 1;
+        }
+        this.leafCount = leaves;
+        this.maxUppers = new long[2 * leaves];
+        Arrays.fill(maxUppers, NEGATIVE_INFINITY);
+        for (int i = 0; i < order.length; i++) {
+            maxUppers[leaves + i] = uppers[order[i]];
+        }
+        for (int node = leaves - 1; node > 0; node--) {
+            maxUppers[node] = Math.max(maxUppers[2 * node], maxUppers[2 * node + 1]);
+        }
+    }
+
+    /**
+     * @param partitions - intervals of the partitions, the order of the map is the order of results.
+     */
+    public static <P> PartitionPruner<P> of(Map<P, Interval<LocalDate>> partitions) {
+        Object[] keys = new Object[partitions.size()];
+        long[] lowers = new long[partitions.size()];
+        long[] uppers = new long[partitions.size()];
+        long[] bitmaps = new long[partitions.size()];
+        List<Integer> nonEmpty = new ArrayList<>(partitions.size());
+        int index = 0;
+        for (Map.Entry<P, Interval<LocalDate>> partition : partitions.entrySet()) {
+            keys[index] = partition.getKey();
+            ClosedRangeSet<LocalDate> ranges = IntervalUtils.rangesOf(partition.getValue());
+            if (!ranges.isEmpty()) {
+                ClosedRange<LocalDate> span = ranges.span();
+                lowers[index] = EpochCodec.DAYS.encode(span.lower(), true);
+                uppers[index] = EpochCodec.DAYS.encode(span.upper(), false);
+                bitmaps[index] = bitmap(ranges, lowers[index], uppers[index]);
+                nonEmpty.add(index);
+            }
+            index++;
+        }
+        nonEmpty.sort(Comparator.comparingLong(i -> lowers[i]));
+        int[] order = new int[nonEmpty.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = nonEmpty.get(i);
+        }
+        return new PartitionPruner<>(keys, order, lowers, uppers, bitmaps);
+    }
+
+    /**
+     * @return partitions which may overlap the filter in the order of {@link #of(Map)}.
+     */
+    @SuppressWarnings("unchecked")
+    public List<P> mayOverlap(Interval<LocalDate> filter) {
+        BitSet candidates = new BitSet(partitions.length);
+        for (ClosedRange<LocalDate> range : IntervalUtils.rangesOf(filter).asList()) {
+            long lower = EpochCodec.DAYS.encode(range.lower(), true);
+            long upper = EpochCodec.DAYS.encode(range.upper(), false);
+            int last = lastStartingNotAfter(upper);
+            if (last >= 0) {
+                collect(1, 0, leafCount - 1, last, lower, upper, candidates);
+            }
+        }
+        List<P> result = new ArrayList<>(candidates.cardinality());
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            result.add((P) partitions[i]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return partitions.length;
+    }
+
+    /**
+     * Collects the partitions of the subtree up to the last one whose bounds and bitmap overlap the range.
+     */
+    private void collect(int node, int from, int to, int last, long lower, long upper, BitSet candidates) {
+        if (from > last || maxUppers[node] < lower) {
+            return;
+        }
+        if (from == to) {
+            int partition = order[from];
+            if (overlapsBitmap(partition, lower, upper)) {
+                candidates.set(partition);
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        collect(2 * node, from, middle, last, lower, upper, candidates);
+        collect(2 * node + 1, middle + 1, to, last, lower, upper, candidates);
+    }
+
+    /**
+     * @return index in the sorted order of the last partition which starts not after the value or -1.
+     */
+    private int lastStartingNotAfter(long value) {
+        int low = 0;
+        int high = order.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (lowers[order[middle]] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    private boolean overlapsBitmap(int partition, long lower, long upper) {
+        long partitionLower = lowers[partition];
+        long partitionUpper = uppers[partition];
+        if (partitionLower == NEGATIVE_INFINITY || partitionUpper == POSITIVE_INFINITY) {
+            return true;
+        }
+        long bucketSize = bucketSize(partitionLower, partitionUpper);
+        int first = (int) ((Math.max(lower, partitionLower) - partitionLower) / bucketSize);
+        int last = (int) ((Math.min(upper, partitionUpper) - partitionLower) / bucketSize);
+        return (bitmaps[partition] & bits(first, last)) != 0;
+    }
+
+    /**
+     * @return bitmap of the buckets which have values of the ranges, all bits for unbounded ranges.
+     */
+    private static long bitmap(ClosedRangeSet<LocalDate> ranges, long lower, long upper) {
+        if (lower == NEGATIVE_INFINITY || upper == POSITIVE_INFINITY) {
+            return -1L;
+        }
+        long bucketSize = bucketSize(lower, upper);
+        long bitmap = 0;
+        for (ClosedRange<LocalDate> range : ranges.asList()) {
+            int first = (int) ((EpochCodec.DAYS.encode(range.lowerEndpoint(), true) - lower) / bucketSize);
+            int last = (int) ((EpochCodec.DAYS.encode(range.upperEndpoint(), false) - lower) / bucketSize);
+            bitmap |= bits(first, last);
+        }
+        return bitmap;
+    }
+
+    private static long bucketSize(long lower, long upper) {
+        return (upper - lower) / BUCKETS + 1;
+    }
+
+    /**
+     * @return bits from the first to the last inclusive.
+     */
+    private static long bits(int first, int last) {
+        long upTo = last == BUCKETS - 1 ? -1L : (1L << (last + 1)) - 1;
+        return upTo & (-1L << first);
+    }
+}
@@ -0,0 +1,439 @@
+package com.github.libinterval;
+
+import com.google.common.collect.ImmutableRangeSet;
+
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static com.github.libinterval.IntervalUtils.compare;
+
+/**
+ * Immutable interval which is backed by a persistent balanced tree (treap) of ranges. Operations with
+ * a single range copy only the path to the changed nodes, so they cost O(log n) time and memory and all
+ * versions share the unchanged nodes. It is intended for histories of near-identical intervals, e.g:
+ * <pre>{@code
+ * PersistentInterval<LocalDate> v1 = PersistentInterval.of(timeline);
+ * PersistentInterval<LocalDate> v2 = v1.union(Interval.closed(from, to));    // v1 is unchanged
+ * PersistentInterval<LocalDate> v3 = v2.difference(Interval.closed(from, to));
+ * }</pre>
+ * Operations which return a plain {@link Interval} (e.g. map) materialize the ranges once per instance.
+ *
+ * @since 18-Oct-2026
+ */
+public final class PersistentInterval<T extends Comparable<?> & Temporal> implements Interval<T> {
+    private static final PersistentInterval<?> EMPTY = new PersistentInterval<>(null);
+
+    private final Node<T> root;
+    private volatile IntervalImpl<T> materialized;
+
+    private PersistentInterval(Node<T> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<?> & Temporal> PersistentInterval<T> empty() {
+        return (PersistentInterval<T>) EMPTY;
+    }
+
+    /**
+     * Builds the tree in O(n).
+     */
+    public static <T extends Comparable<?> & Temporal> PersistentInterval<T> of(Interval<T> interval) {
+        if (interval instanceof PersistentInterval) {
+            return (PersistentInterval<T>) interval;
+        }
+        return new PersistentInterval<>(Node.build(IntervalUtils.rangesOf(interval).asList()));
+    }
+
+    /**
+     * @return union of this interval and the given one. Costs O(m * log n) where m is number of the given ranges.
+     */
+    public PersistentInterval<T> union(Interval<T> interval) {
+        Node<T> result = root;
+        for (ClosedRange<T> range : IntervalUtils.rangesOf(interval).asList()) {
+            result = union(result, range);
+        }
+        return result == root ? this : new PersistentInterval<>(result);
+    }
+
+    /**
+     * @return intersection of this interval and the given one.
+     * Costs O(m * log n) where m is number of the given ranges.
+     */
+    public PersistentInterval<T> intersection(Interval<T> interval) {
+        Node<T> result = null;
+        for (ClosedRange<T> range : IntervalUtils.rangesOf(interval).asList()) {
+            result = Node.merge(result, intersection(root, range));
+        }
+        return new PersistentInterval<>(result);
+    }
+
+    /**
+     * Costs O(m * log n) where m is number of the given ranges.
+     */
+    @Override
+    public PersistentInterval<T> difference(Interval<T> interval) {
+        return difference(interval, RangeConverter.defaultInstance());
+    }
+
+    @Override
+    public PersistentInterval<T> difference(Interval<T> interval, TemporalUnit temporalUnit) {
+        return difference(interval, new RangeConverter<>(new TemporalUnitDiscreteDomain<>(temporalUnit)));
+    }
+
+    private PersistentInterval<T> difference(Interval<T> interval, RangeConverter<T> rangeConverter) {
+        Node<T> result = root;
+        for (ClosedRange<T> range : IntervalUtils.rangesOf(interval).asList()) {
+            result = difference(result, range, rangeConverter);
+        }
+        return result == root ? this : new PersistentInterval<>(result);
+    }
+
+    @Override
+    public Optional<T> findLowerEndpoint() {
+        return getRange().hasLowerBound() ? Optional.of(getRange().lowerEndpoint()) : Optional.empty();
+    }
+
+    @Override
+    public Optional<T> findUpperEndpoint() {
+        return getRange().hasUpperBound() ? Optional.of(getRange().upperEndpoint()) : Optional.empty();
+    }
+
+    @Override
+    public boolean contains(T t) {
+        Node<T> node = root;
+        while (node != null) {
+            if (node.range.contains(t)) {
+                return true;
+            }
+            node = node.range.hasLowerBound() && compare(t, node.range.lowerEndpoint()) < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasLowerBound() {
+        return getRange().hasLowerBound();
+    }
+
+    @Override
+    public boolean hasUpperBound() {
+        return getRange().hasUpperBound();
+    }
+
+    @Override
+    public Set<Interval<T>> getSubIntervals() {
+        return materialize().getSubIntervals();
+    }
+
+    @Override
+    public <R extends Comparable<?> & Temporal> Interval<R> map(Function<T, R> lowerEndpointMapper,
+                                                                Function<T, R> upperEndpointMapper) {
+        return materialize().map(lowerEndpointMapper, upperEndpointMapper);
+    }
+
+    @Override
+    public <R extends Comparable<?> & Temporal> Stream<R> iterate(TemporalUnit temporalUnit,
+                                                                  Function<T, R> lowerEndpointMapper,
+                                                                  Function<T, R> upperEndpointMapper) {
+        return materialize().iterate(temporalUnit, lowerEndpointMapper, upperEndpointMapper);
+    }
+
+    @Override
+    public <R> Stream<R> iterate(BiFunction<T, T, Stream<R>> streamGenerator) {
+        return materialize().iterate(streamGenerator);
+    }
+
+    @Override
+    public long count(TemporalUnit temporalUnit) {
+        return materialize().count(temporalUnit);
+    }
+
+    @Override
+    public boolean isPresent() {
+        return root != null;
+    }
+
+    @Override
+    public Optional<Interval<T>> getNotNoneInterval() {
+        return isPresent() ? Optional.of(this) : Optional.empty();
+    }
+
+    @Override
+    public ImmutableRangeSet<T> getRangeSet() {
+        return materialize().getRangeSet();
+    }
+
+    ClosedRangeSet<T> closedRangeSet() {
+        return materialize().closedRangeSet();
+    }
+
+    @Override
+    public String toString() {
+        return materialize().toString();
+    }
+
+    private IntervalImpl<T> materialize() {
+        IntervalImpl<T> result = materialized;
+        if (result == null) {
+            List<ClosedRange<T>> ranges = new ArrayList<>(Node.size(root));
+            Node.forEach(root, ranges::add);
+            result = new IntervalImpl<>(ClosedRangeSet.copyOfSorted(ranges));
+            materialized = result;
+        }
+        return result;
+    }
+
+    private ClosedRange<T> getRange() {
+        if (root == null) {
+            throw new IllegalStateException("The interval is empty.");
+        }
+        if (root.size > 1) {
+            throw new IllegalStateException("The interval has more than one sub intervals: " + this + ".");
+        }
+        return root.range;
+    }
+
+    private static <T extends Comparable<?> & Temporal> Node<T> union(Node<T> root, ClosedRange<T> range) {
+        Split<T> before = split(root, endsBefore(range));
+        Split<T> overlapping = split(before.right, startsNotAfter(range));
+
+        ClosedRange<T> merged = range;
+        if (overlapping.left != null) {
+            merged = Node.first(overlapping.left).span(merged).span(Node.last(overlapping.left));
+        }
+        return Node.merge(Node.merge(before.left, Node.leaf(merged)), overlapping.right);
+    }
+
+    private static <T extends Comparable<?> & Temporal> Node<T> intersection(Node<T> root, ClosedRange<T> range) {
+        Node<T> overlapping = split(split(root, endsBefore(range)).right, startsNotAfter(range)).left;
+        if (overlapping == null) {
+            return null;
+        }
+        overlapping = Node.replaceFirst(overlapping, Node.first(overlapping).intersection(range));
+        return Node.replaceLast(overlapping, Node.last(overlapping).intersection(range));
+    }
+
+    private static <T extends Comparable<?> & Temporal> Node<T> difference(Node<T> root,
+                                                                           ClosedRange<T> range,
+                                                                           RangeConverter<T> rangeConverter) {
+        Split<T> before = split(root, endsBefore(range));
+        Split<T> overlapping = split(before.right, startsNotAfter(range));
+        if (overlapping.left == null) {
+            return root;
+        }
+
+        Node<T> result = before.left;
+        ClosedRange<T> first = Node.first(overlapping.left);
+        if (range.hasLowerBound()) {
+            result = mergeIfNotNull(result, rangeConverter.before(first, range.lowerEndpoint()));
+        }
+        ClosedRange<T> last = Node.last(overlapping.left);
+        if (range.hasUpperBound()) {
+            result = mergeIfNotNull(result, rangeConverter.after(last, range.upperEndpoint()));
+        }
+        return Node.merge(result, overlapping.right);
+    }
+
+    private static <T extends Comparable<?> & Temporal> Node<T> mergeIfNotNull(Node<T> node, ClosedRange<T> range) {
+        return range == null ? node : Node.merge(node, Node.leaf(range));
+    }
+
+    private static <T extends Comparable<?> & Temporal> Predicate<ClosedRange<T>> endsBefore(ClosedRange<T> range) {
+        return r -> r.hasUpperBound() && range.hasLowerBound() && compare(r.upperEndpoint(), range.lowerEndpoint()) < 0;
+    }
+
+    private static <T extends Comparable<?> & Temporal> Predicate<ClosedRange<T>> startsNotAfter(ClosedRange<T> range) {
+        return r -> !r.hasLowerBound() || !range.hasUpperBound() || compare(r.lowerEndpoint(), range.upperEndpoint()) <= 0;
+    }
+
+    /**
+     * Splits the tree into ranges which match the predicate and the rest.
+     * The predicate must be monotonic, i.e. once it is false for a range, it is false for all the next ranges.
+     */
+    private static <T extends Comparable<?> & Temporal> Split<T> split(Node<T> node, Predicate<ClosedRange<T>> goesLeft) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        if (goesLeft.test(node.range)) {
+            Split<T> split = split(node.right, goesLeft);
+            return new Split<>(Node.of(node.range, node.priority, node.left, split.left), split.right);
+        } else {
+            Split<T> split = split(node.left, goesLeft);
+            return new Split<>(split.left, Node.of(node.range, node.priority, split.right, node.right));
+        }
+    }
+
+    private static final class Split<T extends Comparable<?> & Temporal> {
+        private final Node<T> left;
+        private final Node<T> right;
+
+        private Split(Node<T> left, Node<T> right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    private static final class Node<T extends Comparable<?> & Temporal> {
+        private final ClosedRange<T> range;
+        private final int priority;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+
+        private Node(ClosedRange<T> range, int priority, Node<T> left, Node<T> right) {
+            this.range = range;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = 1 + size(left) + size(right);
+        }
+
+        private static <T extends Comparable<?> & Temporal> Node<T> of(ClosedRange<T> range, int priority, Node<T> left, Node<T> right) {
+            return new Node<>(range, priority, left, right);
+        }
+
+        private static <T extends Comparable<?> & Temporal> Node<T> leaf(ClosedRange<T> range) {
+            return new Node<>(range, priority(range), null, null);
+        }
+
+        /**
+         * Priority is a hash of the lower endpoint, so the shape of a tree doesn't depend on the order of operations.
+         */
+        private static int priority(ClosedRange<?> range) {
+            int hash = range.hasLowerBound() ? range.lowerEndpoint().hashCode() : 0;
+            hash ^= hash >>> 16;
+            hash *= 0x85ebca6b;
+            hash ^= hash >>> 13;
+            hash *= 0xc2b2ae35;
+            hash ^= hash >>> 16;
+            return hash;
+        }
+
+        private static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        /**
+         * Merges two trees. All the ranges of the first tree must go before the ranges of the second one.
+         */
+        private static <T extends Comparable<?> & Temporal> Node<T> merge(Node<T> first, Node<T> second) {
+            if (first == null) {
+                return second;
+            }
+            if (second == null) {
+                return first;
+            }
+            if (first.priority >= second.priority) {
+                return of(first.range, first.priority, first.left, merge(first.right, second));
+            } else {
+                return of(second.range, second.priority, merge(first, second.left), second.right);
+            }
+        }
+
+        private static <T extends Comparable<?> & Temporal> ClosedRange<T> first(Node<T> node) {
+            while (node.left != null) {
+                node = node.left;
+            }
+            return node.range;
+        }
+
+        private static <T extends Comparable<?> & Temporal> ClosedRange<T> last(Node<T> node) {
+            while (node.right != null) {
+                node = node.right;
+            }
+            return node.range;
+        }
+
+        private static <T extends Comparable<?> & Temporal> Node<T> replaceFirst(Node<T> node, ClosedRange<T> range) {
+            if (node.left == null) {
+                return of(range, node.priority, null, node.right);
+            }
+            return of(node.range, node.priority, replaceFirst(node.left, range), node.right);
+        }
+
+        private static <T extends Comparable<?> & Temporal> Node<T> replaceLast(Node<T> node, ClosedRange<T> range) {
+            if (node.right == null) {
+                return of(range, node.priority, node.left, null);
+            }
+            return of(node.range, node.priority, node.left, replaceLast(node.right, range));
+        }
+
+        private static <T extends Comparable<?> & Temporal> void forEach(Node<T> node, Consumer<ClosedRange<T>> action) {
+            if (node != null) {
+                forEach(node.left, action);
+                action.accept(node.range);
+                forEach(node.right, action);
+            }
+        }
+
+        /**
+         * Builds a treap from sorted ranges in O(n) with the right spine stack (Cartesian tree construction).
+         */
+        @SuppressWarnings("unchecked")
+        private static <T extends Comparable<?> & Temporal> Node<T> build(List<ClosedRange<T>> ranges) {
+            int n = ranges.size();
+            int[] priorities = new int[n];
+            int[] left = new int[n];
+            int[] right = new int[n];
+            int[] stack = new int[n];
+            int top = -1;
+            for (int i = 0; i < n; i++) {
+                priorities[i] = priority(ranges.get(i));
+                left[i] = -1;
+                right[i] = -1;
+                int last = -1;
+                while (top >= 0 && priorities[stack[top]] < priorities[i]) {
+                    last = stack[top--];
+                }
+                left[i] = last;
+                if (top >= 0) {
+                    right[stack[top]] = i;
+                }
+                stack[++top] = i;
+            }
+            if (top < 0) {
+                return null;
+            }
+
+            Node<T>[] nodes = new Node[n];
+            buildBottomUp(stack[0], ranges, priorities, left, right, nodes);
+            return nodes[stack[0]];
+        }
+
+        private static <T extends Comparable<?> & Temporal> void buildBottomUp(int root, List<ClosedRange<T>> ranges, int[] priorities,
+                                                                               int[] left, int[] right, Node<T>[] nodes) {
+            // iterative post-order traversal, so deep trees don't overflow the stack
+            int[] stack = new int[ranges.size()];
+            boolean[] visited = new boolean[ranges.size()];
+            int top = 0;
+            stack[0] = root;
+            while (top >= 0) {
+                int i = stack[top];
+                if (!visited[i]) {
+                    visited[i] = true;
+                    if (left[i] >= 0) {
+                        stack[++top] = left[i];
+                    }
+                    if (right[i] >= 0) {
+                        stack[++top] = right[i];
+                    }
+                } else {
+                    top--;
+                    nodes[i] = of(ranges.get(i), priorities[i],
+                            left[i] >= 0 ? nodes[left[i]] : null,
+                            right[i] >= 0 ? nodes[right[i]] : null);
+                }
+            }
+        }
+    }
+}
@@ -1,71 +1,60 @@
 package com.github.libinterval;
 
-import com.google.common.collect.DiscreteDomain;
-import com.google.common.collect.Range;
-
 import java.time.temporal.Temporal;
 
-import static com.google.common.collect.BoundType.OPEN;
+import static com.github.libinterval.IntervalUtils.compare;
 
 /**
+ * Cuts closed ranges by exclusive endpoints and converts the result back to closed ranges with a discrete domain.
+ *
  * @author Igor Rybak
  * @since 11-Sep-2018
  */
 class RangeConverter<T extends Comparable<?> & Temporal> {
     private final static RangeConverter<?> INSTANCE = new RangeConverter<>(DefaultComparableTemporalDiscreteDomain.instance());
 
-    private final DiscreteDomain<T> domain;
+    private final ComparableTemporalDiscreteDomain<T> domain;
 
     @SuppressWarnings("unchecked")
     static <T extends Comparable<?> & Temporal> RangeConverter<T> defaultInstance() {
         return (RangeConverter<T>) INSTANCE;
     }
 
-    RangeConverter(DiscreteDomain<T> discreteDomain) {
+    RangeConverter(ComparableTemporalDiscreteDomain<T> discreteDomain) {
         this.domain = discreteDomain;
     }
 
-    boolean canBeConvertedToClosed(Range<T> range) {
-        if (range.hasLowerBound() && range.hasUpperBound()) {
-            T closedLowerEndpoint = getClosedLowerEndpoint(range);
-            T closedUpperEndpoint = getClosedUpperEndpoint(range);
-            return domain.distance(closedLowerEndpoint, closedUpperEndpoint) > -1;
-        } else {
-            return true;
+    /**
+     * @return closed part of the range which is less than the exclusive upper endpoint or null if there is no such part.
+     */
+    ClosedRange<T> before(ClosedRange<T> range, T exclusiveUpperEndpoint) {
+        if (range.hasLowerBound() && compare(range.lowerEndpoint(), exclusiveUpperEndpoint) >= 0) {
+            return null;
         }
-    }
 
-    Range<T> convertToClosed(Range<T> range) {
-        Range<T> result;
-        if (range.hasLowerBound() && range.hasUpperBound()) {
-            result = Range.closed(getClosedLowerEndpoint(range), getClosedUpperEndpoint(range));
-        } else if (range.hasLowerBound()) {
-            result = Range.atLeast(getClosedLowerEndpoint(range));
-        } else if (range.hasUpperBound()) {
-            result = Range.atMost(getClosedUpperEndpoint(range));
-        } else {
-            result = Range.all();
+        T upperEndpoint = domain.previous(exclusiveUpperEndpoint);
+        if (range.hasUpperBound() && compare(range.upperEndpoint(), upperEndpoint) < 0) {
+            return range;
         }
-        return result;
+        return canBeClosed(range.lower(), upperEndpoint) ? ClosedRange.of(range.lower(), upperEndpoint) : null;
     }
 
-    private T getClosedUpperEndpoint(Range<T> range) {
-        T upperEndpoint;
-        if (range.upperBoundType().equals(OPEN)) {
-            upperEndpoint = domain.previous(range.upperEndpoint());
-        } else {
-            upperEndpoint = range.upperEndpoint();
+    /**
+     * @return closed part of the range which is greater than the exclusive lower endpoint or null if there is no such part.
+     */
+    ClosedRange<T> after(ClosedRange<T> range, T exclusiveLowerEndpoint) {
+        if (range.hasUpperBound() && compare(range.upperEndpoint(), exclusiveLowerEndpoint) <= 0) {
+            return null;
         }
-        return upperEndpoint;
-    }
 
-    private T getClosedLowerEndpoint(Range<T> range) {
-        T lowerEndpoint;
-        if (range.lowerBoundType().equals(OPEN)) {
-            lowerEndpoint = domain.next(range.lowerEndpoint());
-        } else {
-            lowerEndpoint = range.lowerEndpoint();
+        T lowerEndpoint = domain.next(exclusiveLowerEndpoint);
+        if (range.hasLowerBound() && compare(range.lowerEndpoint(), lowerEndpoint) > 0) {
+            return range;
         }
-        return lowerEndpoint;
+        return canBeClosed(lowerEndpoint, range.upper()) ? ClosedRange.of(lowerEndpoint, range.upper()) : null;
+    }
+
+    private boolean canBeClosed(T lowerEndpoint, T upperEndpoint) {
+        return lowerEndpoint == null || upperEndpoint == null || compare(lowerEndpoint, upperEndpoint) <= 0;
     }
 }
@@ -0,0 +1,61 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+
+/**
+ * Events of a range set for sweep lines: count changes by weight at the lower endpoint of every range and back
+ * after its upper endpoint. Ranges are sorted and disjoint, so the events are sorted too.
+ *
+ * @since 18-Oct-2026
+ */
+final class RangeEventSource<T extends Comparable<?> & Temporal> {
+    private final ClosedRangeSet<T> ranges;
+    private final int weight;
+    private final ComparableTemporalDiscreteDomain<T> domain;
+    private int index;
+    private boolean atLower = true;
+    T position;
+    int delta;
+
+    RangeEventSource(ClosedRangeSet<T> ranges, int weight, ComparableTemporalDiscreteDomain<T> domain) {
+        this.ranges = ranges;
+        this.weight = weight;
+        this.domain = domain;
+    }
+
+    /**
+     * @return weight if the first range starts at -∞, so it is counted before any event.
+     */
+    int initialWeight() {
+        if (!ranges.isEmpty() && !ranges.get(0).hasLowerBound()) {
+            atLower = false;
+            return weight;
+        }
+        return 0;
+    }
+
+    /**
+     * Moves to the next event.
+     *
+     * @return false if there are no more events.
+     */
+    boolean advance() {
+        while (index < ranges.size()) {
+            ClosedRange<T> range = ranges.get(index);
+            if (atLower) {
+                atLower = false;
+                position = range.lowerEndpoint();
+                delta = weight;
+                return true;
+            }
+            atLower = true;
+            index++;
+            if (range.hasUpperBound()) {
+                position = domain.next(range.upperEndpoint());
+                delta = -weight;
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,328 @@
+package com.github.libinterval;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.github.libinterval.IntervalUtils.compare;
+
+/**
+ * Interval which repeats with a fixed period, e.g. business hours, on-call rotations or every second Monday.
+ * It is stored as a pattern, so contains and count are computed from the pattern in closed form and the occurrences
+ * are generated lazily. The occurrence k starts at start + k * period and lasts the duration, and only the values
+ * within the bounds are included. E.g:
+ * <pre>{@code
+ * RecurringInterval<LocalDate> everySecondMonday = RecurringInterval.every(2, WEEKS, LocalDate.of(2018, 1, 1), 1, DAYS)
+ *         .intersection(Interval.between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 12, 31)));
+ * long mondays = everySecondMonday.countDays();                              // 27
+ * Interval<LocalDate> inMarch = everySecondMonday.toInterval(Interval.between(march1, march31));
+ * }</pre>
+ * Occurrences don't overlap, so the duration must not be longer than the period, even than the shortest one
+ * of a variable length period, e.g. every month for 28 days is valid but for 30 days isn't.
+ *
+ * @since 18-Oct-2026
+ */
+public final class RecurringInterval<T extends Comparable<?> & Temporal> {
+    private final long period;
+    private final TemporalUnit periodUnit;
+    private final T start;
+    private final long duration;
+    private final TemporalUnit durationUnit;
+    private final ClosedRangeSet<T> bounds;
+    private final ComparableTemporalDiscreteDomain<T> domain = DefaultComparableTemporalDiscreteDomain.instance();
+
+    private RecurringInterval(long period, TemporalUnit periodUnit, T start, long duration, TemporalUnit durationUnit,
+                              ClosedRangeSet<T> bounds) {
+        this.period = period;
+        this.periodUnit = periodUnit;
+        this.start = start;
+        this.duration = duration;
+        this.durationUnit = durationUnit;
+        this.bounds = bounds;
+    }
+
+    /**
+     * @param period       - number of period units between the starts of occurrences, must be positive.
+     * @param start        - start of the occurrence with index 0, there are occurrences before it too.
+     * @param duration     - number of duration units of every occurrence, must be positive.
+     * @return unbounded recurring interval.
+     */
+    public static <T extends Comparable<?> & Temporal> RecurringInterval<T> every(long period, TemporalUnit periodUnit,
+                                                                                  T start,
+                                                                                  long duration, TemporalUnit durationUnit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period should be positive: " + period + ".");
+        }
+        if (duration <= 0) {
+            throw new IllegalArgumentException("Duration should be positive: " + duration + ".");
+        }
+        if (!isNotLonger(duration, durationUnit, period, periodUnit)) {
+            throw new IllegalArgumentException("Duration " + duration + " " + durationUnit
+                    + " should not be longer than the shortest period " + period + " " + periodUnit + ".");
+        }
+        return new RecurringInterval<>(period, periodUnit, start, duration, durationUnit, ClosedRangeSet.of(ClosedRange.all()));
+    }
+
+    /**
+     * @return the same pattern within the intersection of the bounds with the interval, nothing is expanded.
+     */
+    public RecurringInterval<T> intersection(Interval<T> interval) {
+        return new RecurringInterval<>(period, periodUnit, start, duration, durationUnit,
+                bounds.intersection(IntervalUtils.rangesOf(interval)));
+    }
+
+    public Interval<T> getBounds() {
+        return new IntervalImpl<>(bounds);
+    }
+
+    public boolean contains(T t) {
+        return bounds.contains(t) && compare(end(floorIndex(t)), t) >= 0;
+    }
+
+    public long countDays() {
+        return count(ChronoUnit.DAYS);
+    }
+
+    /**
+     * Counts like {@link Interval#count(TemporalUnit)} the expanded interval. Whole occurrences are counted by
+     * multiplication, unless the units have variable length, e.g. occurrences of one month counted in days.
+     *
+     * @throws IllegalStateException if the bounds are unbounded.
+     */
+    public long count(TemporalUnit temporalUnit) {
+        long count = 0;
+        for (ClosedRange<T> range : bounds.asList()) {
+            checkBounded(range);
+            long first = firstIndex(range);
+            long last = floorIndex(range.upperEndpoint());
+            if (first > last) {
+                continue;
+            }
+            count += count(occurrence(first, range), temporalUnit);
+            if (first == last) {
+                continue;
+            }
+            count += count(occurrence(last, range), temporalUnit);
+            if (hasFixedLength(durationUnit) && hasFixedLength(temporalUnit)) {
+                count += (last - first - 1) * count(occurrence(first + 1, null), temporalUnit);
+            } else {
+                for (long k = first + 1; k < last; k++) {
+                    count += count(occurrence(k, null), temporalUnit);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return lazy stream of occurrences within the bounds, an occurrence which crosses a gap of the bounds is split.
+     * @throws IllegalStateException if the bounds don't have lower bound.
+     */
+    public Stream<Interval<T>> occurrences() {
+        if (!bounds.isEmpty() && !bounds.get(0).hasLowerBound()) {
+            throw IntervalUtils.newInvalidLowerBoundException(getBounds());
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new OccurrenceIterator(bounds),
+                Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .map(range -> new IntervalImpl<>(ClosedRangeSet.of(range)));
+    }
+
+    /**
+     * @return lazy stream of values within the occurrences.
+     * @see Interval#iterate(TemporalUnit)
+     */
+    public Stream<T> iterate(TemporalUnit temporalUnit) {
+        return occurrences().flatMap(occurrence -> occurrence.iterate(temporalUnit));
+    }
+
+    /**
+     * Expands the occurrences within the window.
+     *
+     * @throws IllegalStateException if the intersection of the window with the bounds is unbounded.
+     */
+    public Interval<T> toInterval(Interval<T> window) {
+        ClosedRangeSet<T> clipped = bounds.intersection(IntervalUtils.rangesOf(window));
+        if (!clipped.isEmpty()) {
+            checkBounded(clipped.span());
+        }
+        List<ClosedRange<T>> ranges = new ArrayList<>();
+        new OccurrenceIterator(clipped).forEachRemaining(ranges::add);
+        return IntervalUtils.newInterval(ClosedRangeSet.copyOfSorted(ranges));
+    }
+
+    @Override
+    public String toString() {
+        return "every " + period + " " + periodUnit + " from " + start + " for " + duration + " " + durationUnit
+                + " within " + bounds;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T start(long index) {
+        return (T) start.plus(index * period, periodUnit);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T end(long index) {
+        return domain.previous((T) start(index).plus(duration, durationUnit));
+    }
+
+    /**
+     * @return index of the last occurrence which starts not after the value.
+     */
+    private long floorIndex(T value) {
+        long index = Math.floorDiv(periodUnit.between(start, value), period);
+        while (compare(start(index), value) > 0) {
+            index--;
+        }
+        while (compare(start(index + 1), value) <= 0) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * @return index of the first occurrence which ends within or after the range.
+     */
+    private long firstIndex(ClosedRange<T> range) {
+        long index = floorIndex(range.lowerEndpoint());
+        return compare(end(index), range.lowerEndpoint()) < 0 ? index + 1 : index;
+    }
+
+    /**
+     * @param range - nullable range to clip the occurrence.
+     */
+    private ClosedRange<T> occurrence(long index, ClosedRange<T> range) {
+        ClosedRange<T> occurrence = ClosedRange.of(start(index), end(index));
+        return range == null ? occurrence : occurrence.intersection(range);
+    }
+
+    private void checkBounded(ClosedRange<T> range) {
+        if (!range.hasLowerBound()) {
+            throw IntervalUtils.newInvalidLowerBoundException(getBounds());
+        }
+        if (!range.hasUpperBound()) {
+            throw IntervalUtils.newInvalidUpperBoundException(getBounds());
+        }
+    }
+
+    private static <T extends Comparable<?> & Temporal> long count(ClosedRange<T> range, TemporalUnit temporalUnit) {
+        return temporalUnit.between(range.lowerEndpoint(), range.upperEndpoint()) + 1;
+    }
+
+    /**
+     * Compares the longest possible duration with the shortest possible period. Variable lengths are bounded by
+     * the lengths from the first days of all the months of the 400 years cycle of the calendar, a start on another
+     * day of month is clipped to the end of month, so it makes the period longer and the duration shorter.
+     */
+    private static boolean isNotLonger(long duration, TemporalUnit durationUnit, long period, TemporalUnit periodUnit) {
+        if (durationUnit == periodUnit) {
+            return duration <= period;
+        }
+        long durationMonths = monthsOf(durationUnit);
+        long periodMonths = monthsOf(periodUnit);
+        if (durationMonths > 0 && periodMonths > 0) {
+            return Math.multiplyExact(duration, durationMonths) <= Math.multiplyExact(period, periodMonths);
+        }
+        return length(duration, durationUnit, true).compareTo(length(period, periodUnit, false)) <= 0;
+    }
+
+    /**
+     * @return number of months in the unit or 0 if it isn't a multiple of months.
+     */
+    private static long monthsOf(TemporalUnit temporalUnit) {
+        if (!(temporalUnit instanceof ChronoUnit)) {
+            return 0;
+        }
+        switch ((ChronoUnit) temporalUnit) {
+            case MONTHS:
+                return 1;
+            case YEARS:
+                return 12;
+            case DECADES:
+                return 120;
+            case CENTURIES:
+                return 1200;
+            case MILLENNIA:
+                return 12000;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * @param longest - true for the longest length, false for the shortest one.
+     */
+    private static Duration length(long amount, TemporalUnit temporalUnit, boolean longest) {
+        if (!temporalUnit.isDurationEstimated()) {
+            return temporalUnit.getDuration().multipliedBy(amount);
+        }
+        if (temporalUnit == ChronoUnit.DAYS || temporalUnit == ChronoUnit.WEEKS) {
+            return Duration.ofDays(Math.multiplyExact(amount, temporalUnit == ChronoUnit.DAYS ? 1 : 7));
+        }
+        long result = longest ? Long.MIN_VALUE : Long.MAX_VALUE;
+        for (int month = 0; month < 400 * 12; month++) {
+            LocalDate monthStart = LocalDate.of(2000, 1, 1).plusMonths(month);
+            long days = ChronoUnit.DAYS.between(monthStart, monthStart.plus(amount, temporalUnit));
+            result = longest ? Math.max(result, days) : Math.min(result, days);
+        }
+        return Duration.ofDays(result);
+    }
+
+    /**
+     * @return true if the unit always has the same length in the local time line.
+     */
+    private static boolean hasFixedLength(TemporalUnit temporalUnit) {
+        return !temporalUnit.isDurationEstimated() || temporalUnit == ChronoUnit.DAYS || temporalUnit == ChronoUnit.WEEKS;
+    }
+
+    /**
+     * Occurrences clipped to every range of the bounds, the last range may have no upper bound.
+     */
+    private final class OccurrenceIterator implements Iterator<ClosedRange<T>> {
+        private final ClosedRangeSet<T> ranges;
+        private int rangeIndex = -1;
+        private long index;
+        private ClosedRange<T> next;
+
+        private OccurrenceIterator(ClosedRangeSet<T> ranges) {
+            this.ranges = ranges;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && rangeIndex < ranges.size()) {
+                if (rangeIndex >= 0) {
+                    ClosedRange<T> range = ranges.get(rangeIndex);
+                    if (!range.hasUpperBound() || compare(start(index), range.upperEndpoint()) <= 0) {
+                        next = occurrence(index++, range);
+                        continue;
+                    }
+                }
+                if (++rangeIndex < ranges.size()) {
+                    index = firstIndex(ranges.get(rangeIndex));
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public ClosedRange<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ClosedRange<T> result = next;
+            next = null;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import static com.github.libinterval.IntervalUtils.compare;
+
+/**
+ * Mutable interval which is built from an unbounded stream of events and keeps only the recent values.
+ * Every value which is earlier than {@code watermark - retention} is evicted, so the memory is bounded by
+ * the number of ranges within the retention. Values which are at most one temporal unit apart,
+ * e.g. consecutive days, are coalesced to one range. E.g:
+ * <pre>{@code
+ * RollingInterval<LocalDate> activeDays = new RollingInterval<>(90, DAYS);
+ * events.forEach(event -> {
+ *     activeDays.add(event.getDate());
+ *     activeDays.advanceWatermark(event.getDate());
+ * });
+ * Interval<LocalDate> lastActivePeriods = activeDays.snapshot();
+ * }</pre>
+ * Updates cost amortized O(log n). The class isn't thread-safe.
+ *
+ * @since 18-Oct-2026
+ */
+public class RollingInterval<T extends Comparable<?> & Temporal> {
+    private final long retention;
+    private final TemporalUnit temporalUnit;
+    private final MutableRangeSet<T> ranges;
+
+    private T watermark;
+    private T horizon;
+    private Interval<T> snapshot = Interval.none();
+
+    /**
+     * @param retention    - amount of temporal units to keep before the watermark.
+     * @param temporalUnit - unit of the retention and precision of the values.
+     */
+    public RollingInterval(long retention, TemporalUnit temporalUnit) {
+        if (retention < 0) {
+            throw new IllegalArgumentException("The retention must not be negative: " + retention + ".");
+        }
+        this.retention = retention;
+        this.temporalUnit = Objects.requireNonNull(temporalUnit, "temporalUnit is required");
+        this.ranges = new MutableRangeSet<>(new TreeSet<>(MutableRangeSet.lowerBoundComparator()),
+                new TemporalUnitDiscreteDomain<>(temporalUnit));
+    }
+
+    /**
+     * Adds the value if it is within the retention.
+     */
+    public void add(T value) {
+        add(ClosedRange.singleton(value));
+    }
+
+    /**
+     * Adds the part of the interval which is within the retention.
+     */
+    public void add(Interval<T> interval) {
+        IntervalUtils.rangesOf(interval).asList().forEach(this::add);
+    }
+
+    /**
+     * Moves the watermark forward and evicts the values which are earlier than {@code watermark - retention}.
+     * The watermark never moves back, so an earlier watermark is ignored.
+     */
+    @SuppressWarnings("unchecked")
+    public void advanceWatermark(T watermark) {
+        if (this.watermark != null && compare(watermark, this.watermark) <= 0) {
+            return;
+        }
+
+        this.watermark = watermark;
+        this.horizon = (T) watermark.minus(retention, temporalUnit);
+        ranges.removeBefore(horizon);
+        snapshot = null;
+    }
+
+    public Optional<T> findWatermark() {
+        return Optional.ofNullable(watermark);
+    }
+
+    /**
+     * @return immutable interval of the retained values. The snapshot is cached until the next update.
+     */
+    public Interval<T> snapshot() {
+        if (snapshot == null) {
+            snapshot = new IntervalImpl<>(ranges.toRangeSet());
+        }
+        return snapshot;
+    }
+
+    private void add(ClosedRange<T> range) {
+        ClosedRange<T> retained = range;
+        if (horizon != null) {
+            ClosedRange<T> retention = ClosedRange.of(horizon, null);
+            if (!range.isConnected(retention)) {
+                return;
+            }
+            retained = range.intersection(retention);
+        }
+        ranges.add(retained);
+        snapshot = null;
+    }
+}
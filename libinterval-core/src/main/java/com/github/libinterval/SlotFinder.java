@@ -0,0 +1,150 @@
+package com.github.libinterval;
+
+import java.time.DateTimeException;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+import static com.github.libinterval.IntervalUtils.compare;
+
+/**
+ * Finds free slots in several calendars of busy time, e.g. the earliest 3 days when all the members of a team are free.
+ * Every calendar is a sorted sequence of events where its busy ranges start and end, so the calendars are merged
+ * lazily with a heap and the search stops at the first slot which is long enough, without building the union
+ * of the calendars. Values outside of the horizon are treated as busy in all the calendars. E.g:
+ * <pre>{@code
+ * SlotFinder<LocalDate> finder = new SlotFinder<>(Arrays.asList(alice, bob, carol));
+ * Optional<Interval<LocalDate>> slot = finder.findFirst(Interval.closed(today, today.plusMonths(1)), 3, DAYS);
+ * }</pre>
+ * The slots are the whole free intervals, which are at least as long as required.
+ *
+ * @since 18-Oct-2026
+ */
+public class SlotFinder<T extends Comparable<?> & Temporal> {
+    private final List<ClosedRangeSet<T>> calendars;
+    private final ComparableTemporalDiscreteDomain<T> domain = DefaultComparableTemporalDiscreteDomain.instance();
+
+    /**
+     * @param calendars - busy time of every calendar.
+     */
+    public SlotFinder(Collection<Interval<T>> calendars) {
+        this.calendars = new ArrayList<>(calendars.size());
+        for (Interval<T> calendar : calendars) {
+            this.calendars.add(IntervalUtils.rangesOf(calendar));
+        }
+    }
+
+    /**
+     * @param horizon - interval to search the slot in.
+     * @param length  - minimal length of the slot in the units: the slot contains every value from its start
+     *                until {@code start.plus(length, temporalUnit)} exclusive, e.g. 2 hours from 09:00 are
+     *                09:00..10:59:59.999999999 of {@link java.time.LocalDateTime}.
+     * @return the earliest slot which is free in all the calendars.
+     */
+    public Optional<Interval<T>> findFirst(Interval<T> horizon, long length, TemporalUnit temporalUnit) {
+        return find(1, calendars.size(), horizon, length, temporalUnit).stream().findFirst();
+    }
+
+    /**
+     * @param n - maximal number of slots.
+     * @return up to n earliest slots which are free in all the calendars.
+     */
+    public List<Interval<T>> findFirst(int n, Interval<T> horizon, long length, TemporalUnit temporalUnit) {
+        return find(n, calendars.size(), horizon, length, temporalUnit);
+    }
+
+    /**
+     * @param minFree - minimal number of calendars which are free during the slot, e.g. a quorum.
+     * @return the earliest slot when at least minFree of the calendars are free, not necessarily the same ones.
+     */
+    public Optional<Interval<T>> findFirstWithFree(int minFree, Interval<T> horizon, long length, TemporalUnit temporalUnit) {
+        if (minFree < 1 || minFree > calendars.size()) {
+            throw new IllegalArgumentException("The number of free calendars must be between 1 and " + calendars.size()
+                    + ": " + minFree + ".");
+        }
+        return find(1, minFree, horizon, length, temporalUnit).stream().findFirst();
+    }
+
+    private List<Interval<T>> find(int n, int minFree, Interval<T> horizon, long length, TemporalUnit temporalUnit) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The number of slots must not be negative: " + n + ".");
+        }
+        if (length < 1) {
+            throw new IllegalArgumentException("The length of slot must be positive: " + length + ".");
+        }
+        if (n == 0) {
+            return Collections.emptyList();
+        }
+
+        int maxBusy = calendars.size() - minFree;
+        int outsideHorizon = calendars.size() + 1;
+        PriorityQueue<RangeEventSource<T>> sources = new PriorityQueue<>((first, second) -> compare(first.position, second.position));
+        int busy = 0;
+        List<RangeEventSource<T>> all = new ArrayList<>(calendars.size() + 1);
+        for (ClosedRangeSet<T> calendar : calendars) {
+            all.add(new RangeEventSource<>(calendar, 1, domain));
+        }
+        all.add(new RangeEventSource<>(IntervalUtils.rangesOf(horizon), -outsideHorizon, domain));
+        for (RangeEventSource<T> source : all) {
+            busy += source.initialWeight();
+            if (source.advance()) {
+                sources.add(source);
+            }
+        }
+        busy += outsideHorizon;
+
+        List<Interval<T>> slots = new ArrayList<>();
+        T slotStart = null;
+        boolean free = busy <= maxBusy;
+        while (!sources.isEmpty()) {
+            T position = sources.peek().position;
+            while (!sources.isEmpty() && compare(sources.peek().position, position) == 0) {
+                RangeEventSource<T> source = sources.poll();
+                busy += source.delta;
+                if (source.advance()) {
+                    sources.add(source);
+                }
+            }
+
+            boolean nowFree = busy <= maxBusy;
+            if (nowFree && !free) {
+                slotStart = position;
+            } else if (!nowFree && free) {
+                T slotEnd = domain.previous(position);
+                if (slotStart == null || isLongEnough(slotStart, position, length, temporalUnit)) {
+                    slots.add(newInterval(slotStart, slotEnd));
+                    if (slots.size() == n) {
+                        return slots;
+                    }
+                }
+            }
+            free = nowFree;
+        }
+        if (free) {
+            slots.add(newInterval(slotStart, null));
+        }
+        return slots;
+    }
+
+    /**
+     * @param end - the first busy value after the slot.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<?> & Temporal> boolean isLongEnough(T start, T end, long length, TemporalUnit temporalUnit) {
+        try {
+            return compare((T) start.plus(length, temporalUnit), end) <= 0;
+        } catch (DateTimeException e) {
+            // the required end is out of the supported range, so no bounded slot is long enough
+            return false;
+        }
+    }
+
+    private static <T extends Comparable<?> & Temporal> Interval<T> newInterval(T lower, T upper) {
+        return new IntervalImpl<>(ClosedRangeSet.of(ClosedRange.of(lower, upper)));
+    }
+}
@@ -1,7 +1,5 @@
 package com.github.libinterval;
 
-import com.google.common.collect.ImmutableMap;
-
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -11,6 +9,8 @@ import java.time.Year;
 import java.time.YearMonth;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalQueries;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -20,11 +20,15 @@ import java.util.Optional;
  */
 class TemporalConverters {
 
-    private final static Map<Class<?>, TemporalConverter<?>> converters = ImmutableMap.<Class<?>, TemporalConverter<?>>builder()
-            .put(YearMonth.class, new YearMonthTemporalConverter())
-            .put(LocalDate.class, new LocalDateTemporalConverter())
-            .put(LocalDateTime.class, new LocalDateTimeTemporalConverter())
-            .build();
+    private final static Map<Class<?>, TemporalConverter<?>> converters;
+
+    static {
+        Map<Class<?>, TemporalConverter<?>> map = new HashMap<>();
+        map.put(YearMonth.class, new YearMonthTemporalConverter());
+        map.put(LocalDate.class, new LocalDateTemporalConverter());
+        map.put(LocalDateTime.class, new LocalDateTimeTemporalConverter());
+        converters = Collections.unmodifiableMap(map);
+    }
 
     @SuppressWarnings("unchecked")
     public static <T extends Comparable<?> & Temporal, R> R convertLowerEndpoint(T lowerEndpoint, Class<R> type) {
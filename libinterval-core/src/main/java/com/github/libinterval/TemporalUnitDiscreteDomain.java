@@ -0,0 +1,35 @@
+package com.github.libinterval;
+
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+
+/**
+ * Discrete domain whose values are one temporal unit apart, it doesn't need Guava.
+ *
+ * @since 18-Oct-2026
+ */
+class TemporalUnitDiscreteDomain<T extends Comparable<?> & Temporal> implements ComparableTemporalDiscreteDomain<T> {
+
+    private final TemporalUnit unit;
+
+    TemporalUnitDiscreteDomain(TemporalUnit unit) {
+        this.unit = unit;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next(T value) {
+        return (T) value.plus(1, unit);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T previous(T value) {
+        return (T) value.minus(1, unit);
+    }
+
+    @Override
+    public long distance(T start, T end) {
+        return unit.between(start, end);
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.libinterval.AllenRelation.AFTER;
+import static com.github.libinterval.AllenRelation.BEFORE;
+import static com.github.libinterval.AllenRelation.CONTAINS;
+import static com.github.libinterval.AllenRelation.DURING;
+import static com.github.libinterval.AllenRelation.EQUALS;
+import static com.github.libinterval.AllenRelation.FINISHED_BY;
+import static com.github.libinterval.AllenRelation.FINISHES;
+import static com.github.libinterval.AllenRelation.MEETS;
+import static com.github.libinterval.AllenRelation.MET_BY;
+import static com.github.libinterval.AllenRelation.OVERLAPPED_BY;
+import static com.github.libinterval.AllenRelation.OVERLAPS;
+import static com.github.libinterval.AllenRelation.STARTED_BY;
+import static com.github.libinterval.AllenRelation.STARTS;
+import static com.github.libinterval.Interval.between;
+import static com.github.libinterval.Interval.unionOf;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestAllenRelation {
+    private final Interval<LocalDate> interval = between(date(10), date(20));
+
+    @Test
+    public void testAllRelations() {
+        assertEquals(BEFORE, between(date(1), date(8)).relationTo(interval));
+        assertEquals(MEETS, between(date(1), date(9)).relationTo(interval));
+        assertEquals(OVERLAPS, between(date(1), date(10)).relationTo(interval));
+        assertEquals(STARTS, between(date(10), date(15)).relationTo(interval));
+        assertEquals(DURING, between(date(11), date(19)).relationTo(interval));
+        assertEquals(FINISHES, between(date(15), date(20)).relationTo(interval));
+        assertEquals(EQUALS, between(date(10), date(20)).relationTo(interval));
+        assertEquals(FINISHED_BY, between(date(1), date(20)).relationTo(interval));
+        assertEquals(CONTAINS, between(date(1), date(30)).relationTo(interval));
+        assertEquals(STARTED_BY, between(date(10), date(30)).relationTo(interval));
+        assertEquals(OVERLAPPED_BY, between(date(20), date(30)).relationTo(interval));
+        assertEquals(MET_BY, between(date(21), date(30)).relationTo(interval));
+        assertEquals(AFTER, between(date(22), date(30)).relationTo(interval));
+    }
+
+    @Test
+    public void testInverse() {
+        List<Interval<LocalDate>> intervals = new ArrayList<>();
+        for (int start = 1; start <= 25; start += 3) {
+            intervals.add(between(date(start), date(start + 4)));
+            intervals.add(between(date(start), null));
+            intervals.add(between(null, date(start)));
+        }
+
+        AllenRelation[][] matrix = AllenRelation.relationMatrix(intervals, intervals);
+
+        for (int i = 0; i < intervals.size(); i++) {
+            for (int j = 0; j < intervals.size(); j++) {
+                assertEquals(matrix[i][j].inverse(), matrix[j][i]);
+                assertEquals(intervals.get(i).relationTo(intervals.get(j)), matrix[i][j]);
+            }
+        }
+    }
+
+    @Test
+    public void testUnboundedIntervals() {
+        assertEquals(EQUALS, Interval.<LocalDate>all().relationTo(Interval.all()));
+        assertEquals(CONTAINS, Interval.<LocalDate>all().relationTo(interval));
+        assertEquals(MEETS, Interval.to(date(9)).relationTo(Interval.from(date(10))));
+        assertEquals(STARTED_BY, Interval.from(date(10)).relationTo(interval));
+    }
+
+    @Test
+    public void testIntervalsWithGapsAreRelatedBySpan() {
+        Interval<LocalDate> withGap = unionOf(between(date(1), date(5)), between(date(15), date(20)));
+
+        assertEquals(FINISHED_BY, withGap.relationTo(interval));
+        assertArrayEquals(new AllenRelation[][]{{FINISHED_BY, MEETS}},
+                AllenRelation.relationMatrix(asList(withGap), asList(interval, between(date(21), date(22)))));
+    }
+
+    @Test
+    public void testAdjacencyWithTemporalUnit() {
+        Interval<LocalDateTime> morning = between(LocalDateTime.of(2018, 1, 1, 0, 0), LocalDateTime.of(2018, 1, 1, 12, 0));
+        Interval<LocalDateTime> nextDay = between(LocalDateTime.of(2018, 1, 2, 12, 0), LocalDateTime.of(2018, 1, 3, 0, 0));
+
+        assertEquals(BEFORE, morning.relationTo(nextDay));
+        assertEquals(MEETS, morning.relationTo(nextDay, DAYS));
+    }
+
+    @Test
+    public void testEmptyInterval() {
+        assertThatThrownBy(() -> Interval.<LocalDate>none().relationTo(interval))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
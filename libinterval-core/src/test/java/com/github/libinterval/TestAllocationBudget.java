@@ -0,0 +1,129 @@
+package com.github.libinterval;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+
+import static com.github.libinterval.Interval.closed;
+import static com.github.libinterval.Interval.unionOf;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks that the core operations don't allocate more bytes than their budgets.
+ * Budgets are per operation and have a margin, so they fail on regressions, not on JIT noise.
+ * Objects take more bytes without compressed pointers (the default for heaps of 32 GB and more),
+ * so the operations which allocate objects have a budget for each layout.
+ *
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestAllocationBudget {
+    private static final int WARM_UP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+    private static final boolean COMPRESSED_POINTERS = isVmOptionEnabled("UseCompressedOops")
+            && isVmOptionEnabled("UseCompressedClassPointers");
+
+    private final Interval<LocalDate> interval = unionOf(
+            closed(date(1), date(100)),
+            closed(date(200), date(300)),
+            closed(date(400), date(500)));
+    private final Interval<LocalDate> other = unionOf(
+            closed(date(50), date(250)),
+            closed(date(450), date(600)));
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+    private Object sink;
+
+    @Before
+    public void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void testContains() {
+        LocalDate value = date(250);
+        assertBudget("contains", 0, () -> sink = interval.contains(value));
+    }
+
+    @Test
+    public void testCount() {
+        assertBudget("count", 32, () -> sink = interval.count(DAYS));
+    }
+
+    @Test
+    public void testUnion() {
+        assertBudget("union", 1280, 1792, () -> sink = unionOf(interval, other));
+    }
+
+    @Test
+    public void testIntersection() {
+        assertBudget("intersection", 1024, 1408, () -> sink = Interval.intersectionOf(interval, other));
+    }
+
+    @Test
+    public void testDifference() {
+        assertBudget("difference", 640, 896, () -> sink = interval.difference(other));
+    }
+
+    @Test
+    public void testMap() {
+        assertBudget("map", 1024, 1408, () -> sink = interval.map(date -> date.plusYears(1)));
+    }
+
+    @Test
+    public void testDaysPerElement() {
+        Interval<LocalDate> days = closed(date(1), date(1000));
+        long perOperation = measure(() -> sink = days.days().count());
+        long perElement = perOperation / 1000;
+
+        assertTrue("days() allocates " + perElement + " bytes per element, the budget is 40",
+                perElement <= 40);
+    }
+
+    private void assertBudget(String operation, long budget, Runnable runnable) {
+        long perOperation = measure(runnable);
+        assertTrue(operation + " allocates " + perOperation + " bytes per operation, the budget is " + budget,
+                perOperation <= budget);
+    }
+
+    private void assertBudget(String operation, long compressedBudget, long uncompressedBudget, Runnable runnable) {
+        assertBudget(operation, COMPRESSED_POINTERS ? compressedBudget : uncompressedBudget, runnable);
+    }
+
+    private long measure(Runnable runnable) {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            runnable.run();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            runnable.run();
+        }
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+        return allocated / MEASURED_ITERATIONS;
+    }
+
+    private static boolean isVmOptionEnabled(String name) {
+        try {
+            com.sun.management.HotSpotDiagnosticMXBean bean =
+                    ManagementFactory.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class);
+            return bean != null && Boolean.parseBoolean(bean.getVMOption(name).getValue());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.github.libinterval.Interval.between;
+import static com.github.libinterval.Interval.intersectionOf;
+import static com.github.libinterval.Interval.unionOf;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestBitmapInterval {
+
+    @Test
+    public void testFragmentedIntervalIsBitmap() {
+        assertTrue(workingDays(0, 200) instanceof BitmapInterval);
+        assertFalse(workingDays(0, 10) instanceof BitmapInterval);
+        assertFalse(unionOf(workingDays(0, 200), between(null, date(1))) instanceof BitmapInterval);
+    }
+
+    @Test
+    public void testResultWhichIsNotFragmentedIsRanges() {
+        Interval<LocalDate> interval = workingDays(0, 200);
+
+        Interval<LocalDate> wideUnion = unionOf(interval, between(LocalDate.MIN, date(0)));
+        Interval<LocalDate> narrowIntersection = intersectionOf(interval, between(date(1), date(12)));
+        Interval<LocalDate> smallDifference = interval.difference(between(date(8), date(7 * 200)));
+
+        assertFalse(wideUnion instanceof BitmapInterval);
+        assertEquals(workingDaysString(0, 200).replace("[2018-01-01", "[" + LocalDate.MIN + "..2017-12-31], [2018-01-01"),
+                wideUnion.toString());
+        assertFalse(narrowIntersection instanceof BitmapInterval);
+        assertEquals(workingDaysString(0, 2), narrowIntersection.toString());
+        assertFalse(smallDifference instanceof BitmapInterval);
+        assertEquals(workingDaysString(0, 1), smallDifference.toString());
+        assertTrue(unionOf(interval, between(date(6), date(7))) instanceof BitmapInterval);
+    }
+
+    @Test
+    public void testSameResultAsRanges() {
+        Random random = new Random(11);
+        for (int i = 0; i < 20; i++) {
+            ClosedRangeSet<LocalDate> first = randomRanges(random);
+            ClosedRangeSet<LocalDate> second = randomRanges(random);
+            Interval<LocalDate> firstBitmap = BitmapInterval.of(first);
+            Interval<LocalDate> secondBitmap = BitmapInterval.of(second);
+            Interval<LocalDate> range = between(date(random.nextInt(1000)), date(1000 + random.nextInt(1000)));
+
+            assertEquals(new IntervalImpl<>(first.union(second)).toString(), unionOf(firstBitmap, secondBitmap).toString());
+            assertEquals(new IntervalImpl<>(first.intersection(second)).toString(),
+                    intersectionOf(firstBitmap, secondBitmap).toString());
+            assertEquals(new IntervalImpl<>(first.difference(second, RangeConverter.defaultInstance())).toString(),
+                    firstBitmap.difference(secondBitmap).toString());
+            assertEquals(new IntervalImpl<>(first.union(IntervalUtils.rangesOf(range))).toString(),
+                    unionOf(firstBitmap, range).toString());
+            assertEquals(new IntervalImpl<>(first.intersection(IntervalUtils.rangesOf(range))).toString(),
+                    intersectionOf(range, firstBitmap).toString());
+            assertEquals(new IntervalImpl<>(first).count(DAYS), firstBitmap.count(DAYS));
+            for (int day = 0; day < 2100; day += 7) {
+                assertEquals(first.contains(date(day)), firstBitmap.contains(date(day)));
+            }
+        }
+    }
+
+    @Test
+    public void testAdjacentRangesAreNotMerged() {
+        Interval<LocalDate> interval = workingDays(0, 200);
+        Interval<LocalDate> adjacent = unionOf(interval, between(date(6), date(7)));
+
+        assertEquals(workingDaysString(0, 200).replace("2018-01-05], [2018-01-08", "2018-01-05], [2018-01-06..2018-01-07], [2018-01-08"),
+                adjacent.toString());
+        assertEquals(interval.count(DAYS) + 2, adjacent.count(DAYS));
+    }
+
+    @Test
+    public void testUnboundedInterval() {
+        Interval<LocalDate> interval = workingDays(0, 200);
+
+        assertEquals(interval.toString(), intersectionOf(interval, Interval.all()).toString());
+        assertFalse(interval.difference(Interval.all()).isPresent());
+        assertEquals(workingDaysString(100, 200), interval.difference(between(null, date(7 * 100 - 1))).toString());
+        assertEquals(interval.count(MONTHS), new IntervalImpl<>(IntervalUtils.rangesOf(interval)).count(MONTHS));
+    }
+
+    private static Interval<LocalDate> workingDays(int fromWeek, int toWeek) {
+        List<Interval<LocalDate>> weeks = new ArrayList<>();
+        for (int week = fromWeek; week < toWeek; week++) {
+            weeks.add(between(date(7 * week + 1), date(7 * week + 5)));
+        }
+        return unionOf(weeks);
+    }
+
+    private static String workingDaysString(int fromWeek, int toWeek) {
+        List<String> weeks = new ArrayList<>();
+        for (int week = fromWeek; week < toWeek; week++) {
+            weeks.add("[" + date(7 * week + 1) + ".." + date(7 * week + 5) + "]");
+        }
+        return weeks.toString();
+    }
+
+    private static ClosedRangeSet<LocalDate> randomRanges(Random random) {
+        List<ClosedRange<LocalDate>> ranges = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int start = random.nextInt(5000) - 1000;
+            ranges.add(ClosedRange.of(date(start), date(start + random.nextInt(12))));
+        }
+        return ClosedRangeSet.unionOf(ranges);
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
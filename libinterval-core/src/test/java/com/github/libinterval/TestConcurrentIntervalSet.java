@@ -0,0 +1,129 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.github.libinterval.Interval.between;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestConcurrentIntervalSet {
+
+    @Test
+    public void testAddAndRemove() {
+        ConcurrentIntervalSet<LocalDate> set = new ConcurrentIntervalSet<>();
+        set.add(between(date(1), date(10)));
+        set.add(between(date(20), date(30)));
+        set.add(between(date(8), date(12)));
+        set.remove(between(date(5), date(6)));
+        set.remove(between(date(25), null));
+
+        assertEquals("[[2018-01-01..2018-01-04], [2018-01-07..2018-01-12], [2018-01-20..2018-01-24]]", set.toString());
+        assertTrue(set.contains(date(7)));
+        assertFalse(set.contains(date(5)));
+        assertFalse(set.contains(date(13)));
+    }
+
+    @Test
+    public void testAddIfAbsent() {
+        ConcurrentIntervalSet<LocalDate> set = new ConcurrentIntervalSet<>();
+
+        assertTrue(set.addIfAbsent(between(date(1), date(10))));
+        assertFalse(set.addIfAbsent(between(date(10), date(12))));
+        assertTrue(set.addIfAbsent(between(date(11), date(12))));
+        assertEquals("[[2018-01-01..2018-01-10], [2018-01-11..2018-01-12]]", set.snapshot().toString());
+    }
+
+    @Test
+    public void testConcurrentBookingsDoNotOverlap() throws Exception {
+        ConcurrentIntervalSet<LocalDate> set = new ConcurrentIntervalSet<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                tasks.add(() -> {
+                    int booked = 0;
+                    for (int day = 1; day < 1000; day += 3) {
+                        if (set.addIfAbsent(between(date(day), date(day + 4)))) {
+                            booked++;
+                        }
+                        set.contains(date(day));
+                    }
+                    return booked;
+                });
+            }
+
+            int booked = 0;
+            for (Future<Integer> future : executorService.invokeAll(tasks)) {
+                booked += future.get();
+            }
+
+            assertEquals(set.snapshot().countDays(), booked * 5L);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentAddsAndRemoves() throws Exception {
+        ConcurrentIntervalSet<LocalDate> set = new ConcurrentIntervalSet<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Interval<LocalDate>>> adds = new ArrayList<>();
+            List<Callable<Interval<LocalDate>>> removes = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                adds.add(() -> {
+                    List<Interval<LocalDate>> added = new ArrayList<>();
+                    for (int day = offset; day < 2000; day += 7) {
+                        Interval<LocalDate> interval = between(date(day), date(day + day % 11));
+                        set.add(interval);
+                        added.add(interval);
+                    }
+                    return Interval.unionOf(added);
+                });
+                removes.add(() -> {
+                    List<Interval<LocalDate>> removed = new ArrayList<>();
+                    for (int day = offset * 3; day < 2000; day += 29) {
+                        Interval<LocalDate> interval = between(date(day), date(day + day % 5));
+                        set.remove(interval);
+                        removed.add(interval);
+                    }
+                    return Interval.unionOf(removed);
+                });
+            }
+
+            List<Interval<LocalDate>> added = new ArrayList<>();
+            for (Future<Interval<LocalDate>> future : executorService.invokeAll(adds)) {
+                added.add(future.get());
+            }
+            assertEquals(Interval.unionOf(added).toString(), set.toString());
+
+            List<Interval<LocalDate>> removed = new ArrayList<>();
+            for (Future<Interval<LocalDate>> future : executorService.invokeAll(removes)) {
+                removed.add(future.get());
+            }
+            assertEquals(Interval.unionOf(added).difference(Interval.unionOf(removed)).toString(), set.toString());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.github.libinterval.Interval.between;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestCountIndex {
+    private final Interval<LocalDate> interval = Interval.unionOf(between(date(1), date(10)), between(date(20), date(31)));
+
+    @Test
+    public void testCountInWindow() {
+        assertEquals(12, interval.count(DAYS, between(date(5), date(25))));
+        assertEquals(0, interval.count(DAYS, between(date(11), date(19))));
+        assertEquals(22, interval.count(DAYS, Interval.all()));
+        assertEquals(4, interval.count(DAYS, Interval.unionOf(between(date(1), date(2)), between(date(30), date(40)))));
+        assertEquals(0, Interval.<LocalDate>none().count(DAYS, Interval.all()));
+    }
+
+    @Test
+    public void testNthAndRank() {
+        assertEquals(Optional.of(date(1)), interval.nth(DAYS, 0));
+        assertEquals(Optional.of(date(20)), interval.nth(DAYS, 10));
+        assertEquals(Optional.of(date(31)), interval.nth(DAYS, 21));
+        assertEquals(Optional.empty(), interval.nth(DAYS, 22));
+        assertEquals(10, interval.rankOf(DAYS, date(20)));
+        assertEquals(10, interval.rankOf(DAYS, date(15)));
+        assertEquals(0, interval.rankOf(DAYS, date(0)));
+        assertEquals(22, interval.rankOf(DAYS, date(40)));
+        assertThatThrownBy(() -> interval.nth(DAYS, -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Interval.from(date(1)).nth(DAYS, 1)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testIndexIsKeptByInterval() {
+        List<Interval<LocalDate>> weeks = new ArrayList<>();
+        for (int week = 0; week < 200; week++) {
+            weeks.add(between(date(7 * week + 1), date(7 * week + 5)));
+        }
+        Interval<LocalDate> bitmap = Interval.unionOf(weeks);
+        Interval<LocalDate> persistent = PersistentInterval.of(interval);
+
+        assertTrue(bitmap instanceof BitmapInterval);
+        assertSame(IntervalUtils.rangesOf(bitmap).countIndex(DAYS), IntervalUtils.rangesOf(bitmap).countIndex(DAYS));
+        assertSame(IntervalUtils.rangesOf(persistent).countIndex(DAYS), IntervalUtils.rangesOf(persistent).countIndex(DAYS));
+        assertSame(IntervalUtils.rangesOf(interval).countIndex(DAYS), IntervalUtils.rangesOf(interval).countIndex(DAYS));
+    }
+
+    @Test
+    public void testCountAddsWholeRangesInsideWindow() {
+        Interval<LocalDate> threeRanges = Interval.unionOf(
+                between(date(1), date(10)), between(date(15), date(16)), between(date(20), date(31)));
+
+        assertEquals(7, threeRanges.count(DAYS, between(date(9), date(22))));
+        assertEquals(3, threeRanges.count(DAYS, between(date(3), date(5))));
+        assertEquals(24, threeRanges.count(DAYS, Interval.from(date(1))));
+        assertEquals(12, threeRanges.count(DAYS, Interval.to(date(16))));
+    }
+
+    @Test
+    public void testNthAndRankAtRangeBoundaries() {
+        assertEquals(Optional.of(date(10)), interval.nth(DAYS, 9));
+        assertEquals(9, interval.rankOf(DAYS, date(10)));
+        assertEquals(10, interval.rankOf(DAYS, date(11)));
+        assertEquals(10, interval.rankOf(DAYS, date(19)));
+        assertEquals(21, interval.rankOf(DAYS, date(31)));
+    }
+
+    @Test
+    public void testCoarseUnits() {
+        LocalDateTime morning = LocalDateTime.of(2018, 1, 1, 9, 30);
+        Interval<LocalDateTime> shifts = Interval.unionOf(
+                between(morning, morning.plusHours(8)),
+                between(morning.plusDays(1), morning.plusDays(1).plusHours(8)));
+        Interval<LocalDateTime> window = between(morning.plusMinutes(45), morning.plusDays(1).plusMinutes(30));
+
+        assertEquals(Interval.intersectionOf(shifts, window).count(HOURS), shifts.count(HOURS, window));
+        assertEquals(morning.plusDays(1).plusHours(1), shifts.nth(HOURS, 10).get());
+        assertEquals(9, shifts.rankOf(HOURS, morning.plusDays(1).plusMinutes(59)));
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
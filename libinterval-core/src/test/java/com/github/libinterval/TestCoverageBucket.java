@@ -0,0 +1,101 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.SortedMap;
+
+import static com.github.libinterval.Interval.between;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static java.time.temporal.ChronoUnit.YEARS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestCoverageBucket {
+
+    @Test
+    public void testMonthsByDays() {
+        Interval<LocalDate> interval = Interval.unionOf(
+                between(LocalDate.of(2018, 1, 20), LocalDate.of(2018, 2, 10)),
+                between(LocalDate.of(2018, 2, 20), LocalDate.of(2018, 2, 21)),
+                between(LocalDate.of(2018, 5, 1), LocalDate.of(2018, 5, 31)));
+
+        List<CoverageBucket<LocalDate>> buckets = interval.rollup(MONTHS, DAYS).collect(toList());
+
+        assertEquals("[[2018-01-01..2018-01-31] 12/31, [2018-02-01..2018-02-28] 12/28, [2018-05-01..2018-05-31] 31/31]",
+                buckets.toString());
+        assertEquals(1.0, buckets.get(2).getRatio(), 0);
+        assertEquals(interval.countDays(), buckets.stream().mapToLong(CoverageBucket::getCoveredCount).sum());
+    }
+
+    @Test
+    public void testSameCountsAsIntersection() {
+        Interval<LocalDate> interval = between(LocalDate.of(2017, 12, 25), LocalDate.of(2019, 3, 3))
+                .difference(between(LocalDate.of(2018, 6, 3), LocalDate.of(2018, 6, 17)));
+
+        for (CoverageBucket<LocalDate> bucket : interval.rollup(WEEKS, DAYS).collect(toList())) {
+            Interval<LocalDate> week = between(bucket.getStart(), bucket.getEnd());
+            assertEquals(LocalDate.of(2018, 1, 1).getDayOfWeek(), bucket.getStart().getDayOfWeek());
+            assertEquals(7, bucket.getTotalCount());
+            assertEquals(Interval.intersectionOf(interval, week).countDays(), bucket.getCoveredCount());
+        }
+        assertEquals("[[2017-01..2017-12] 1/12, [2018-01..2018-12] 12/12, [2019-01..2019-12] 3/12]",
+                interval.toMonthsInterval().rollup(YEARS, MONTHS).collect(toList()).toString());
+    }
+
+    @Test
+    public void testTimeBuckets() {
+        Interval<LocalDateTime> interval = between(LocalDateTime.of(2018, 1, 1, 22, 30), LocalDateTime.of(2018, 1, 2, 1, 0));
+
+        assertEquals("[[2018-01-01T00:00..2018-01-01T23:59:59.999999999] 2/24, [2018-01-02T00:00..2018-01-02T23:59:59.999999999] 2/24]",
+                interval.rollup(DAYS, HOURS).collect(toList()).toString());
+        assertEquals(0, Interval.<YearMonth>none().rollup(YEARS, MONTHS).count());
+        assertThatThrownBy(() -> Interval.from(LocalDate.of(2018, 1, 1)).rollup(MONTHS, DAYS))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> Interval.closed(YearMonth.of(2018, 1), YearMonth.of(2018, 3)).rollup(WEEKS, MONTHS))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 3)).rollup(HOURS, DAYS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testProrate() {
+        Interval<LocalDate> interval = between(LocalDate.of(2018, 1, 22), LocalDate.of(2018, 2, 10));
+
+        assertEquals("{2018-01-01=50, 2018-02-01=50}", interval.prorate(100, DAYS, MONTHS).toString());
+        assertEquals("{2018-01-22=34, 2018-01-23=33, 2018-01-24=33}",
+                between(LocalDate.of(2018, 1, 22), LocalDate.of(2018, 1, 24)).prorate(100, DAYS, DAYS).toString());
+        assertEquals("{2018-01-22=-34, 2018-01-23=-33, 2018-01-24=-33}",
+                between(LocalDate.of(2018, 1, 22), LocalDate.of(2018, 1, 24)).prorate(-100, DAYS, DAYS).toString());
+        assertEquals("{}", Interval.<LocalDate>none().prorate(100, DAYS, MONTHS).toString());
+    }
+
+    @Test
+    public void testProrateDecimalAmount() {
+        Interval<LocalDate> year = Interval.unionOf(
+                between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 6, 30)),
+                between(LocalDate.of(2018, 7, 15), LocalDate.of(2019, 12, 31)));
+
+        SortedMap<LocalDate, BigDecimal> shares = year.prorate(new BigDecimal("1000.00"), DAYS, MONTHS);
+
+        assertEquals(24, shares.size());
+        assertEquals(new BigDecimal("1000.00"), shares.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add));
+        assertEquals(new BigDecimal("43.30"), shares.get(LocalDate.of(2018, 1, 1)));
+        assertEquals(new BigDecimal("23.74"), shares.get(LocalDate.of(2018, 7, 1)));
+        assertEquals("{2018-01-01=490, 2019-01-01=510}", year.prorate(1000, DAYS, YEARS).toString());
+    }
+}
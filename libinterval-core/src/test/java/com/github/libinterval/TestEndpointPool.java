@@ -0,0 +1,122 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.slf4j.Logger;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.concurrent.Callable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The pool is configured once per class loader, so the enabled pool is tested in a separate class loader.
+ *
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestEndpointPool {
+
+    @Test
+    public void testDisabledByDefault() {
+        LocalDate date = LocalDate.of(2018, 1, 1);
+        Interval<LocalDate> first = Interval.between(date, date.plusDays(1));
+        Interval<LocalDate> second = Interval.between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 2));
+
+        assertNotSame(first.findUpperEndpoint().get(), second.findUpperEndpoint().get());
+    }
+
+    @Test
+    public void testEqualEndpointsAreShared() throws Exception {
+        System.setProperty("libinterval.endpoint.pool", "true");
+        System.setProperty("libinterval.endpoint.pool.from", "2000-01-01");
+        System.setProperty("libinterval.endpoint.pool.to", "2029-12-31");
+        try (URLClassLoader classLoader = newClassLoader()) {
+            Callable<?> sharedEndpoints = (Callable<?>) classLoader.loadClass(SharedEndpoints.class.getName())
+                    .getDeclaredConstructor().newInstance();
+
+            assertEquals("true true true true true", sharedEndpoints.call());
+        } finally {
+            System.clearProperty("libinterval.endpoint.pool");
+            System.clearProperty("libinterval.endpoint.pool.from");
+            System.clearProperty("libinterval.endpoint.pool.to");
+        }
+    }
+
+    @Test
+    public void testMalformedWindowIsIgnoredWhenDisabled() throws Exception {
+        System.setProperty("libinterval.endpoint.pool.from", "2000-13-01");
+        try (URLClassLoader classLoader = newClassLoader()) {
+            Callable<?> newInterval = (Callable<?>) classLoader.loadClass(NewInterval.class.getName())
+                    .getDeclaredConstructor().newInstance();
+
+            assertEquals("[[2018-01-01..2018-01-10]]", newInterval.call());
+        } finally {
+            System.clearProperty("libinterval.endpoint.pool.from");
+        }
+    }
+
+    @Test
+    public void testMalformedWindow() throws Exception {
+        System.setProperty("libinterval.endpoint.pool", "true");
+        System.setProperty("libinterval.endpoint.pool.to", "2100/12/31");
+        try (URLClassLoader classLoader = newClassLoader()) {
+            Callable<?> newInterval = (Callable<?>) classLoader.loadClass(NewInterval.class.getName())
+                    .getDeclaredConstructor().newInstance();
+
+            newInterval.call();
+            fail();
+        } catch (ExceptionInInitializerError e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+            assertEquals("Invalid libinterval.endpoint.pool.to: 2100/12/31.", e.getCause().getMessage());
+        } finally {
+            System.clearProperty("libinterval.endpoint.pool");
+            System.clearProperty("libinterval.endpoint.pool.to");
+        }
+    }
+
+    public static class NewInterval implements Callable<String> {
+
+        @Override
+        public String call() {
+            return Interval.between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 10)).toString();
+        }
+    }
+
+    public static class SharedEndpoints implements Callable<String> {
+
+        @Override
+        public String call() {
+            Interval<LocalDate> first = Interval.between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 10));
+            Interval<LocalDate> second = Interval.between(LocalDate.of(2018, 1, 5), LocalDate.of(2018, 1, 10))
+                    .difference(Interval.between(LocalDate.of(2018, 1, 5), LocalDate.of(2018, 1, 6)));
+            Interval<LocalDate> outsideWindow = Interval.between(LocalDate.of(1900, 1, 1), LocalDate.of(1900, 1, 2));
+            Interval<YearMonth> months = first.map(YearMonth::from);
+            Interval<LocalDateTime> dateTimes = Interval.between(LocalDateTime.of(2018, 1, 1, 10, 0), null);
+
+            return (first.findUpperEndpoint().get() == second.findUpperEndpoint().get())
+                    + " " + (Interval.between(LocalDate.of(2018, 1, 1), null).findLowerEndpoint().get()
+                    == first.findLowerEndpoint().get())
+                    + " " + (Interval.from(LocalDate.of(1900, 1, 1)).findLowerEndpoint().get()
+                    == outsideWindow.findLowerEndpoint().get())
+                    + " " + (months.findUpperEndpoint().get() == Interval.to(YearMonth.of(2018, 1)).findUpperEndpoint().get())
+                    + " " + (dateTimes.findLowerEndpoint().get()
+                    == Interval.from(LocalDateTime.of(2018, 1, 1, 10, 0)).findLowerEndpoint().get());
+        }
+    }
+
+    private static URLClassLoader newClassLoader() {
+        URL classes = Interval.class.getProtectionDomain().getCodeSource().getLocation();
+        URL testClasses = TestEndpointPool.class.getProtectionDomain().getCodeSource().getLocation();
+        URL slf4j = Logger.class.getProtectionDomain().getCodeSource().getLocation();
+        return new URLClassLoader(new URL[]{classes, testClasses, slf4j}, null);
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.libinterval;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.github.libinterval.Interval.between;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestGroupedIntervalUnion {
+    private Path directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("libinterval-test");
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testSpilledRunsAreMerged() {
+        Map<Long, String> actual = new LinkedHashMap<>();
+        try (GroupedIntervalUnion<Long, LocalDate> union =
+                     GroupedIntervalUnion.ofDates(GroupedIntervalUnion.KeySerializer.longs(), 2, directory)) {
+            union.add(2L, between(date(1), date(5)));
+            union.add(-1L, between(date(10), date(12)));
+            union.add(2L, Interval.unionOf(between(date(6), date(8)), between(date(20), date(21))));
+            union.add(7L, between(date(1), date(1)));
+            union.add(2L, between(date(4), date(7)));
+            union.add(-1L, Interval.atMost(date(3)));
+
+            union.forEach((key, interval) -> actual.put(key, interval.toString()));
+            assertThatThrownBy(() -> union.add(1L, between(date(1), date(2)))).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertEquals("{-1=[(-∞..2018-01-03], [2018-01-10..2018-01-12]], "
+                + "2=[[2018-01-01..2018-01-08], [2018-01-20..2018-01-21]], "
+                + "7=[[2018-01-01..2018-01-01]]}", actual.toString());
+    }
+
+    @Test
+    public void testInMemory() {
+        LocalDateTime morning = LocalDateTime.of(2018, 1, 1, 9, 0);
+        Map<String, String> actual = new LinkedHashMap<>();
+        try (GroupedIntervalUnion<String, LocalDateTime> union =
+                     GroupedIntervalUnion.ofDateTimes(GroupedIntervalUnion.KeySerializer.strings(), 100, directory)) {
+            union.add("bob", between(morning, morning.plusHours(2)));
+            union.add("alice", between(morning, morning.plusHours(1)));
+            union.add("bob", between(morning.plusHours(1), morning.plusHours(3)));
+
+            union.forEach((key, interval) -> actual.put(key, interval.toString()));
+        }
+
+        assertEquals("{alice=[[2018-01-01T09:00..2018-01-01T10:00]], bob=[[2018-01-01T09:00..2018-01-01T12:00]]}", actual.toString());
+    }
+
+    @Test
+    public void testClosedWithoutConsuming() {
+        GroupedIntervalUnion<Long, LocalDate> union = GroupedIntervalUnion.ofDates(GroupedIntervalUnion.KeySerializer.longs(), 1, directory);
+        union.add(1L, between(date(1), date(2)));
+        union.add(2L, between(date(1), date(2)));
+
+        union.close();
+
+        assertThatThrownBy(() -> GroupedIntervalUnion.ofDates(GroupedIntervalUnion.KeySerializer.longs(), 0, directory))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
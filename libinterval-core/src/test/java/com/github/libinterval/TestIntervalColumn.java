@@ -0,0 +1,89 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.libinterval.Interval.between;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestIntervalColumn {
+
+    @Test
+    public void testPredicates() {
+        List<Interval<LocalDate>> intervals = Arrays.asList(
+                between(date(1), date(9)),
+                between(date(5), date(12)),
+                Interval.to(date(30)),
+                Interval.from(date(30)),
+                between(date(21), date(49)),
+                between(date(55), date(60)),
+                Interval.all());
+        IntervalColumn<LocalDate> column = IntervalColumn.ofDates(intervals);
+        Interval<LocalDate> query = Interval.unionOf(between(date(10), date(20)), between(date(50), date(55)));
+
+        assertEquals("{1, 2, 3, 5, 6}", column.overlaps(query).toString());
+        assertEquals("{2, 3, 4, 6}", column.contains(date(30)).toString());
+        assertEquals("{3, 4, 6}", column.encloses(between(date(40), date(45))).toString());
+        assertEquals("{0, 1, 2, 3, 4, 5, 6}", column.encloses(Interval.none()).toString());
+        assertEquals("{}", column.overlaps(Interval.none()).toString());
+        assertEquals(intervals.toString(), column.toString());
+        assertEquals(intervals.toString(), column.stream().collect(toList()).toString());
+        assertEquals(intervals.get(3).toString(), column.get(3).toString());
+    }
+
+    @Test
+    public void testCountDays() {
+        IntervalColumn<LocalDate> dates = IntervalColumn.ofDates(Arrays.asList(between(date(1), date(10)), between(date(5), date(5))));
+        IntervalColumn<LocalDateTime> dateTimes = IntervalColumn.ofDateTimes(Arrays.asList(
+                between(LocalDateTime.of(2018, 1, 1, 10, 0), LocalDateTime.of(2018, 1, 3, 9, 0))));
+
+        assertArrayEquals(new long[]{10, 1}, dates.countDays());
+        assertArrayEquals(new long[]{2}, dateTimes.countDays());
+        Interval<LocalDateTime> widest = between(LocalDateTime.of(1677, 9, 22, 0, 0), LocalDateTime.of(2262, 4, 11, 0, 0));
+        assertArrayEquals(new long[]{widest.countDays()}, IntervalColumn.ofDateTimes(Arrays.asList(widest)).countDays());
+        assertThatThrownBy(() -> IntervalColumn.ofDates(Arrays.asList(Interval.from(date(1)))).countDays())
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> IntervalColumn.ofMonths(Arrays.asList(between(YearMonth.of(2018, 1), YearMonth.of(2018, 2)))).countDays())
+                .isInstanceOf(UnsupportedTemporalTypeException.class);
+    }
+
+    @Test
+    public void testEncoding() {
+        List<Interval<YearMonth>> monthIntervals = Arrays.asList(
+                between(YearMonth.of(1969, 12), YearMonth.of(1970, 1)),
+                between(null, YearMonth.of(2018, 5)));
+        IntervalColumn<YearMonth> months = IntervalColumn.ofMonths(monthIntervals);
+        LocalDateTime time = LocalDateTime.of(1960, 5, 6, 7, 8, 9, 123456789);
+        IntervalColumn<LocalDateTime> dateTimes = IntervalColumn.ofDateTimes(Arrays.asList(between(time, time.plusNanos(1))));
+
+        assertEquals(monthIntervals.toString(), months.toString());
+        assertEquals("{0, 1}", months.contains(YearMonth.of(1969, 12)).toString());
+        assertEquals("{1}", months.contains(YearMonth.of(1969, 11)).toString());
+        assertEquals(time, dateTimes.get(0).findLowerEndpoint().get());
+        assertEquals("{0}", dateTimes.contains(time.plusNanos(1)).toString());
+        assertEquals("{}", dateTimes.contains(time.plusNanos(2)).toString());
+        assertThatThrownBy(() -> IntervalColumn.ofDateTimes(Arrays.asList(Interval.from(LocalDateTime.of(3000, 1, 1, 0, 0)))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IntervalColumn.ofDates(Arrays.asList(Interval.none())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.github.libinterval.Interval.between;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestIntervalDelta {
+
+    @Test
+    public void testDelta() {
+        Interval<LocalDate> older = Interval.unionOf(between(date(1), date(10)), between(date(20), date(25)));
+        Interval<LocalDate> newer = Interval.unionOf(between(date(5), date(15)), between(date(20), date(25)));
+
+        IntervalDelta<LocalDate> delta = older.delta(newer);
+
+        assertEquals("[[2018-01-11..2018-01-15]]", delta.getAdded().toString());
+        assertEquals("[[2018-01-01..2018-01-04]]", delta.getRemoved().toString());
+        assertTrue(older.delta(older).isEmpty());
+        assertEquals(11, delta.toChangelog().length);
+        assertEquals("IntervalDelta{added=[], removed=[(-∞..2017-12-31]]}", Interval.<LocalDate>all().delta(Interval.from(date(1))).toString());
+    }
+
+    @Test
+    public void testSameResultAsDifferences() {
+        Random random = new Random(17);
+        for (int test = 0; test < 200; test++) {
+            Interval<LocalDate> older = randomInterval(random);
+            Interval<LocalDate> newer = randomInterval(random);
+
+            IntervalDelta<LocalDate> delta = older.delta(newer);
+
+            assertEquals(newer.difference(older).toString(), delta.getAdded().toString());
+            assertEquals(older.difference(newer).toString(), delta.getRemoved().toString());
+            assertEquals(new IntervalCell<>(newer).toString(), new IntervalCell<>(delta.applyTo(older)).toString());
+            assertEquals(delta.toString(), IntervalDelta.fromChangelog(delta.toChangelog(), LocalDate.class).toString());
+        }
+    }
+
+    @Test
+    public void testChangelog() {
+        LocalDateTime morning = LocalDateTime.of(2018, 1, 1, 9, 0);
+        Interval<LocalDateTime> older = between(morning, morning.plusHours(8));
+        IntervalDelta<LocalDateTime> delta = older.delta(Interval.unionOf(older, Interval.from(morning.plusDays(1))));
+        byte[] changelog = delta.toChangelog();
+
+        IntervalDelta<LocalDateTime> restored = IntervalDelta.fromChangelog(changelog, LocalDateTime.class);
+
+        assertEquals(delta.toString(), restored.toString());
+        assertEquals(Interval.unionOf(older, Interval.from(morning.plusDays(1))).toString(), restored.applyTo(older).toString());
+        assertEquals("IntervalDelta{added=[(-∞..+∞)], removed=[]}", IntervalDelta.fromChangelog(
+                Interval.<YearMonth>none().delta(Interval.all()).toChangelog(), LocalDate.class).toString());
+        assertThatThrownBy(() -> IntervalDelta.fromChangelog(changelog, LocalDate.class)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IntervalDelta.fromChangelog(Arrays.copyOf(changelog, 10), LocalDateTime.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testMalformedChangelog() throws IOException {
+        // 1970-01-11..1970-01-21 followed by 1970-01-06..1970-01-09
+        assertMalformed(changelog(0, 10, 20, 5, 8), LocalDate.class);
+        // 1970-01-01..1970-01-11 overlaps 1970-01-06..1970-01-16
+        assertMalformed(changelog(0, 0, 10, 5, 15), LocalDate.class);
+        assertMalformed(changelog(0, 10, 5), LocalDate.class);
+        assertMalformed(changelog(0, 0, Long.MAX_VALUE, 5, 8), LocalDate.class);
+        assertMalformed(changelog(0, 0, 5, Long.MIN_VALUE, 8), LocalDate.class);
+        assertMalformed(changelog(1, 0, Long.MAX_VALUE / 2), YearMonth.class);
+        assertMalformed(changelog(0, 0, Long.MAX_VALUE / 2), LocalDate.class);
+
+        assertEquals("IntervalDelta{added=[(-∞..1970-01-01], [1970-01-02..+∞)], removed=[]}",
+                IntervalDelta.fromChangelog(changelog(0, Long.MIN_VALUE, 0, 1, Long.MAX_VALUE), LocalDate.class).toString());
+    }
+
+    private static byte[] changelog(int type, long... addedEndpoints) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type);
+            EpochRangeFormat.write(out, addedEndpoints, addedEndpoints.length / 2);
+            EpochRangeFormat.write(out, new long[0], 0);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static <T extends Comparable<?> & Temporal> void assertMalformed(byte[] changelog, Class<T> type) {
+        assertThatThrownBy(() -> IntervalDelta.fromChangelog(changelog, type)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Interval<LocalDate> randomInterval(Random random) {
+        List<Interval<LocalDate>> intervals = new ArrayList<>();
+        int count = random.nextInt(6);
+        for (int i = 0; i < count; i++) {
+            int start = random.nextInt(100);
+            intervals.add(between(date(start), date(start + random.nextInt(15))));
+        }
+        if (random.nextInt(10) == 0) {
+            intervals.add(Interval.atMost(date(random.nextInt(100))));
+        }
+        Interval<LocalDate> interval = Interval.unionOf(intervals);
+        return random.nextBoolean() ? interval : Interval.unionOf(interval, between(date(120), date(125)), between(date(126), date(130)));
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
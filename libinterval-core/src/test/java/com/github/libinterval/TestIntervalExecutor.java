@@ -0,0 +1,209 @@
+package com.github.libinterval;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.libinterval.Interval.between;
+import static com.github.libinterval.Interval.unionOf;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestIntervalExecutor {
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(8);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testMapKeepsOrderAndLimitsInFlightTasks() {
+        Interval<LocalDate> interval = unionOf(
+                between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 20)),
+                between(LocalDate.of(2018, 3, 1), LocalDate.of(2018, 3, 20)));
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        List<LocalDate> result = new IntervalExecutor<>(interval, DAYS, executorService, 3)
+                .map(day -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    sleep(1);
+                    inFlight.decrementAndGet();
+                    return day;
+                })
+                .collect(toList());
+
+        assertThat(result).isEqualTo(interval.days().collect(toList()));
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void testMapAll() throws Exception {
+        Interval<LocalDate> interval = between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 2, 28));
+
+        Map<LocalDate, Integer> result = new IntervalExecutor<>(interval, DAYS, executorService, 4)
+                .mapAll(LocalDate::getDayOfMonth)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(59, result.size());
+        assertThat(result.keySet()).containsExactlyElementsOf(interval.days().collect(toList()));
+        assertEquals(Integer.valueOf(28), result.get(LocalDate.of(2018, 2, 28)));
+    }
+
+    @Test
+    public void testMapAllStopsOnFirstFailure() throws Exception {
+        Interval<LocalDate> interval = between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 12, 31));
+        AtomicInteger started = new AtomicInteger();
+
+        try {
+            new IntervalExecutor<>(interval, DAYS, executorService, 2)
+                    .mapAll(day -> {
+                        if (started.incrementAndGet() == 5) {
+                            throw new IllegalStateException("failed on " + day);
+                        }
+                        return day;
+                    })
+                    .get(10, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertThat(started.get()).isLessThan(20);
+    }
+
+    @Test(expected = CompletionException.class)
+    public void testMapRethrowsFailure() {
+        Interval<LocalDate> interval = between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 10));
+
+        new IntervalExecutor<>(interval, DAYS, executorService, 2)
+                .map(day -> {
+                    throw new IllegalStateException("failed on " + day);
+                })
+                .count();
+    }
+
+    @Test
+    public void testMapCancelsInFlightTasksOnFirstFailure() throws Exception {
+        Interval<LocalDate> interval = between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try {
+            new IntervalExecutor<>(interval, DAYS, executorService, 2)
+                    .map(day -> {
+                        if (day.getDayOfMonth() == 2) {
+                            await(started);
+                            throw new IllegalStateException("failed on " + day);
+                        }
+                        try {
+                            started.countDown();
+                            Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                        } catch (InterruptedException e) {
+                            interrupted.countDown();
+                        }
+                        return day;
+                    })
+                    .count();
+            fail();
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testMapRethrowsRejectedTask() {
+        Interval<LocalDate> interval = between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 10));
+        AtomicInteger submitted = new AtomicInteger();
+        Executor bounded = command -> {
+            if (submitted.incrementAndGet() > 3) {
+                throw new RejectedExecutionException("queue is full");
+            }
+            executorService.execute(command);
+        };
+
+        List<LocalDate> result = new ArrayList<>();
+        try {
+            new IntervalExecutor<>(interval, DAYS, bounded, 2)
+                    .map(day -> day)
+                    .forEach(result::add);
+            fail();
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+        assertThat(result.size()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void testMapOnShutDownExecutor() {
+        Interval<LocalDate> interval = between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 10));
+        executorService.shutdown();
+
+        assertThatThrownBy(() -> new IntervalExecutor<>(interval, DAYS, executorService, 2)
+                .map(day -> day)
+                .count())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void testDirectExecutorDoesNotGrowStack() {
+        Interval<LocalDate> interval = between(LocalDate.of(2000, 1, 1), LocalDate.of(2099, 12, 31));
+
+        Map<LocalDate, Integer> result = new IntervalExecutor<>(interval, DAYS, Runnable::run, 4)
+                .mapAll(LocalDate::getDayOfMonth)
+                .join();
+
+        assertEquals(36525, result.size());
+        assertEquals(36525, new IntervalExecutor<>(interval, DAYS, Runnable::run, 4)
+                .map(LocalDate::getDayOfMonth)
+                .count());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
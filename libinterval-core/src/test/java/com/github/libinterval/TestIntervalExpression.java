@@ -0,0 +1,94 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.libinterval.Interval.between;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestIntervalExpression {
+
+    @Test
+    public void testDifference() {
+        IntervalCell<LocalDate> contracts = new IntervalCell<>(between(date(1), date(31)));
+        IntervalCell<LocalDate> absences = new IntervalCell<>();
+        IntervalExpression<LocalDate> working = IntervalExpression.difference(contracts, absences);
+        List<IntervalDelta<LocalDate>> deltas = new ArrayList<>();
+        working.addListener(deltas::add);
+
+        absences.add(between(date(10), date(12)));
+        absences.add(between(date(13), date(14)));
+        contracts.remove(between(date(20), date(40)));
+        absences.remove(between(date(12), date(12)));
+        absences.add(between(date(25), date(26)));
+
+        assertEquals("[[2018-01-01..2018-01-09], [2018-01-12..2018-01-12], [2018-01-15..2018-01-19]]", working.toString());
+        assertEquals(4, deltas.size());
+        assertEquals("IntervalDelta{added=[], removed=[[2018-01-10..2018-01-12]]}", deltas.get(0).toString());
+        assertEquals("IntervalDelta{added=[], removed=[[2018-01-20..2018-01-31]]}", deltas.get(2).toString());
+        assertEquals("IntervalDelta{added=[[2018-01-12..2018-01-12]], removed=[]}", deltas.get(3).toString());
+        assertTrue(working.contains(date(12)));
+        assertFalse(working.contains(date(13)));
+    }
+
+    @Test
+    public void testDiamondIsRecomputedOnce() {
+        IntervalCell<LocalDate> cell = new IntervalCell<>(between(date(1), date(10)));
+        IntervalExpression<LocalDate> shifted = cell.map(date -> date.plusDays(5));
+        IntervalExpression<LocalDate> both = IntervalExpression.intersection(cell, shifted);
+        List<IntervalDelta<LocalDate>> deltas = new ArrayList<>();
+        both.addListener(deltas::add);
+
+        cell.set(between(date(1), date(20)));
+
+        assertEquals("[[2018-01-06..2018-01-20]]", both.toString());
+        assertEquals(1, deltas.size());
+        assertEquals("IntervalDelta{added=[[2018-01-11..2018-01-20]], removed=[]}", deltas.get(0).toString());
+    }
+
+    @Test
+    public void testChainedExpressions() {
+        IntervalCell<LocalDate> first = new IntervalCell<>(between(date(1), date(10)));
+        IntervalCell<LocalDate> second = new IntervalCell<>(between(date(5), date(20)));
+        IntervalCell<LocalDate> third = new IntervalCell<>(between(date(15), date(40)));
+        IntervalExpression<LocalDate> difference = IntervalExpression.difference(
+                IntervalExpression.union(first, second), IntervalExpression.intersection(second, third));
+        IntervalExpression<LocalDate> shifted = difference.map(date -> date.plusDays(3), date -> date.plusDays(7));
+        IntervalExpression<YearMonth> months = shifted.map(YearMonth::from);
+        IntervalExpression<LocalDate> result = IntervalExpression.union(shifted, first);
+
+        assertEquals("[[2018-01-01..2018-01-14]]", difference.toString());
+        assertEquals("[[2018-01-04..2018-01-21]]", shifted.toString());
+        assertEquals("[[2018-01-01..2018-01-21]]", result.toString());
+
+        third.set(Interval.atMost(date(7)));
+
+        assertEquals("[[2018-01-01..2018-01-04], [2018-01-08..2018-01-20]]", difference.toString());
+        assertEquals("[[2018-01-04..2018-01-27]]", shifted.toString());
+        assertEquals("[[2018-01-01..2018-01-27]]", result.toString());
+
+        second.remove(between(date(1), date(31)));
+        first.add(between(date(40), date(45)));
+
+        assertEquals("[[2018-01-01..2018-01-10], [2018-02-09..2018-02-14]]", difference.toString());
+        assertEquals("[[2018-01-04..2018-01-17], [2018-02-12..2018-02-21]]", shifted.toString());
+        assertEquals("[[2018-01..2018-02]]", months.toString());
+        assertEquals("[[2018-01-01..2018-01-17], [2018-02-09..2018-02-21]]", result.toString());
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
@@ -12,9 +12,12 @@ import java.time.LocalTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static com.github.libinterval.Interval.between;
 import static com.github.libinterval.Interval.unionOf;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.HOURS;
 import static java.time.temporal.ChronoUnit.MINUTES;
 import static java.time.temporal.ChronoUnit.YEARS;
 import static java.util.stream.Collectors.toList;
@@ -412,6 +415,20 @@ public class TestIntervalImpl {
                 YearMonth.of(2020, 3));
     }
 
+    @Test
+    public void testIterationByTemporalUnitOfIntervalWithGaps() {
+        Interval<LocalDate> i1 = between(LocalDate.of(2018, 1, 30), LocalDate.of(2018, 1, 31));
+        Interval<LocalDate> i2 = between(LocalDate.of(2018, 3, 1), LocalDate.of(2018, 3, 2));
+        List<LocalDate> result = unionOf(i1, i2).iterate(DAYS)
+                .collect(toList());
+
+        assertThat(result).containsExactly(
+                LocalDate.of(2018, 1, 30),
+                LocalDate.of(2018, 1, 31),
+                LocalDate.of(2018, 3, 1),
+                LocalDate.of(2018, 3, 2));
+    }
+
     @Test
     public void testCustomIterationMethod() {
         Interval<YearQuarter> i1 = between(YearQuarter.of(2017, 3), YearQuarter.of(2018, 1));
@@ -464,4 +481,94 @@ public class TestIntervalImpl {
         assertEquals(335L, days);
     }
 
+    //__________________________________partition_______________________________________
+
+    @Test
+    public void testPartitionSkipsGaps() {
+        Interval<LocalDate> i1 = between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 2));
+        Interval<LocalDate> i2 = between(LocalDate.of(2018, 3, 1), LocalDate.of(2018, 3, 4));
+
+        List<Interval<LocalDate>> parts = unionOf(i1, i2).partition(2, DAYS);
+
+        assertThat(parts).extracting(Object::toString).containsExactly(
+                "[[2018-01-01..2018-01-02], [2018-03-01..2018-03-01]]",
+                "[[2018-03-02..2018-03-04]]");
+    }
+
+    @Test
+    public void testPartitionIsBalanced() {
+        Interval<LocalDate> interval = unionOf(
+                between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 10)),
+                between(LocalDate.of(2018, 2, 1), LocalDate.of(2018, 2, 3)),
+                between(LocalDate.of(2018, 6, 1), LocalDate.of(2018, 6, 30)));
+
+        List<Interval<LocalDate>> parts = interval.partition(7, DAYS);
+
+        assertThat(parts).hasSize(7);
+        assertThat(parts).extracting(Interval::countDays).containsExactly(6L, 6L, 6L, 6L, 6L, 6L, 7L);
+        assertThat(unionOf(parts).days().collect(toList())).isEqualTo(interval.days().collect(toList()));
+    }
+
+    @Test
+    public void testPartitionOfTimeIntervalCoversWholeInterval() {
+        LocalDateTime l = LocalDateTime.of(baseDate, LocalTime.of(10, 0));
+        LocalDateTime u = LocalDateTime.of(baseDate, LocalTime.of(13, 30));
+
+        List<Interval<LocalDateTime>> parts = between(l, u).partition(2, HOURS);
+
+        assertThat(parts).extracting(Object::toString).containsExactly(
+                "[[2020-01-01T10:00..2020-01-01T11:59:59.999999999]]",
+                "[[2020-01-01T12:00..2020-01-01T13:30]]");
+    }
+
+    @Test
+    public void testPartitionIntoMorePartsThanUnits() {
+        List<Interval<LocalDate>> parts = between(baseDate, baseDate.plusDays(1)).partition(3, DAYS);
+
+        assertThat(parts).extracting(Object::toString).containsExactly(
+                "[]",
+                "[[2020-01-01..2020-01-01]]",
+                "[[2020-01-02..2020-01-02]]");
+    }
+
+    @Test
+    public void testPartitionSpreadsEmptyParts() {
+        List<Interval<LocalDate>> parts = between(baseDate, baseDate.plusDays(2)).partition(5, DAYS);
+
+        assertThat(parts).extracting(Object::toString).containsExactly(
+                "[]",
+                "[[2020-01-01..2020-01-01]]",
+                "[]",
+                "[[2020-01-02..2020-01-02]]",
+                "[[2020-01-03..2020-01-03]]");
+    }
+
+    @Test
+    public void testPartitionSpreadsLargerParts() {
+        List<Interval<LocalDate>> parts = between(baseDate, baseDate.plusDays(6)).partition(5, DAYS);
+
+        assertThat(parts).extracting(Object::toString).containsExactly(
+                "[[2020-01-01..2020-01-01]]",
+                "[[2020-01-02..2020-01-02]]",
+                "[[2020-01-03..2020-01-04]]",
+                "[[2020-01-05..2020-01-05]]",
+                "[[2020-01-06..2020-01-07]]");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPartitionOfUnboundedInterval() {
+        Interval.from(baseDate).partition(2, DAYS);
+    }
+
+    @Test
+    public void testIntervalTask() {
+        Interval<LocalDate> interval = unionOf(
+                between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 3, 31)),
+                between(LocalDate.of(2019, 1, 1), LocalDate.of(2019, 12, 31)));
+
+        long days = ForkJoinPool.commonPool().invoke(new IntervalTask<>(interval, DAYS, 10,
+                Interval::countDays, Long::sum));
+
+        assertEquals(interval.countDays(), days);
+    }
 }
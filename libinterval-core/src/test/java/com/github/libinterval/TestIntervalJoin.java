@@ -0,0 +1,128 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.libinterval.Interval.between;
+import static com.github.libinterval.Interval.unionOf;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestIntervalJoin {
+
+    @Test
+    public void testInnerJoin() {
+        List<Map.Entry<Interval<LocalDate>, String>> contracts = Arrays.asList(
+                entry(between(date(1), date(10)), "c1"),
+                entry(between(date(5), date(20)), "c2"),
+                entry(between(date(30), null), "c3"));
+        List<Map.Entry<Interval<LocalDate>, String>> absences = Arrays.asList(
+                entry(between(null, date(1)), "a1"),
+                entry(between(date(12), date(14)), "a2"),
+                entry(between(date(21), date(29)), "a3"),
+                entry(between(date(40), date(41)), "a4"));
+
+        List<String> result = IntervalJoin.innerJoin(contracts.iterator(), absences.iterator())
+                .map(m -> m.getLeft() + "-" + m.getRight() + " " + m.getIntersection())
+                .collect(toList());
+
+        assertThat(result).containsExactly(
+                "c1-a1 [[2018-01-01..2018-01-01]]",
+                "c2-a2 [[2018-01-12..2018-01-14]]",
+                "c3-a4 [[2018-02-09..2018-02-10]]");
+    }
+
+    @Test
+    public void testLeftOuterJoinWithKeys() {
+        List<Map.Entry<Interval<LocalDate>, String>> contracts = Arrays.asList(
+                entry(between(date(1), date(10)), "A:c1"),
+                entry(between(date(2), date(3)), "B:c2"),
+                entry(Interval.none(), "B:c3"));
+        List<Map.Entry<Interval<LocalDate>, String>> absences = Arrays.asList(
+                entry(between(date(2), date(2)), "B:a1"),
+                entry(between(date(5), date(6)), "B:a2"));
+
+        List<String> result = IntervalJoin.leftOuterJoin(contracts.iterator(), absences.iterator(), TestIntervalJoin::key, TestIntervalJoin::key)
+                .map(m -> m.getLeft() + "-" + m.getRight() + " " + m.getIntersection())
+                .collect(toList());
+
+        assertThat(result).containsExactlyInAnyOrder(
+                "A:c1-null []",
+                "B:c2-B:a1 [[2018-01-02..2018-01-02]]",
+                "B:c3-null []");
+    }
+
+    @Test
+    public void testIntervalsWithGaps() {
+        Interval<LocalDate> withGap = unionOf(between(date(1), date(2)), between(date(8), date(9)));
+        List<Map.Entry<Interval<LocalDate>, String>> left = Arrays.asList(entry(withGap, "l"));
+        List<Map.Entry<Interval<LocalDate>, String>> right = Arrays.asList(
+                entry(between(date(4), date(5)), "r1"),
+                entry(between(date(9), date(12)), "r2"));
+
+        List<String> result = IntervalJoin.leftOuterJoin(left.iterator(), right.iterator())
+                .map(m -> m.getRight() + " " + m.getIntersection())
+                .collect(toList());
+
+        assertThat(result).containsExactly("r2 [[2018-01-09..2018-01-09]]");
+    }
+
+    @Test
+    public void testLongIntervalMatchesLaterOnes() {
+        List<Map.Entry<Interval<LocalDate>, String>> left = Arrays.asList(
+                entry(between(date(1), date(30)), "l1"),
+                entry(between(date(3), date(4)), "l2"),
+                entry(between(date(25), date(26)), "l3"));
+        List<Map.Entry<Interval<LocalDate>, String>> right = Arrays.asList(
+                entry(between(date(2), date(3)), "r1"),
+                entry(between(date(4), date(4)), "r2"),
+                entry(between(date(10), date(12)), "r3"),
+                entry(between(date(26), date(40)), "r4"),
+                entry(between(date(31), date(31)), "r5"));
+
+        List<String> result = IntervalJoin.innerJoin(left.iterator(), right.iterator())
+                .map(m -> m.getLeft() + "-" + m.getRight() + " " + m.getIntersection())
+                .collect(toList());
+
+        assertThat(result).containsExactlyInAnyOrder(
+                "l1-r1 [[2018-01-02..2018-01-03]]",
+                "l1-r2 [[2018-01-04..2018-01-04]]",
+                "l1-r3 [[2018-01-10..2018-01-12]]",
+                "l1-r4 [[2018-01-26..2018-01-30]]",
+                "l2-r1 [[2018-01-03..2018-01-03]]",
+                "l2-r2 [[2018-01-04..2018-01-04]]",
+                "l3-r4 [[2018-01-26..2018-01-26]]");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotSortedInput() {
+        List<Map.Entry<Interval<LocalDate>, String>> left = Arrays.asList(
+                entry(between(date(5), date(6)), "l1"),
+                entry(between(date(1), date(2)), "l2"));
+
+        IntervalJoin.innerJoin(left.iterator(), left.iterator()).count();
+    }
+
+    private static String key(String value) {
+        return value.substring(0, 1);
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+
+    private static <V> Map.Entry<Interval<LocalDate>, V> entry(Interval<LocalDate> interval, V value) {
+        return new SimpleImmutableEntry<>(interval, value);
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.libinterval.Interval.between;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestIntervalOperationCache {
+    private final Interval<LocalDate> contract = between(date(1), date(100));
+    private final Interval<LocalDate> calendar = Interval.unionOf(between(date(1), date(20)), between(date(40), date(60)));
+    private final Interval<LocalDate> policy = between(date(10), null);
+
+    @Test
+    public void testOperations() {
+        IntervalOperationCache<LocalDate> cache = new IntervalOperationCache<>(100);
+
+        assertEquals("[[2018-01-10..2018-01-20], [2018-02-09..2018-03-01]]",
+                cache.intersectionOf(contract, calendar, policy).toString());
+        assertEquals("[[2018-01-01..+∞)]", cache.unionOf(contract, policy).toString());
+        assertEquals("[[2018-01-21..2018-02-08], [2018-03-02..2018-04-10]]",
+                cache.difference(contract, calendar).toString());
+        assertEquals("[[2018-04-01..2018-04-10]]", cache.difference(contract, calendar, MONTHS).toString());
+        assertEquals(0, cache.hitCount());
+        assertEquals(4, cache.missCount());
+    }
+
+    @Test
+    public void testEqualOperandsHit() {
+        IntervalOperationCache<LocalDate> cache = new IntervalOperationCache<>(100);
+
+        Interval<LocalDate> first = cache.intersectionOf(contract, calendar, policy);
+        Interval<LocalDate> second = cache.intersectionOf(between(date(1), date(100)),
+                PersistentInterval.of(calendar), between(date(10), null));
+
+        assertSame(first, second);
+        assertEquals(1, cache.hitCount());
+        assertEquals(0.5, cache.hitRate(), 0);
+        cache.difference(contract, calendar);
+        cache.difference(calendar, contract);
+        assertEquals(1, cache.hitCount());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        IntervalOperationCache<LocalDate> cache = new IntervalOperationCache<>(1);
+        Interval<LocalDate> union = cache.unionOf(contract, calendar);
+
+        cache.unionOf(contract, policy);
+        Interval<LocalDate> recomputed = cache.unionOf(contract, calendar);
+
+        assertEquals(union.toString(), recomputed.toString());
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.evictionCount());
+        assertEquals(0, cache.hitCount());
+        assertThatThrownBy(() -> new IntervalOperationCache<LocalDate>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        IntervalOperationCache<LocalDate> cache = new IntervalOperationCache<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        Interval<LocalDate> range = between(date(i % 100), date(i % 100 + 10));
+                        assertEquals(Interval.intersectionOf(contract, range).toString(),
+                                cache.intersectionOf(contract, range).toString());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(8000, cache.hitCount() + cache.missCount());
+        assertTrue(cache.size() <= 64);
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
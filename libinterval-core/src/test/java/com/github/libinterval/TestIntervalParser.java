@@ -0,0 +1,127 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.List;
+
+import static com.github.libinterval.Interval.between;
+import static com.github.libinterval.Interval.unionOf;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestIntervalParser {
+
+    @Test
+    public void testParseToStringFormat() {
+        Interval<LocalDate> interval = unionOf(
+                between(null, date(10)),
+                between(date(20), date(30)),
+                between(date(40), null));
+
+        Interval<LocalDate> parsed = IntervalParser.ofDates().parse(interval.toString());
+
+        assertEquals(interval.toString(), parsed.toString());
+        assertEquals("[]", IntervalParser.ofDates().parse("[]").toString());
+        assertEquals("[(-∞..+∞)]", IntervalParser.ofDates().parse(" [ (-∞..+∞) ] ").toString());
+    }
+
+    @Test
+    public void testParseSingleRangeAndIso() {
+        IntervalParser<LocalDate> parser = IntervalParser.ofDates();
+
+        assertEquals("[[2018-01-01..2018-01-10]]", parser.parse("[2018-01-01..2018-01-10]").toString());
+        assertEquals("[[2018-01-01..2018-01-10]]", parser.parse("2018-01-01/2018-01-10").toString());
+        assertEquals("[[2018-01-01..+∞)]", parser.parse("2018-01-01/..").toString());
+        assertEquals("[(-∞..2018-01-10]]", parser.parse("../2018-01-10").toString());
+    }
+
+    @Test
+    public void testParseOtherTypes() {
+        Interval<LocalDateTime> time = between(LocalDateTime.of(2018, 1, 1, 10, 15), LocalDateTime.of(2018, 1, 1, 10, 15, 30, 500_000_000));
+
+        assertEquals(time.toString(), IntervalParser.ofDateTimes().parse(time.toString()).toString());
+        assertEquals("[[2018-01-01T00:00:00.000001..2018-01-02T00:00]]",
+                IntervalParser.ofDateTimes().parse("2018-01-01T00:00:00.000001/2018-01-02T00:00").toString());
+        assertEquals(between(YearMonth.of(2018, 1), YearMonth.of(2018, 12)).toString(),
+                IntervalParser.ofMonths().parse("2018-01/2018-12").toString());
+        assertEquals(between(Year.of(-10), Year.of(2018)).toString(),
+                IntervalParser.ofYears().parse("[-0010..2018]").toString());
+    }
+
+    @Test
+    public void testParsePartOfCharBuffer() {
+        CharBuffer buffer = CharBuffer.wrap("id=1;2018-01-01/2018-01-10;");
+
+        assertEquals("[[2018-01-01..2018-01-10]]", IntervalParser.ofDates().parse(buffer, 5, 26).toString());
+    }
+
+    @Test
+    public void testInvalidText() {
+        IntervalParser<LocalDate> parser = IntervalParser.ofDates();
+
+        assertThatThrownBy(() -> parser.parse("[[2018-01-01..2018-01-10]"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cannot parse interval \"[[2018-01-01..2018-01-10]\": expected ']' at index 25 but found end of text.");
+        assertThatThrownBy(() -> parser.parse("2018-02-30/2018-03-01"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("expected valid value at index 0");
+        assertThatThrownBy(() -> parser.parse("2018-03-01/2018-02-01"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("2018-01-01/2018-01-10 x"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("expected end of text at index 22");
+    }
+
+    @Test
+    public void testParseLines() {
+        StringBuilder text = new StringBuilder();
+        for (int day = 1; day <= 2000; day++) {
+            text.append(unionOf(between(date(day), date(day + 1)), between(date(day + 5), null)));
+            text.append(day % 2 == 0 ? "\r\n" : "\n");
+            if (day % 100 == 0) {
+                text.append("  \n");
+            }
+        }
+        text.append("2018-01-01/2018-01-02");
+
+        List<Interval<LocalDate>> intervals = IntervalParser.ofDates().parseLines(new StringReader(text.toString()))
+                .collect(toList());
+
+        assertEquals(2001, intervals.size());
+        assertEquals("[[2018-01-01..2018-01-02], [2018-01-06..+∞)]", intervals.get(0).toString());
+        assertEquals("[[2023-06-23..2023-06-24], [2023-06-28..+∞)]", intervals.get(1999).toString());
+        assertEquals("[[2018-01-01..2018-01-02]]", intervals.get(2000).toString());
+    }
+
+    @Test
+    public void testParseLongLines() {
+        Interval<LocalDate> interval = Interval.none();
+        for (int i = 0; i < 1000; i++) {
+            interval = unionOf(interval, between(date(i * 3), date(i * 3 + 1)));
+        }
+        String line = interval.toString();
+
+        List<Interval<LocalDate>> intervals = IntervalParser.ofDates().parseLines(new StringReader(line + "\n" + line))
+                .collect(toList());
+
+        assertEquals(2, intervals.size());
+        assertEquals(1000, intervals.get(1).getSubIntervals().size());
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
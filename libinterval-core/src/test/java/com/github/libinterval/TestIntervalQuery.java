@@ -0,0 +1,118 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.github.libinterval.Interval.between;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestIntervalQuery {
+    private final Interval<LocalDate> a = between(date(1), date(20));
+    private final Interval<LocalDate> b = between(date(3), date(5));
+    private final Interval<LocalDate> c = between(date(4), date(8));
+    private final Interval<LocalDate> d = Interval.unionOf(between(date(15), date(25)), between(date(40), date(50)));
+    private final Interval<LocalDate> e = between(date(7), date(16));
+
+    @Test
+    public void testEvaluate() {
+        IntervalQuery<LocalDate> query = IntervalQuery.intersectionOf(IntervalQuery.of(a), IntervalQuery.unionOf(b, c, d))
+                .difference(e);
+
+        assertEquals("[[2018-01-03..2018-01-06], [2018-01-17..2018-01-20]]", query.evaluate().toString());
+        assertEquals("difference(intersection([[2018-01-01..2018-01-20]], union([[2018-01-03..2018-01-05]], "
+                + "[[2018-01-04..2018-01-08]], [[2018-01-15..2018-01-25], [2018-02-09..2018-02-19]])), "
+                + "[[2018-01-07..2018-01-16]])", query.toString());
+    }
+
+    @Test
+    public void testEmptyOperands() {
+        IntervalQuery<LocalDate> none = IntervalQuery.of(Interval.none());
+
+        assertEquals("[]", IntervalQuery.of(a).intersection(none).union(none).evaluate().toString());
+        assertEquals("[[2018-01-01..2018-01-20]]", IntervalQuery.of(a).difference(none).evaluate().toString());
+        assertEquals("[[2018-01-01..2018-01-20]]", IntervalQuery.of(a).difference(between(date(30), date(31))).evaluate().toString());
+        assertEquals("[]", IntervalQuery.of(b).intersection(c).intersection(d).evaluate().toString());
+        assertEquals("[(-∞..+∞)]", IntervalQuery.of(Interval.<LocalDate>all()).evaluate().toString());
+        assertEquals("[(-∞..2017-12-31], [2018-01-21..+∞)]",
+                IntervalQuery.of(Interval.<LocalDate>all()).difference(a).evaluate().toString());
+    }
+
+    @Test
+    public void testSharedQuery() {
+        IntervalQuery<LocalDate> shared = IntervalQuery.unionOf(b, e);
+        IntervalQuery<LocalDate> query = shared.intersection(a).difference(shared.intersection(c));
+
+        assertEquals("[[2018-01-03..2018-01-03], [2018-01-09..2018-01-16]]", query.evaluate().toString());
+        assertEquals(query.evaluate().toString(), query.evaluate().toString());
+    }
+
+    @Test
+    public void testAdjacentRangesAreNotMerged() {
+        Interval<LocalDate> first = between(date(1), date(5));
+        Interval<LocalDate> second = between(date(6), date(9));
+
+        assertEquals(Interval.unionOf(first, second).toString(), IntervalQuery.of(first).union(second).evaluate().toString());
+        assertEquals("[[2018-01-02..2018-01-05], [2018-01-06..2018-01-08]]",
+                IntervalQuery.unionOf(first, second).intersection(between(date(2), date(8))).evaluate().toString());
+        assertEquals("[[2018-01-01..2018-01-07]]", IntervalQuery.unionOf(first, second, between(date(3), date(7)))
+                .difference(between(date(8), date(9))).evaluate().toString());
+    }
+
+    @Test
+    public void testSameResultAsEagerEvaluation() {
+        Random random = new Random(11);
+        for (int test = 0; test < 200; test++) {
+            List<Interval<LocalDate>> intervals = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                intervals.add(randomInterval(random));
+            }
+            Interval<LocalDate> first = intervals.get(0);
+            Interval<LocalDate> second = intervals.get(1);
+            Interval<LocalDate> third = intervals.get(2);
+            Interval<LocalDate> fourth = intervals.get(3);
+            Interval<LocalDate> fifth = intervals.get(4);
+
+            Interval<LocalDate> expected = Interval.unionOf(
+                    Interval.intersectionOf(first, Interval.unionOf(second, third)).difference(fourth),
+                    fifth.difference(Interval.intersectionOf(first, third)));
+            Interval<LocalDate> actual = IntervalQuery.intersectionOf(IntervalQuery.of(first), IntervalQuery.unionOf(second, third))
+                    .difference(fourth)
+                    .union(IntervalQuery.of(fifth).difference(IntervalQuery.of(first).intersection(third)))
+                    .evaluate();
+
+            assertEquals(expected.toString(), actual.toString());
+        }
+    }
+
+    private static Interval<LocalDate> randomInterval(Random random) {
+        List<Interval<LocalDate>> intervals = new ArrayList<>();
+        int count = random.nextInt(5);
+        for (int i = 0; i < count; i++) {
+            int start = random.nextInt(100);
+            intervals.add(between(date(start), date(start + random.nextInt(20))));
+        }
+        if (random.nextInt(4) == 0) {
+            int start = random.nextInt(100);
+            intervals.add(between(date(start), date(start + 2)));
+            intervals.add(between(date(start + 3), date(start + 5)));
+        }
+        if (random.nextInt(8) == 0) {
+            intervals.add(Interval.atLeast(date(random.nextInt(100))));
+        }
+        return Interval.unionOf(intervals);
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
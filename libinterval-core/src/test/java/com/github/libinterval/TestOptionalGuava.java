@@ -0,0 +1,79 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.slf4j.Logger;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Callable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Runs the library in a class loader which doesn't see Guava.
+ *
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestOptionalGuava {
+
+    @Test
+    public void testOperationsWithoutGuava() throws Exception {
+        try (URLClassLoader classLoader = newClassLoaderWithoutGuava()) {
+            Callable<?> operations = (Callable<?>) classLoader.loadClass(Operations.class.getName()).getDeclaredConstructor().newInstance();
+
+            assertEquals("[[2018-01-01..2018-01-03], [2018-01-06..2018-01-10]] has 8 days", operations.call());
+        }
+    }
+
+    @Test
+    public void testRangeSetRequiresGuava() throws Exception {
+        try (URLClassLoader classLoader = newClassLoaderWithoutGuava()) {
+            Callable<?> rangeSet = (Callable<?>) classLoader.loadClass(RangeSet.class.getName()).getDeclaredConstructor().newInstance();
+
+            rangeSet.call();
+            fail("Guava must not be available.");
+        } catch (NoClassDefFoundError e) {
+            assertTrue(e.getMessage().startsWith("com/google/common"));
+        }
+    }
+
+    /**
+     * Is loaded by the class loader without Guava, so all the classes it uses are linked without Guava too.
+     */
+    public static class Operations implements Callable<String> {
+
+        @Override
+        public String call() {
+            Interval<LocalDate> interval = Interval.between(date(1), date(10))
+                    .difference(Interval.closed(date(4), date(5)), ChronoUnit.DAYS);
+            Interval<LocalDate> union = Interval.unionOf(interval, Interval.closed(date(2), date(3)));
+            return Interval.intersectionOf(union, Interval.atLeast(date(1))) + " has " + union.countDays() + " days";
+        }
+    }
+
+    public static class RangeSet implements Callable<Object> {
+
+        @Override
+        public Object call() {
+            return Interval.closed(date(1), date(10)).getRangeSet();
+        }
+    }
+
+    private static URLClassLoader newClassLoaderWithoutGuava() {
+        URL classes = Interval.class.getProtectionDomain().getCodeSource().getLocation();
+        URL testClasses = TestOptionalGuava.class.getProtectionDomain().getCodeSource().getLocation();
+        URL slf4j = Logger.class.getProtectionDomain().getCodeSource().getLocation();
+        return new URLClassLoader(new URL[]{classes, testClasses, slf4j}, null);
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
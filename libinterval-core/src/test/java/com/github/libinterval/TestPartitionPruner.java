@@ -0,0 +1,100 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.github.libinterval.Interval.between;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestPartitionPruner {
+
+    @Test
+    public void testMayOverlap() {
+        Map<String, Interval<LocalDate>> partitions = new LinkedHashMap<>();
+        partitions.put("january", between(date(1), date(31)));
+        partitions.put("sparse", Interval.unionOf(between(date(1), date(2)), between(date(300), date(301))));
+        partitions.put("empty", Interval.none());
+        partitions.put("history", Interval.atMost(date(0)));
+        partitions.put("february", between(date(32), date(59)));
+
+        PartitionPruner<String> pruner = PartitionPruner.of(partitions);
+
+        assertEquals(5, pruner.size());
+        assertEquals(Arrays.asList("january", "february"), pruner.mayOverlap(between(date(20), date(40))));
+        assertEquals(Arrays.asList("january", "sparse", "history"), pruner.mayOverlap(Interval.atMost(date(1))));
+        assertEquals(Collections.singletonList("february"), pruner.mayOverlap(between(date(32), date(200))));
+        assertEquals(Arrays.asList("january", "sparse", "history", "february"), pruner.mayOverlap(Interval.all()));
+        assertEquals(Collections.emptyList(), pruner.mayOverlap(Interval.none()));
+        assertEquals(Collections.emptyList(), PartitionPruner.<String>of(Collections.emptyMap()).mayOverlap(Interval.all()));
+    }
+
+    @Test
+    public void testMayOverlapEveryRangeOfFilter() {
+        Map<String, Interval<LocalDate>> partitions = new LinkedHashMap<>();
+        partitions.put("year", between(date(1), date(300)));
+        partitions.put("q1", between(date(1), date(90)));
+        partitions.put("q2", between(date(91), date(181)));
+        partitions.put("q3", between(date(182), date(273)));
+        partitions.put("sparse", Interval.unionOf(between(date(1), date(1)), between(date(129), date(129))));
+        partitions.put("recent", Interval.from(date(250)));
+
+        PartitionPruner<String> pruner = PartitionPruner.of(partitions);
+
+        assertEquals(Arrays.asList("year", "q1", "q3"),
+                pruner.mayOverlap(Interval.unionOf(between(date(10), date(20)), between(date(200), date(200)))));
+        assertEquals(Arrays.asList("year", "recent"), pruner.mayOverlap(between(date(280), date(290))));
+        assertEquals(Arrays.asList("year", "q2", "sparse"), pruner.mayOverlap(between(date(129), date(129))));
+    }
+
+    @Test
+    public void testGapWithinBucketMayOverlap() {
+        // 129 days are summarized by buckets of 3 days, so day 3 shares the bucket of day 1
+        Map<String, Interval<LocalDate>> partitions = Collections.singletonMap(
+                "sparse", Interval.unionOf(between(date(1), date(1)), between(date(129), date(129))));
+
+        PartitionPruner<String> pruner = PartitionPruner.of(partitions);
+
+        assertEquals(Collections.singletonList("sparse"), pruner.mayOverlap(between(date(3), date(3))));
+        assertEquals(Collections.emptyList(), pruner.mayOverlap(between(date(4), date(126))));
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        Map<String, Interval<LocalDate>> partitions = new LinkedHashMap<>();
+        partitions.put("a", between(date(1), date(10)));
+        partitions.put("b", Interval.from(date(5)));
+        PartitionPruner<String> pruner = PartitionPruner.of(partitions);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(pruner);
+        }
+        PartitionPruner<?> restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (PartitionPruner<?>) in.readObject();
+        }
+
+        assertEquals(Arrays.asList("a", "b"), restored.mayOverlap(between(date(5), date(6))));
+        assertEquals(Collections.singletonList("b"), restored.mayOverlap(Interval.from(date(11))));
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
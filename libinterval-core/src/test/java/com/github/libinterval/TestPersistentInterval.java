@@ -0,0 +1,85 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static com.github.libinterval.Interval.between;
+import static com.github.libinterval.Interval.unionOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestPersistentInterval {
+
+    @Test
+    public void testOperationsDoNotChangePreviousVersions() {
+        PersistentInterval<LocalDate> v1 = PersistentInterval.of(unionOf(between(date(1), date(10)), between(date(20), date(30))));
+        PersistentInterval<LocalDate> v2 = v1.union(between(date(9), date(21)));
+        PersistentInterval<LocalDate> v3 = v2.difference(between(date(5), date(6)));
+
+        assertEquals("[[2018-01-01..2018-01-10], [2018-01-20..2018-01-30]]", v1.toString());
+        assertEquals("[[2018-01-01..2018-01-30]]", v2.toString());
+        assertEquals("[[2018-01-01..2018-01-04], [2018-01-07..2018-01-30]]", v3.toString());
+        assertTrue(v3.contains(date(7)));
+        assertFalse(v3.contains(date(5)));
+    }
+
+    @Test
+    public void testIntersection() {
+        PersistentInterval<LocalDate> interval = PersistentInterval.of(unionOf(
+                between(date(1), date(10)),
+                between(date(20), date(30)),
+                between(date(40), null)));
+
+        Interval<LocalDate> result = interval.intersection(unionOf(between(date(5), date(25)), between(date(50), date(60))));
+
+        assertEquals("[[2018-01-05..2018-01-10], [2018-01-20..2018-01-25], [2018-02-19..2018-03-01]]", result.toString());
+    }
+
+    @Test
+    public void testSingleRange() {
+        PersistentInterval<LocalDate> interval = PersistentInterval.<LocalDate>empty().union(between(date(1), null));
+
+        assertEquals(date(1), interval.findLowerEndpoint().get());
+        assertFalse(interval.hasUpperBound());
+        assertFalse(PersistentInterval.empty().isPresent());
+    }
+
+    @Test
+    public void testSameResultAsIntervalImpl() {
+        Random random = new Random(7);
+        Interval<LocalDate> expected = Interval.none();
+        PersistentInterval<LocalDate> actual = PersistentInterval.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int start = random.nextInt(3000);
+            Interval<LocalDate> range = between(date(start), date(start + random.nextInt(10)));
+            if (random.nextInt(3) == 0) {
+                expected = expected.difference(range);
+                actual = actual.difference(range);
+            } else {
+                expected = unionOf(expected, range);
+                actual = actual.union(range);
+            }
+        }
+
+        assertEquals(expected.toString(), actual.toString());
+        for (int day = 0; day < 3010; day++) {
+            assertEquals(expected.contains(date(day)), actual.contains(date(day)));
+        }
+        assertEquals(Interval.intersectionOf(expected, between(date(100), date(900))).toString(),
+                actual.intersection(between(date(100), date(900))).toString());
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
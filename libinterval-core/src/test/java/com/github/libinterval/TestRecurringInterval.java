@@ -0,0 +1,118 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static com.github.libinterval.Interval.between;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static java.time.temporal.ChronoUnit.YEARS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestRecurringInterval {
+
+    @Test
+    public void testEverySecondMonday() {
+        RecurringInterval<LocalDate> mondays = RecurringInterval.every(2, WEEKS, date(1), 1, DAYS)
+                .intersection(between(date(1), LocalDate.of(2018, 12, 31)));
+
+        assertEquals(27, mondays.countDays());
+        assertTrue(mondays.contains(date(15)));
+        assertFalse(mondays.contains(date(8)));
+        assertFalse(mondays.contains(LocalDate.of(2017, 12, 18)));
+        assertEquals("[[2018-03-12..2018-03-12], [2018-03-26..2018-03-26]]",
+                mondays.toInterval(between(LocalDate.of(2018, 3, 1), LocalDate.of(2018, 3, 31))).toString());
+        assertEquals("[2018-01-01, 2018-01-15, 2018-01-29]",
+                mondays.iterate(DAYS).limit(3).collect(toList()).toString());
+    }
+
+    @Test
+    public void testBusinessHours() {
+        LocalDateTime nine = LocalDateTime.of(2018, 1, 1, 9, 0);
+        RecurringInterval<LocalDateTime> hours = RecurringInterval.every(1, DAYS, nine, 8, HOURS);
+        Interval<LocalDateTime> meeting = between(nine.plusDays(2).plusHours(7), nine.plusDays(3).plusHours(1).minusNanos(1));
+        RecurringInterval<LocalDateTime> overlap = hours.intersection(meeting);
+
+        assertEquals(2, overlap.count(HOURS));
+        assertEquals(120, overlap.count(MINUTES));
+        assertEquals("[[[2018-01-03T16:00..2018-01-03T16:59:59.999999999]], [[2018-01-04T09:00..2018-01-04T09:59:59.999999999]]]",
+                overlap.occurrences().collect(toList()).toString());
+        assertEquals(8 * 365, hours.intersection(between(nine, nine.plusYears(1).minusNanos(1))).count(HOURS));
+        assertTrue(hours.contains(nine.minusDays(1000).plusHours(3)));
+        assertFalse(hours.contains(nine.minusDays(1000).plusHours(8)));
+    }
+
+    @Test
+    public void testBoundsWithGaps() {
+        Interval<LocalDate> bounds = Interval.unionOf(
+                between(date(0), date(4)), between(date(9), date(11)), between(date(19), date(19)));
+        RecurringInterval<LocalDate> recurring = RecurringInterval.every(3, DAYS, date(2), 2, DAYS).intersection(bounds);
+
+        assertEquals("[[2017-12-31..2017-12-31], [2018-01-02..2018-01-03], "
+                        + "[2018-01-09..2018-01-09], [2018-01-11..2018-01-11]]",
+                recurring.toInterval(Interval.all()).toString());
+        assertEquals("[2017-12-31, 2018-01-02, 2018-01-03, 2018-01-09, 2018-01-11]",
+                recurring.iterate(DAYS).collect(toList()).toString());
+        assertEquals(5, recurring.countDays());
+    }
+
+    @Test
+    public void testMonthlyPattern() {
+        RecurringInterval<LocalDate> monthEnds = RecurringInterval.every(1, MONTHS, LocalDate.of(2018, 1, 31), 1, DAYS)
+                .intersection(between(date(1), LocalDate.of(2018, 6, 30)));
+        RecurringInterval<YearMonth> quarters = RecurringInterval.every(3, MONTHS, YearMonth.of(2018, 1), 1, MONTHS)
+                .intersection(between(YearMonth.of(2018, 1), YearMonth.of(2019, 12)));
+
+        assertEquals("[2018-01-31, 2018-02-28, 2018-03-31, 2018-04-30, 2018-05-31, 2018-06-30]",
+                monthEnds.iterate(DAYS).collect(toList()).toString());
+        assertEquals(8, quarters.count(MONTHS));
+        assertEquals(246, RecurringInterval.every(3, MONTHS, date(1), 1, MONTHS)
+                .intersection(between(date(1), LocalDate.of(2019, 12, 31))).countDays());
+    }
+
+    @Test
+    public void testDurationOfMonthlyPatternIsNotLongerThanShortestMonth() {
+        RecurringInterval<LocalDate> monthly = RecurringInterval.every(1, MONTHS, LocalDate.of(2018, 1, 31), 28, DAYS)
+                .intersection(between(date(1), LocalDate.of(2018, 3, 31)));
+
+        assertEquals("[[2018-01-01..2018-01-27], [2018-01-31..2018-02-27], [2018-02-28..2018-03-27], [2018-03-31..2018-03-31]]",
+                monthly.toInterval(Interval.all()).toString());
+        assertEquals(84, monthly.countDays());
+        assertEquals(2, RecurringInterval.every(1, YEARS, YearMonth.of(2018, 1), 12, MONTHS)
+                .intersection(between(YearMonth.of(2018, 1), YearMonth.of(2018, 2))).count(MONTHS));
+        RecurringInterval.every(2, MONTHS, date(1), 59, DAYS);
+        assertThatThrownBy(() -> RecurringInterval.every(1, MONTHS, date(1), 30, DAYS)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurringInterval.every(2, MONTHS, date(1), 60, DAYS)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurringInterval.every(30, DAYS, date(1), 1, MONTHS)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testInvalidPatterns() {
+        assertThatThrownBy(() -> RecurringInterval.every(1, DAYS, date(1), 2, DAYS)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurringInterval.every(0, DAYS, date(1), 1, DAYS)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurringInterval.every(7, DAYS, date(1), 1, DAYS).countDays())
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> RecurringInterval.every(7, DAYS, date(1), 1, DAYS).toInterval(Interval.from(date(1))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
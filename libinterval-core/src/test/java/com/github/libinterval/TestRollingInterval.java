@@ -0,0 +1,64 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+
+import static com.github.libinterval.Interval.between;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestRollingInterval {
+
+    @Test
+    public void testAdjacentValuesAreCoalesced() {
+        RollingInterval<LocalDate> interval = new RollingInterval<>(90, DAYS);
+        interval.add(LocalDate.of(2018, 1, 2));
+        interval.add(LocalDate.of(2018, 1, 1));
+        interval.add(LocalDate.of(2018, 1, 3));
+        interval.add(LocalDate.of(2018, 1, 5));
+        interval.add(between(LocalDate.of(2018, 1, 10), LocalDate.of(2018, 1, 12)));
+        interval.add(between(LocalDate.of(2018, 1, 6), LocalDate.of(2018, 1, 8)));
+
+        assertEquals("[[2018-01-01..2018-01-03], [2018-01-05..2018-01-08], [2018-01-10..2018-01-12]]",
+                interval.snapshot().toString());
+    }
+
+    @Test
+    public void testAdvanceWatermarkEvictsOldRanges() {
+        RollingInterval<LocalDate> interval = new RollingInterval<>(10, DAYS);
+        interval.add(between(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 3)));
+        interval.add(between(LocalDate.of(2018, 1, 10), LocalDate.of(2018, 1, 20)));
+        interval.add(LocalDate.of(2018, 1, 25));
+
+        interval.advanceWatermark(LocalDate.of(2018, 1, 25));
+        assertEquals("[[2018-01-15..2018-01-20], [2018-01-25..2018-01-25]]", interval.snapshot().toString());
+
+        interval.advanceWatermark(LocalDate.of(2018, 1, 20));
+        interval.add(LocalDate.of(2018, 1, 14));
+        assertEquals("[[2018-01-15..2018-01-20], [2018-01-25..2018-01-25]]", interval.snapshot().toString());
+
+        interval.advanceWatermark(LocalDate.of(2018, 2, 5));
+        assertEquals("[]", interval.snapshot().toString());
+    }
+
+    @Test
+    public void testSnapshotIsCachedUntilUpdate() {
+        RollingInterval<LocalDate> interval = new RollingInterval<>(10, DAYS);
+        interval.add(LocalDate.of(2018, 1, 1));
+
+        Interval<LocalDate> snapshot = interval.snapshot();
+        assertSame(snapshot, interval.snapshot());
+
+        interval.add(LocalDate.of(2018, 1, 5));
+        assertEquals("[[2018-01-01..2018-01-01]]", snapshot.toString());
+        assertEquals("[[2018-01-01..2018-01-01], [2018-01-05..2018-01-05]]", interval.snapshot().toString());
+    }
+}
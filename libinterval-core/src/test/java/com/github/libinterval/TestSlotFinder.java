@@ -0,0 +1,101 @@
+package com.github.libinterval;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static com.github.libinterval.Interval.between;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestSlotFinder {
+    private final Interval<LocalDate> alice = Interval.unionOf(between(date(1), date(3)), between(date(10), date(12)));
+    private final Interval<LocalDate> bob = Interval.unionOf(between(date(5), date(6)), between(date(14), date(20)));
+    private final Interval<LocalDate> carol = between(date(8), date(9));
+
+    @Test
+    public void testFreeInAllCalendars() {
+        SlotFinder<LocalDate> finder = new SlotFinder<>(Arrays.asList(alice, bob, carol));
+        Interval<LocalDate> horizon = between(date(1), date(31));
+
+        assertEquals("[[2018-01-04..2018-01-04]]", finder.findFirst(horizon, 1, DAYS).get().toString());
+        assertEquals("[[2018-01-21..2018-01-31]]", finder.findFirst(horizon, 3, DAYS).get().toString());
+        assertEquals("[[[2018-01-04..2018-01-04]], [[2018-01-07..2018-01-07]], [[2018-01-13..2018-01-13]]]",
+                finder.findFirst(3, horizon, 1, DAYS).toString());
+        assertFalse(finder.findFirst(horizon, 12, DAYS).isPresent());
+        assertEquals("[[2018-01-21..+∞)]", finder.findFirst(Interval.from(date(1)), 12, DAYS).get().toString());
+    }
+
+    @Test
+    public void testFreeInSomeCalendars() {
+        SlotFinder<LocalDate> finder = new SlotFinder<>(Arrays.asList(alice, bob, carol));
+        Interval<LocalDate> horizon = between(date(1), date(31));
+
+        SlotFinder<LocalDate> overlapping = new SlotFinder<>(Arrays.asList(alice, bob, between(date(2), date(5))));
+
+        assertEquals("[[2018-01-01..2018-01-31]]", finder.findFirstWithFree(2, horizon, 5, DAYS).get().toString());
+        assertEquals("[[2018-01-01..2018-01-01]]", overlapping.findFirstWithFree(2, horizon, 1, DAYS).get().toString());
+        assertEquals("[[2018-01-06..2018-01-31]]", overlapping.findFirstWithFree(2, horizon, 2, DAYS).get().toString());
+        assertThatThrownBy(() -> finder.findFirstWithFree(4, horizon, 1, DAYS)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testHorizonWithGaps() {
+        SlotFinder<LocalDate> finder = new SlotFinder<>(Arrays.asList(alice, bob, carol));
+        Interval<LocalDate> horizon = Interval.unionOf(between(date(2), date(7)), between(date(11), date(25)));
+        Interval<LocalDate> split = Interval.unionOf(between(date(20), date(22)), between(date(24), date(25)));
+
+        assertEquals("[[[2018-01-04..2018-01-04]], [[2018-01-07..2018-01-07]], [[2018-01-13..2018-01-13]], "
+                + "[[2018-01-21..2018-01-25]]]", finder.findFirst(10, horizon, 1, DAYS).toString());
+        assertEquals("[[[2018-01-21..2018-01-25]]]", finder.findFirst(10, horizon, 2, DAYS).toString());
+        assertEquals("[[[2018-01-21..2018-01-22]], [[2018-01-24..2018-01-25]]]",
+                finder.findFirst(10, split, 2, DAYS).toString());
+        assertEquals(Collections.emptyList(), finder.findFirst(10, split, 3, DAYS));
+    }
+
+    @Test
+    public void testTimeSlots() {
+        LocalDateTime morning = LocalDateTime.of(2018, 1, 1, 9, 0);
+        Interval<LocalDateTime> meeting = between(morning, morning.plusHours(1).minusNanos(1));
+        Interval<LocalDateTime> lunch = between(morning.plusHours(3), morning.plusHours(4).minusNanos(1));
+        SlotFinder<LocalDateTime> finder = new SlotFinder<>(Arrays.asList(meeting, lunch));
+
+        Optional<Interval<LocalDateTime>> slot = finder.findFirst(between(morning, morning.plusHours(8)), 2, HOURS);
+
+        assertEquals(morning.plusHours(1), slot.get().findLowerEndpoint().get());
+        assertEquals(morning.plusHours(3).minusNanos(1), slot.get().findUpperEndpoint().get());
+        assertEquals(Collections.emptyList(), new SlotFinder<LocalDateTime>(Collections.emptyList())
+                .findFirst(0, Interval.all(), 1, HOURS));
+    }
+
+    @Test
+    public void testTimeSlotIsNotShorterThanLength() {
+        LocalDateTime morning = LocalDateTime.of(2018, 1, 1, 9, 0);
+        Interval<LocalDateTime> meeting = between(morning, morning.plusHours(1).minusNanos(1));
+        Interval<LocalDateTime> review = between(morning.plusHours(2).plusNanos(1), morning.plusHours(3));
+        SlotFinder<LocalDateTime> finder = new SlotFinder<>(Arrays.asList(meeting, review));
+
+        Optional<Interval<LocalDateTime>> slot = finder.findFirst(between(morning, morning.plusHours(8)), 2, HOURS);
+
+        assertEquals("[[2018-01-01T12:00:00.000000001..2018-01-01T17:00]]", slot.get().toString());
+        assertEquals("[[2018-01-01T10:00..2018-01-01T11:00]]",
+                finder.findFirst(between(morning, morning.plusHours(8)), 1, HOURS).get().toString());
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}
@@ -0,0 +1,296 @@
+package com.github.libinterval.sql;
+
+import com.github.libinterval.Interval;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalQueries;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Parameterized SQL predicate which selects rows by an interval, so the rows can be filtered by the database
+ * instead of {@link Interval#contains(Comparable)}. E.g. predicate for column "day" and interval
+ * [[2018-01-01..2018-01-10], [2018-02-01..+∞)] is (day BETWEEN ? AND ? OR day >= ?).
+ * <p>
+ * If the interval has more sub intervals than the limit, the smallest gaps between them are merged,
+ * so the predicate stays short but selects more rows than needed. In this case {@link #isExact()} is false and
+ * the fetched rows must be filtered by {@link #test(Comparable)} or {@link #test(Comparable, Comparable)}.
+ * <p>
+ * Column names are put into the SQL as is, so they must not come from the user input.
+ * Values are bound by {@link PreparedStatement#setObject(int, Object)}, so the JDBC driver must support the type,
+ * e.g. JDBC 4.2 drivers support {@link java.time.LocalDate} and {@link java.time.LocalDateTime}.
+ *
+ * @param <T> - type of the interval endpoints.
+ * @since 18-Oct-2026
+ */
+public final class IntervalPredicate<T extends Comparable<?> & Temporal> {
+    public static final int DEFAULT_MAX_RANGES = 32;
+
+    private final String sql;
+    private final List<T> parameters;
+    private final List<Bounds<T>> ranges;
+    private final boolean exact;
+
+    private IntervalPredicate(String sql, List<T> parameters, List<Bounds<T>> ranges, boolean exact) {
+        this.sql = sql;
+        this.parameters = Collections.unmodifiableList(parameters);
+        this.ranges = ranges;
+        this.exact = exact;
+    }
+
+    /**
+     * @return predicate which selects rows where the column value is in the interval.
+     */
+    public static <T extends Comparable<?> & Temporal> IntervalPredicate<T> forColumn(String column, Interval<T> interval) {
+        return forColumn(column, interval, DEFAULT_MAX_RANGES);
+    }
+
+    /**
+     * @param maxRanges - maximum number of ranges in the predicate, must be positive.
+     * @return predicate which selects rows where the column value is in the interval.
+     */
+    public static <T extends Comparable<?> & Temporal> IntervalPredicate<T> forColumn(String column,
+                                                                                     Interval<T> interval,
+                                                                                     int maxRanges) {
+        checkColumn(column);
+        List<Bounds<T>> ranges = sortedRanges(interval);
+        List<Bounds<T>> coarse = coarsen(ranges, maxRanges);
+
+        StringJoiner sql = new StringJoiner(" OR ", coarse.size() > 1 ? "(" : "", coarse.size() > 1 ? ")" : "");
+        sql.setEmptyValue("1 = 0");
+        List<T> parameters = new ArrayList<>();
+        for (Bounds<T> range : coarse) {
+            if (range.lower != null && range.lower.equals(range.upper)) {
+                sql.add(column + " = ?");
+                parameters.add(range.lower);
+            } else if (range.lower != null && range.upper != null) {
+                sql.add(column + " BETWEEN ? AND ?");
+                parameters.add(range.lower);
+                parameters.add(range.upper);
+            } else if (range.lower != null) {
+                sql.add(column + " >= ?");
+                parameters.add(range.lower);
+            } else if (range.upper != null) {
+                sql.add(column + " <= ?");
+                parameters.add(range.upper);
+            } else {
+                sql.add(column + " IS NOT NULL");
+            }
+        }
+        return new IntervalPredicate<>(sql.toString(), parameters, ranges, coarse.size() == ranges.size());
+    }
+
+    /**
+     * @return predicate which selects rows where the inclusive range between the columns overlaps the interval.
+     * The columns must not be null.
+     */
+    public static <T extends Comparable<?> & Temporal> IntervalPredicate<T> forOverlap(String startColumn,
+                                                                                      String endColumn,
+                                                                                      Interval<T> interval) {
+        return forOverlap(startColumn, endColumn, interval, DEFAULT_MAX_RANGES);
+    }
+
+    /**
+     * @param maxRanges - maximum number of ranges in the predicate, must be positive.
+     * @return predicate which selects rows where the inclusive range between the columns overlaps the interval.
+     * The columns must not be null.
+     */
+    public static <T extends Comparable<?> & Temporal> IntervalPredicate<T> forOverlap(String startColumn,
+                                                                                      String endColumn,
+                                                                                      Interval<T> interval,
+                                                                                      int maxRanges) {
+        checkColumn(startColumn);
+        checkColumn(endColumn);
+        List<Bounds<T>> ranges = sortedRanges(interval);
+        List<Bounds<T>> coarse = coarsen(ranges, maxRanges);
+
+        StringJoiner sql = new StringJoiner(" OR ", coarse.size() > 1 ? "(" : "", coarse.size() > 1 ? ")" : "");
+        sql.setEmptyValue("1 = 0");
+        List<T> parameters = new ArrayList<>();
+        for (Bounds<T> range : coarse) {
+            if (range.lower != null && range.upper != null) {
+                sql.add("(" + startColumn + " <= ? AND " + endColumn + " >= ?)");
+                parameters.add(range.upper);
+                parameters.add(range.lower);
+            } else if (range.lower != null) {
+                sql.add(endColumn + " >= ?");
+                parameters.add(range.lower);
+            } else if (range.upper != null) {
+                sql.add(startColumn + " <= ?");
+                parameters.add(range.upper);
+            } else {
+                sql.add("1 = 1");
+            }
+        }
+        return new IntervalPredicate<>(sql.toString(), parameters, ranges, coarse.size() == ranges.size());
+    }
+
+    /**
+     * @return SQL predicate with a placeholder for each parameter.
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    public List<T> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Binds the parameters to the statement starting from the parameter index.
+     *
+     * @return index of the next parameter of the statement.
+     */
+    public int bind(PreparedStatement statement, int parameterIndex) throws SQLException {
+        int index = parameterIndex;
+        for (T parameter : parameters) {
+            statement.setObject(index++, parameter);
+        }
+        return index;
+    }
+
+    /**
+     * @return true if the predicate selects only matching rows, false if the fetched rows must be filtered.
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * Residual filter of predicate for column.
+     *
+     * @return true if the value is in the interval.
+     */
+    public boolean test(T value) {
+        int index = floorIndex(value);
+        return index >= 0 && (ranges.get(index).upper == null || compare(value, ranges.get(index).upper) <= 0);
+    }
+
+    /**
+     * Residual filter of predicate for overlap.
+     *
+     * @return true if the inclusive range between start and end overlaps the interval.
+     */
+    public boolean test(T start, T end) {
+        int index = floorIndex(end);
+        return index >= 0 && (ranges.get(index).upper == null || compare(start, ranges.get(index).upper) <= 0);
+    }
+
+    @Override
+    public String toString() {
+        return sql + " " + parameters;
+    }
+
+    /**
+     * @return index of the last range which starts not after the value or -1.
+     */
+    private int floorIndex(T value) {
+        int low = 0;
+        int high = ranges.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            T lower = ranges.get(middle).lower;
+            if (lower == null || compare(lower, value) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    private static <T extends Comparable<?> & Temporal> List<Bounds<T>> sortedRanges(Interval<T> interval) {
+        Objects.requireNonNull(interval, "interval is required");
+        List<Bounds<T>> ranges = new ArrayList<>();
+        for (Interval<T> subInterval : interval.getSubIntervals()) {
+            ranges.add(new Bounds<>(subInterval.findLowerEndpoint().orElse(null), subInterval.findUpperEndpoint().orElse(null)));
+        }
+        ranges.sort((first, second) -> first.lower == null || second.lower == null
+                ? Boolean.compare(first.lower != null, second.lower != null)
+                : compare(first.lower, second.lower));
+        return ranges;
+    }
+
+    /**
+     * Merges the smallest gaps between the ranges until there are at most max ranges.
+     * Gaps are measured in the precision of the endpoints.
+     */
+    private static <T extends Comparable<?> & Temporal> List<Bounds<T>> coarsen(List<Bounds<T>> ranges, int maxRanges) {
+        if (maxRanges < 1) {
+            throw new IllegalArgumentException("The maximum number of ranges must be positive: " + maxRanges + ".");
+        }
+        if (ranges.size() <= maxRanges) {
+            return ranges;
+        }
+
+        int gapCount = ranges.size() - 1;
+        long[] gaps = new long[gapCount];
+        List<Integer> gapIndices = new ArrayList<>(gapCount);
+        for (int i = 0; i < gapCount; i++) {
+            T upper = ranges.get(i).upper;
+            gaps[i] = precision(upper).between(upper, ranges.get(i + 1).lower);
+            gapIndices.add(i);
+        }
+        gapIndices.sort(Comparator.<Integer>comparingLong(i -> gaps[i]).thenComparing(Comparator.naturalOrder()));
+
+        boolean[] merged = new boolean[gapCount];
+        for (int i = 0; i < ranges.size() - maxRanges; i++) {
+            merged[gapIndices.get(i)] = true;
+        }
+
+        List<Bounds<T>> coarse = new ArrayList<>(maxRanges);
+        T lower = ranges.get(0).lower;
+        for (int i = 0; i < ranges.size(); i++) {
+            if (i == gapCount || !merged[i]) {
+                coarse.add(new Bounds<>(lower, ranges.get(i).upper));
+                lower = i == gapCount ? null : ranges.get(i + 1).lower;
+            }
+        }
+        return coarse;
+    }
+
+    private static TemporalUnit precision(Temporal value) {
+        TemporalUnit unit = value.query(TemporalQueries.precision());
+        if (unit == null) {
+            throw new UnsupportedOperationException("No precision for " + value.getClass().getName() + ".");
+        }
+        return unit;
+    }
+
+    private static void checkColumn(String column) {
+        Objects.requireNonNull(column, "column is required");
+        boolean valid = !column.isEmpty();
+        for (int i = 0; i < column.length() && valid; i++) {
+            char c = column.charAt(i);
+            valid = Character.isLetterOrDigit(c) || c == '_' || c == '.' || c == '"';
+        }
+        if (!valid) {
+            throw new IllegalArgumentException("Invalid column name: " + column + ".");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<?>> int compare(T first, T second) {
+        return ((Comparable<Object>) first).compareTo(second);
+    }
+
+    /**
+     * Inclusive endpoints of a range, null means unbounded.
+     */
+    private static final class Bounds<T> {
+        private final T lower;
+        private final T upper;
+
+        private Bounds(T lower, T upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.libinterval.sql;
+
+import com.github.libinterval.Interval;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.libinterval.Interval.between;
+import static com.github.libinterval.Interval.unionOf;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 18-Oct-2026
+ */
+@RunWith(JUnit4.class)
+public class TestIntervalPredicate {
+    private static final int DAYS = 365;
+
+    private Connection connection;
+
+    @Before
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE events (id INT PRIMARY KEY, day DATE NOT NULL)");
+            statement.execute("CREATE TABLE bookings (id INT PRIMARY KEY, start_day DATE NOT NULL, end_day DATE NOT NULL)");
+        }
+        try (PreparedStatement events = connection.prepareStatement("INSERT INTO events VALUES (?, ?)");
+             PreparedStatement bookings = connection.prepareStatement("INSERT INTO bookings VALUES (?, ?, ?)")) {
+            for (int day = 1; day <= DAYS; day++) {
+                events.setInt(1, day);
+                events.setObject(2, date(day));
+                events.addBatch();
+                bookings.setInt(1, day);
+                bookings.setObject(2, date(day));
+                bookings.setObject(3, date(day + 2));
+                bookings.addBatch();
+            }
+            events.executeBatch();
+            bookings.executeBatch();
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    public void testSql() {
+        Interval<LocalDate> interval = unionOf(between(null, date(10)), between(date(20), date(20)), between(date(30), date(40)));
+
+        IntervalPredicate<LocalDate> predicate = IntervalPredicate.forColumn("day", interval);
+
+        assertEquals("(day <= ? OR day = ? OR day BETWEEN ? AND ?)", predicate.getSql());
+        assertEquals(asList(date(10), date(20), date(30), date(40)), predicate.getParameters());
+        assertTrue(predicate.isExact());
+        assertEquals("1 = 0", IntervalPredicate.forColumn("day", Interval.<LocalDate>none()).getSql());
+        assertEquals("day IS NOT NULL", IntervalPredicate.forColumn("day", Interval.<LocalDate>all()).getSql());
+        assertEquals("end_day >= ?", IntervalPredicate.forOverlap("start_day", "end_day", Interval.from(date(1))).getSql());
+    }
+
+    @Test
+    public void testExactPredicateFetchesOnlyMatchingRows() throws SQLException {
+        Interval<LocalDate> interval = unionOf(between(date(10), date(19)), between(date(100), date(104)), between(date(360), null));
+
+        List<LocalDate> fetched = fetchDays(IntervalPredicate.forColumn("day", interval));
+
+        assertEquals(Interval.intersectionOf(interval, between(date(1), date(DAYS))).days().collect(toList()), fetched);
+    }
+
+    @Test
+    public void testCoarsePredicateWithResidualFilter() throws SQLException {
+        Interval<LocalDate> interval = Interval.none();
+        for (int day = 1; day <= 100; day += 2) {
+            interval = unionOf(interval, between(date(day), date(day)));
+        }
+        interval = unionOf(interval, between(date(200), date(201)), between(date(300), date(301)));
+
+        IntervalPredicate<LocalDate> predicate = IntervalPredicate.forColumn("day", interval, 3);
+        List<LocalDate> fetched = fetchDays(predicate);
+        List<LocalDate> filtered = fetched.stream().filter(predicate::test).collect(toList());
+
+        assertFalse(predicate.isExact());
+        assertEquals("(day BETWEEN ? AND ? OR day BETWEEN ? AND ? OR day BETWEEN ? AND ?)", predicate.getSql());
+        assertEquals(103, fetched.size());
+        assertEquals(interval.days().collect(toList()), filtered);
+    }
+
+    @Test
+    public void testOverlap() throws SQLException {
+        Interval<LocalDate> interval = unionOf(between(date(10), date(11)), between(date(50), date(50)));
+        IntervalPredicate<LocalDate> predicate = IntervalPredicate.forOverlap("start_day", "end_day", interval, 1);
+
+        List<Integer> ids = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id, start_day, end_day FROM bookings WHERE " + predicate.getSql() + " ORDER BY id")) {
+            predicate.bind(statement, 1);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (predicate.test(resultSet.getObject(2, LocalDate.class), resultSet.getObject(3, LocalDate.class))) {
+                        ids.add(resultSet.getInt(1));
+                    }
+                }
+            }
+        }
+
+        assertEquals(asList(8, 9, 10, 11, 48, 49, 50), ids);
+    }
+
+    @Test
+    public void testInvalidColumn() {
+        assertThatThrownBy(() -> IntervalPredicate.forColumn("day; DROP TABLE events", Interval.<LocalDate>all()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<LocalDate> fetchDays(IntervalPredicate<LocalDate> predicate) throws SQLException {
+        List<LocalDate> days = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT day FROM events WHERE " + predicate.getSql() + " ORDER BY day")) {
+            predicate.bind(statement, 1);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    days.add(resultSet.getObject(1, LocalDate.class));
+                }
+            }
+        }
+        return days;
+    }
+
+    private static LocalDate date(int day) {
+        return LocalDate.of(2018, 1, 1).plusDays(day - 1);
+    }
+}